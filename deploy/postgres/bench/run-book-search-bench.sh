@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# 카탈로그 크기별 도서 검색 지연 시간(p50/p95) 측정
+# 사용법: PGHOST=localhost PGUSER=postgres PGPASSWORD=1234 PGDATABASE=pagebyfeeldb ./run-book-search-bench.sh
+# 크기 목록은 SIZES, 측정 시간은 DURATION(초), 동시 연결 수는 CLIENTS로 바꿀 수 있다.
+# 흔한 검색어뿐 아니라 드물게 일치하거나(-rare) 전혀 일치하지 않는(-nomatch) 검색어도 측정한다.
+# 주의: books 테이블을 비우고 합성 데이터로 다시 채우므로 로컬 DB에서만 실행할 것
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+SIZES="${SIZES:-100000 1000000 3000000}"
+DURATION="${DURATION:-30}"
+CLIENTS="${CLIENTS:-8}"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+psql -q -v ON_ERROR_STOP=1 -f "$SCRIPT_DIR/../init/01-books.sql"
+
+printf '%-10s %-18s %10s %10s %10s\n' rows query tps p50_ms p95_ms
+for rows in $SIZES; do
+    psql -q -v ON_ERROR_STOP=1 -c 'TRUNCATE books RESTART IDENTITY'
+    psql -q -v ON_ERROR_STOP=1 -v rows="$rows" -f "$SCRIPT_DIR/../seed/seed-books.sql"
+    max_id="$(psql -tA -c 'SELECT max(book_id) FROM books')"
+
+    for query in prefix prefix-rare prefix-nomatch substring substring-rare substring-nomatch; do
+        rm -f "$WORK_DIR"/pgbench_log.*
+        tps="$(cd "$WORK_DIR" && pgbench -n -l -T "$DURATION" -c "$CLIENTS" -j "$CLIENTS" -D max_id="$max_id" \
+            -f "$SCRIPT_DIR/book-search-$query.pgbench" 2>/dev/null | awk '/^tps/ {print $3}')"
+        # pgbench 로그 3번째 열이 트랜잭션 지연 시간(us)
+        cat "$WORK_DIR"/pgbench_log.* | awk '{print $3}' | sort -n | awk -v rows="$rows" -v query="$query" -v tps="$tps" '
+            { latency[NR] = $1 }
+            END { printf "%-10s %-18s %10.1f %10.2f %10.2f\n", rows, query, tps,
+                  latency[int(NR * 0.50)] / 1000, latency[int(NR * 0.95)] / 1000 }'
+    done
+done
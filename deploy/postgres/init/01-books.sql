@@ -0,0 +1,27 @@
+-- 도서 카탈로그 스키마와 검색 인덱스
+-- 로컬 docker-compose에서는 DB 최초 생성 시 자동 실행되고, 기존 DB에는 psql -f로 직접 적용한다 (재실행해도 안전)
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE IF NOT EXISTS books (
+    book_id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    isbn            VARCHAR(13)  NOT NULL, -- ISBN-13으로 정규화된 값
+    title           VARCHAR(255) NOT NULL,
+    author          VARCHAR(255) NOT NULL,
+    publisher       VARCHAR(255),
+    published_date  DATE,
+    cover_image_url VARCHAR(255)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_books_isbn ON books (isbn);
+
+-- 한국어 형태소 분석 설정이 없으므로 'simple'(공백/구두점 토큰화 + 소문자화)을 쓰고,
+-- 조사가 붙은 어절은 접두어 검색(채식:*)으로 찾는다
+ALTER TABLE books ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(title, '') || ' ' || coalesce(author, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_books_search_vector ON books USING gin (search_vector);
+
+-- 단어 중간 부분 일치(ILIKE '%주의자%')용. 3글자 이상 검색어에서만 사용
+CREATE INDEX IF NOT EXISTS idx_books_title_trgm ON books USING gin (title gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_books_author_trgm ON books USING gin (author gin_trgm_ops);
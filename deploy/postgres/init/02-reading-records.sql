@@ -0,0 +1,17 @@
+-- 독서 진행 기록 스키마
+-- 01-books.sql 다음에 실행된다. 기존 DB에는 psql -f로 직접 적용한다 (재실행해도 안전)
+-- users 테이블은 애플리케이션이 만들 수 있으므로 user_id에는 FK를 걸지 않는다
+
+CREATE TABLE IF NOT EXISTS reading_records (
+    record_id    BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      UUID      NOT NULL,
+    book_id      BIGINT    NOT NULL REFERENCES books (book_id) ON DELETE CASCADE,
+    current_page INTEGER   NOT NULL CHECK (current_page >= 0),
+    total_pages  INTEGER CHECK (total_pages > 0),
+    started_at   TIMESTAMP NOT NULL,
+    last_read_at TIMESTAMP NOT NULL,
+    finished_at  TIMESTAMP
+);
+
+-- 진행률 배치 upsert의 ON CONFLICT 대상이자 사용자별 조회 인덱스
+CREATE UNIQUE INDEX IF NOT EXISTS uk_reading_records_user_book ON reading_records (user_id, book_id);
@@ -0,0 +1,36 @@
+-- 독서 로그와 사용자별 일/월 통계 집계 스키마
+-- 02-reading-records.sql 다음에 실행된다. 기존 DB에는 psql -f로 직접 적용한다 (재실행해도 안전)
+
+-- 반영된 진행률 갱신 한 건이 한 행. 진행률은 줄어들지 않으므로 (user_id, book_id, to_page)로 중복 적재를 막는다
+CREATE TABLE IF NOT EXISTS reading_progress_log (
+    user_id         UUID      NOT NULL,
+    book_id         BIGINT    NOT NULL,
+    to_page         INTEGER   NOT NULL,
+    from_page       INTEGER   NOT NULL,
+    read_at         TIMESTAMP NOT NULL,
+    reading_seconds INTEGER   NOT NULL,
+    finished        BOOLEAN   NOT NULL,
+    PRIMARY KEY (user_id, book_id, to_page)
+);
+
+-- period: DAY(period_start = 날짜) 또는 MONTH(period_start = 그 달 1일)
+CREATE TABLE IF NOT EXISTS reading_stats (
+    stats_id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id         UUID       NOT NULL,
+    period          VARCHAR(5) NOT NULL,
+    period_start    DATE       NOT NULL,
+    pages_read      BIGINT     NOT NULL,
+    reading_seconds BIGINT     NOT NULL,
+    books_finished  INTEGER    NOT NULL
+);
+
+-- 증분 갱신의 ON CONFLICT 대상이자 대시보드 조회 인덱스
+CREATE UNIQUE INDEX IF NOT EXISTS uk_reading_stats_user_period ON reading_stats (user_id, period, period_start);
+
+-- 로그가 생기기 전의 진행 기록은 마지막으로 읽은 날 한 번에 읽은 것으로 적재한다 (이미 있으면 건너뜀)
+-- 적용 후 POST /api/reading-stats/backfill로 통계를 채운다
+INSERT INTO reading_progress_log (user_id, book_id, to_page, from_page, read_at, reading_seconds, finished)
+SELECT user_id, book_id, current_page, 0, last_read_at, 0, finished_at IS NOT NULL
+FROM reading_records
+WHERE current_page > 0
+ON CONFLICT (user_id, book_id, to_page) DO NOTHING;
@@ -0,0 +1,30 @@
+-- 로컬 검색 성능 확인용 합성 도서 데이터
+-- 사용법: psql -v rows=1000000 -f deploy/postgres/seed/seed-books.sql (rows 기본값 100000)
+-- ISBN은 979 접두어 + 일련번호 + 체크 디지트로 만들어 실제 ISBN과 겹치지 않는다. 재실행하면 없는 행만 추가된다
+
+\if :{?rows}
+\else
+\set rows 100000
+\endif
+
+INSERT INTO books (isbn, title, author, publisher, published_date)
+SELECT base.isbn12 || ((10 - (
+           SELECT sum(substr(base.isbn12, i, 1)::int * CASE WHEN i % 2 = 1 THEN 1 ELSE 3 END)
+           FROM generate_series(1, 12) AS i
+       ) % 10) % 10)::text,
+       (ARRAY['채식', '바다', '소년', '고양이', '여름', '겨울', '편지', '도시', '기억', '시간', '별', '정원',
+              'Night', 'Ocean', 'Memory', 'Garden'])[1 + base.n % 16]
+           || (ARRAY['주의자', '의 노래', '이 온다', '을 찾아서', '과 바람', ' 이야기', '의 기록', ''])[1 + (base.n / 16) % 8]
+           || ' ' || (ARRAY['1권', '2권', '개정판', '', '특별판', '완결', '', ''])[1 + (base.n / 128) % 8]
+           || ' ' || base.n,
+       (ARRAY['김', '이', '박', '최', '정', '강', '조', '윤', '장', '임', 'Smith', 'Lee'])[1 + base.n % 12]
+           || (ARRAY['민준', '서연', '도윤', '하은', '시우', '지우', '한강', '은희', ' Kim', ' Park'])[1 + (base.n / 12) % 10],
+       (ARRAY['창비', '문학동네', '민음사', '위즈덤하우스', 'Penguin'])[1 + base.n % 5],
+       DATE '1990-01-01' + (base.n % 12000)
+FROM (
+    SELECT g AS n, '979' || lpad(g::text, 9, '0') AS isbn12
+    FROM generate_series(1, :rows) AS g
+) AS base
+ON CONFLICT (isbn) DO NOTHING;
+
+ANALYZE books;
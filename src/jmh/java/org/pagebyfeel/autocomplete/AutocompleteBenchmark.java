@@ -0,0 +1,87 @@
+package org.pagebyfeel.autocomplete;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카탈로그 크기별 자동완성 조회 지연과 색인 크기
+ * 제목/저자는 deploy/postgres/seed/seed-books.sql과 같은 규칙으로 만든 합성 데이터
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AutocompleteBenchmark {
+
+    private static final String[] TITLE_HEADS = {"채식", "바다", "소년", "고양이", "여름", "겨울", "편지", "도시",
+            "기억", "시간", "별", "정원", "Night", "Ocean", "Memory", "Garden"};
+    private static final String[] TITLE_TAILS = {"주의자", "의 노래", "이 온다", "을 찾아서", "과 바람", " 이야기", "의 기록", ""};
+    private static final String[] EDITIONS = {"1권", "2권", "개정판", "", "특별판", "완결", "", ""};
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "Smith", "Lee"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "시우", "지우", "한강", "은희", " Kim", " Park"};
+
+    @Param({"100000", "1000000"})
+    private int catalogSize;
+
+    private BookAutocompleteIndex index;
+
+    @Setup
+    public void setUp() {
+        List<AutocompleteEntry> entries = new ArrayList<>(catalogSize);
+        for (int n = 1; n <= catalogSize; n++) {
+            entries.add(new AutocompleteEntry((long) n,
+                    TITLE_HEADS[n % 16] + TITLE_TAILS[(n / 16) % 8] + " " + EDITIONS[(n / 128) % 8] + " " + n,
+                    FAMILY_NAMES[n % 12] + GIVEN_NAMES[(n / 12) % 10]));
+        }
+        index = new BookAutocompleteIndex(null, 10_000, 5000, 1000);
+        index.replaceAll(entries);
+
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.out.printf("%n%d books, index arrays %d MiB, used heap %d MiB%n", index.size(),
+                index.memoryBytes() >> 20, (runtime.totalMemory() - runtime.freeMemory()) >> 20);
+    }
+
+    /** 첫 자음 하나. 거의 모든 문서가 맞아 정적 순위 순 스캔이 곧바로 끝나야 한다 */
+    @Benchmark
+    public List<AutocompleteEntry> singleJamo() {
+        return index.suggest("ㅊ", 10);
+    }
+
+    /** 입력 중인 음절 ("채식"을 치는 중) */
+    @Benchmark
+    public List<AutocompleteEntry> partialSyllable() {
+        return index.suggest("채시", 10);
+    }
+
+    @Benchmark
+    public List<AutocompleteEntry> titleAndAuthor() {
+        return index.suggest("고양이 김한", 10);
+    }
+
+    /** 함께 나오지 않는 흔한 단어 두 개. 스캔 예산을 다 쓰고 포스팅 확인까지 가는 최악 경로 */
+    @Benchmark
+    public List<AutocompleteEntry> disjointCommonTerms() {
+        return index.suggest("채식 바다", 10);
+    }
+
+    /** 카탈로그 번호 접두어. 포스팅이 적은 단어가 검색을 이끈다 */
+    @Benchmark
+    public List<AutocompleteEntry> selectiveTerm() {
+        return index.suggest("바다 4242", 10);
+    }
+
+    @Benchmark
+    public List<AutocompleteEntry> noMatch() {
+        return index.suggest("없는단어", 10);
+    }
+}
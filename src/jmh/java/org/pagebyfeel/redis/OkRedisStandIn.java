@@ -0,0 +1,129 @@
+package org.pagebyfeel.redis;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 모든 명령에 +OK로 답하는 로컬 RESP 서버 (벤치마크용 Redis 대역)
+ * 한 번에 읽어 들인 명령 묶음마다 rtt만큼 지연한 뒤 한꺼번에 답하므로, 파이프라인으로 함께 도착한 명령은 왕복 한 번만 비용을 낸다.
+ * 실제 Redis의 명령 처리 비용은 흉내 내지 않으므로 결과는 왕복 횟수를 줄인 효과만 보여 준다
+ */
+class OkRedisStandIn implements AutoCloseable {
+
+    private static final byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+    // HELLO에는 오류로 답해 클라이언트가 RESP2로 접속하게 한다
+    private static final byte[] UNKNOWN_COMMAND = "-ERR unknown command\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ServerSocket serverSocket;
+    private final long rttNanos;
+    private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+
+    OkRedisStandIn(long rttMicros) throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.rttNanos = rttMicros * 1000;
+        Thread acceptThread = new Thread(this::acceptLoop, "ok-redis-stand-in");
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                accepted.add(socket);
+                Thread connectionThread = new Thread(() -> serve(socket), "ok-redis-stand-in-connection");
+                connectionThread.setDaemon(true);
+                connectionThread.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            InputStream in = new BufferedInputStream(socket.getInputStream(), 64 * 1024);
+            OutputStream out = socket.getOutputStream();
+            byte[] replies = new byte[64 * 1024];
+            while (true) {
+                // 첫 명령은 블로킹으로 읽고, 이미 도착해 있는 명령은 같은 왕복으로 묶는다
+                int length = 0;
+                do {
+                    byte[] reply = readCommand(in);
+                    if (reply == null) {
+                        return;
+                    }
+                    if (length + reply.length > replies.length) {
+                        replies = Arrays.copyOf(replies, replies.length * 2);
+                    }
+                    System.arraycopy(reply, 0, replies, length, reply.length);
+                    length += reply.length;
+                } while (in.available() > 0);
+
+                if (rttNanos > 0) {
+                    LockSupport.parkNanos(rttNanos);
+                }
+                out.write(replies, 0, length);
+                out.flush();
+            }
+        } catch (IOException e) {
+            // 연결 종료
+        }
+    }
+
+    /**
+     * RESP 배열 명령 하나를 읽고 그에 대한 응답을 반환. 스트림이 끝나면 null
+     */
+    private static byte[] readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        int arguments = Integer.parseInt(header.substring(1));
+        String command = null;
+        for (int i = 0; i < arguments; i++) {
+            int size = Integer.parseInt(readLine(in).substring(1));
+            byte[] argument = in.readNBytes(size + 2);
+            if (i == 0) {
+                command = new String(argument, 0, size, StandardCharsets.US_ASCII);
+            }
+        }
+        return "HELLO".equalsIgnoreCase(command) ? UNKNOWN_COMMAND : OK;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : accepted) {
+            socket.close();
+        }
+    }
+}
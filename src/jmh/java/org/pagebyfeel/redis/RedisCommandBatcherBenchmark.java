@@ -0,0 +1,124 @@
+package org.pagebyfeel.redis;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단건 SET과 RedisCommandBatcher를 거친 SET의 처리량 비교 (동시 호출 1/10/100)
+ * -Dredis.host(-Dredis.port)를 주면 실제 Redis에, 없으면 왕복마다 rttMicros만큼 지연하는 로컬 대역(OkRedisStandIn)에 접속한다.
+ * 대역은 명령 처리 비용이 없으므로 네트워크 왕복 횟수를 줄인 효과만 측정한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RedisCommandBatcherBenchmark {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final byte[] VALUE = "1".getBytes(StandardCharsets.UTF_8);
+
+    @Param({"0", "500"})
+    private long rttMicros;
+
+    private OkRedisStandIn standIn;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RedisCommandBatcher batcher;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String host = System.getProperty("redis.host");
+        int port = Integer.getInteger("redis.port", 6379);
+        if (host == null) {
+            standIn = new OkRedisStandIn(rttMicros);
+            host = "127.0.0.1";
+            port = standIn.getPort();
+        }
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        batcher = new RedisCommandBatcher(redisTemplate, 128, 5000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        batcher.shutdown();
+        connectionFactory.destroy();
+        if (standIn != null) {
+            standIn.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void directSet_1() {
+        directSet();
+    }
+
+    @Benchmark
+    @Threads(10)
+    public void directSet_10() {
+        directSet();
+    }
+
+    @Benchmark
+    @Threads(100)
+    public void directSet_100() {
+        directSet();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void batchedSet_1() {
+        batchedSet();
+    }
+
+    @Benchmark
+    @Threads(10)
+    public void batchedSet_10() {
+        batchedSet();
+    }
+
+    @Benchmark
+    @Threads(100)
+    public void batchedSet_100() {
+        batchedSet();
+    }
+
+    private void directSet() {
+        redisTemplate.opsForValue().set(nextKey(), "1", TTL);
+    }
+
+    private void batchedSet() {
+        byte[] key = nextKey().getBytes(StandardCharsets.UTF_8);
+        batcher.execute(connection -> connection.stringCommands()
+                .set(key, VALUE, Expiration.from(TTL), SetOption.upsert())
+        );
+    }
+
+    private static String nextKey() {
+        return "bench:batcher:" + ThreadLocalRandom.current().nextInt(100_000);
+    }
+}
@@ -0,0 +1,79 @@
+package org.pagebyfeel.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pagebyfeel.entity.RefreshToken;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 JSON 직렬화기와 Smile 직렬화기의 인코딩/디코딩 시간 비교
+ * payload 크기는 Setup 단계에서 출력한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisSerializerBenchmark {
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private VersionedSmileRedisSerializer smileSerializer;
+    private RefreshToken value;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        smileSerializer = new VersionedSmileRedisSerializer(
+                new RedisTypeRegistry().register(1, RefreshToken.class),
+                jsonSerializer
+        );
+
+        LocalDateTime now = LocalDateTime.now();
+        value = RefreshToken.builder()
+                .userId(UUID.randomUUID())
+                .token("Qm9va1BhZ2VCeUZlZWxSZWZyZXNoVG9rZW5TYW1wbGU")
+                .createdAt(now)
+                .expiresAt(now.plusDays(14))
+                .build();
+
+        jsonBytes = jsonSerializer.serialize(value);
+        smileBytes = smileSerializer.serialize(value);
+        System.out.printf("%npayload bytes - json: %d, smile: %d%n", jsonBytes.length, smileBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return jsonSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] smileSerialize() {
+        return smileSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Object smileDeserialize() {
+        return smileSerializer.deserialize(smileBytes);
+    }
+}
@@ -0,0 +1,91 @@
+package org.pagebyfeel.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.pagebyfeel.entity.user.Provider;
+import org.pagebyfeel.entity.user.Role;
+import org.pagebyfeel.entity.user.User;
+import org.pagebyfeel.redis.RedisCommandBatcher;
+import org.pagebyfeel.repository.UserRepository;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 인증 경로 벤치마크용 구성. Redis와 DB 왕복은 제외하고 JVM 안의 비용만 측정한다
+ * - UserRepository: findById만 고정 사용자로 응답하는 프록시
+ * - RedisService: 토큰 epoch 0, 블랙리스트 없음으로 응답하는 스텁
+ */
+final class AuthBenchmarkFixture {
+
+    static final String SECRET = "cGFnZWJ5ZmVlbC1iZW5jaG1hcmstc2VjcmV0LWtleS0zMi1ieXRlcy1sb25n";
+    static final UUID USER_ID = UUID.fromString("6f1c2a9e-3b7d-4c51-9a0e-2d8f4b6c7e13");
+
+    private AuthBenchmarkFixture() {
+    }
+
+    static JwtTokenProvider jwtTokenProvider(VerifiedTokenCache verifiedTokenCache) {
+        return jwtTokenProvider(JwtKeyRing.hmac("k1", SECRET), verifiedTokenCache);
+    }
+
+    static JwtTokenProvider jwtTokenProvider(JwtKeyRing keyRing, VerifiedTokenCache verifiedTokenCache) {
+        RedisService redisService = redisService();
+        return new JwtTokenProvider(
+                keyRing,
+                30,
+                new UserPrincipalCache(userRepository(), 10_000, 300),
+                verifiedTokenCache,
+                new TokenEpochService(redisService, new RedisMessageListenerContainer(), 10_000, 30),
+                new SimpleMeterRegistry()
+        );
+    }
+
+    static RedisService redisService() {
+        return new StubRedisService();
+    }
+
+    private static UserRepository userRepository() {
+        User user = User.builder()
+                .userId(USER_ID)
+                .email("reader@pagebyfeel.org")
+                .nickname("reader")
+                .role(Role.USER)
+                .provider(Provider.GOOGLE)
+                .build();
+        return (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    private static class StubRedisService extends RedisService {
+
+        private StubRedisService() {
+            super(null, null, null, null, new ObjectProvider<>() {
+                @Override
+                public RedisCommandBatcher getIfAvailable() {
+                    return null;
+                }
+            });
+        }
+
+        @Override
+        public Long getTokenEpoch(UUID userId) {
+            return 0L;
+        }
+
+        @Override
+        public boolean isBlacklisted(String tokenId) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.pagebyfeel.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pagebyfeel.exception.auth.AuthErrorCode;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.common.ErrorCode;
+import org.pagebyfeel.exception.common.ErrorResponse;
+import org.pagebyfeel.exception.common.ErrorResponseBodies;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 토큰 거부 경로 비교
+ * before: 매번 파싱 + 스택 트레이스가 있는 BusinessException + ObjectMapper 직렬화
+ * after: validate()의 거부 캐시 + 미리 직렬화된 응답 본문 (uncached는 거부 캐시가 항상 빗나가는 경우)
+ * 요청 처리 시점의 스택 깊이를 흉내 내기 위해 stackDepth만큼 재귀한 뒤 측정 대상을 호출한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InvalidTokenRejectionBenchmark {
+
+    private static final String SECRET = "cGFnZWJ5ZmVlbC1iZW5jaG1hcmstc2VjcmV0LWtleS0zMi1ieXRlcy1sb25n";
+    private static final int DISTINCT_TOKENS = 1024;
+
+    @Param({"20", "150"})
+    private int stackDepth;
+
+    private JwtParser jwtParser;
+    private ObjectMapper objectMapper;
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String expiredToken;
+    private String[] distinctExpiredTokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        // 거부/검증 경로만 사용하므로 principal 캐시와 epoch 서비스는 필요 없다
+        JwtKeyRing keyRing = JwtKeyRing.hmac("k1", SECRET);
+        cachedProvider = new JwtTokenProvider(
+                keyRing, 30, null, new VerifiedTokenCache(1000, 10_000), null, new SimpleMeterRegistry()
+        );
+        uncachedProvider = new JwtTokenProvider(
+                keyRing, 30, null, new VerifiedTokenCache(1000, 1), null, new SimpleMeterRegistry()
+        );
+
+        expiredToken = expiredToken(key);
+        distinctExpiredTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctExpiredTokens[i] = expiredToken(key);
+        }
+    }
+
+    @Benchmark
+    public byte[] beforeThrowAndSerialize() throws Exception {
+        return atDepth(stackDepth, () -> {
+            try {
+                jwtParser.parseClaimsJws(expiredToken);
+                return null;
+            } catch (JwtException | IllegalArgumentException e) {
+                try {
+                    throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
+                } catch (BusinessException ex) {
+                    return objectMapper.writeValueAsBytes(ErrorResponse.of(ex.getErrorCode()));
+                }
+            }
+        });
+    }
+
+    @Benchmark
+    public byte[] afterRejectionCached() throws Exception {
+        return atDepth(stackDepth, () -> reject(cachedProvider, expiredToken));
+    }
+
+    @Benchmark
+    public byte[] afterRejectionUncached() throws Exception {
+        String token = distinctExpiredTokens[next++ & (DISTINCT_TOKENS - 1)];
+        return atDepth(stackDepth, () -> reject(uncachedProvider, token));
+    }
+
+    private static byte[] reject(JwtTokenProvider provider, String token) {
+        ErrorCode errorCode = provider.validate(token).errorCode();
+        return ErrorResponseBodies.of(errorCode);
+    }
+
+    private static String expiredToken(SecretKey key) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(UUID.randomUUID().toString())
+                .claim("role", "USER")
+                .claim("type", "access")
+                .setIssuedAt(new Date(now - 3_600_000))
+                .setExpiration(new Date(now - 1_800_000))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static byte[] atDepth(int depth, Rejection rejection) throws Exception {
+        if (depth == 0) {
+            return rejection.run();
+        }
+        return atDepth(depth - 1, rejection);
+    }
+
+    @FunctionalInterface
+    private interface Rejection {
+        byte[] run() throws Exception;
+    }
+}
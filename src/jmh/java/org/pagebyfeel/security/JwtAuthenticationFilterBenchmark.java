@@ -0,0 +1,63 @@
+package org.pagebyfeel.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 한 번 통과 비용 (Bearer 헤더, 검증 캐시와 사용자 스냅샷 캐시 적중 상태)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest bearerRequest;
+    private MockHttpServletRequest cookieRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider =
+                AuthBenchmarkFixture.jwtTokenProvider(new VerifiedTokenCache(50_000, 10_000));
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, AuthBenchmarkFixture.redisService());
+
+        String token = jwtTokenProvider.generateAccessToken(AuthBenchmarkFixture.USER_ID, "USER");
+        bearerRequest = new MockHttpServletRequest("GET", "/api/users/me");
+        bearerRequest.addHeader("Authorization", "Bearer " + token);
+        cookieRequest = new MockHttpServletRequest("GET", "/api/users/me");
+        cookieRequest.setCookies(new Cookie("accessToken", token));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object bearerHeader() throws Exception {
+        filter.doFilter(bearerRequest, response, NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    public Object accessTokenCookie() throws Exception {
+        filter.doFilter(cookieRequest, response, NO_OP_CHAIN);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
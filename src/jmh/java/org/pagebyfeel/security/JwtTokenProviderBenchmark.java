@@ -0,0 +1,81 @@
+package org.pagebyfeel.security;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 단계별 비용
+ * cached는 VerifiedTokenCache 적중, uncached는 매번 서명 검증과 클레임 디코딩을 수행하는 경우
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final int DISTINCT_TOKENS = 4096;
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+    private String[] distinctTokens;
+    private Claims claims;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = AuthBenchmarkFixture.jwtTokenProvider(new VerifiedTokenCache(50_000, 10_000));
+        // 캐시 크기 1에 서로 다른 토큰을 번갈아 넣어 항상 빗나가게 한다
+        uncachedProvider = AuthBenchmarkFixture.jwtTokenProvider(new VerifiedTokenCache(1, 1));
+
+        token = cachedProvider.generateAccessToken(AuthBenchmarkFixture.USER_ID, "USER");
+        distinctTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            distinctTokens[i] = cachedProvider.generateAccessToken(AuthBenchmarkFixture.USER_ID, "USER");
+        }
+        claims = cachedProvider.getClaimsFromToken(token);
+        cachedProvider.getAuthentication(claims);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return cachedProvider.generateAccessToken(AuthBenchmarkFixture.USER_ID, "USER");
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return uncachedProvider.validateToken(nextDistinctToken());
+    }
+
+    @Benchmark
+    public Claims getClaimsFromTokenCached() {
+        return cachedProvider.getClaimsFromToken(token);
+    }
+
+    @Benchmark
+    public Claims getClaimsFromTokenUncached() {
+        return uncachedProvider.getClaimsFromToken(nextDistinctToken());
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return cachedProvider.getAuthentication(claims);
+    }
+
+    private String nextDistinctToken() {
+        return distinctTokens[next++ & (DISTINCT_TOKENS - 1)];
+    }
+}
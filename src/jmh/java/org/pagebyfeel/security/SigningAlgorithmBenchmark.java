@@ -0,0 +1,90 @@
+package org.pagebyfeel.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.KeyPair;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알고리즘별 Access Token 서명/검증 비용 (VerifiedTokenCache 미적용)
+ * ringSize는 키 링의 검증 키 개수. kid로 바로 찾으므로 키 개수와 무관해야 한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS256", "ES256", "RS256"})
+    private String algorithm;
+
+    @Param({"1", "32"})
+    private int ringSize;
+
+    private JwtKey signingKey;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forName(algorithm);
+        signingKey = newKey("active", signatureAlgorithm);
+
+        List<JwtKey> previousKeys = new ArrayList<>();
+        for (int i = 1; i < ringSize; i++) {
+            JwtKey previous = newKey("previous-" + i, signatureAlgorithm);
+            previousKeys.add(new JwtKey(previous.kid(), previous.algorithm(), null, previous.verificationKey()));
+        }
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new JwtKeyRing(signingKey, previousKeys, "active"))
+                .build();
+        token = sign();
+        System.out.printf("%n%s token length: %d%n", algorithm, token.length());
+    }
+
+    @Benchmark
+    public String sign() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .setId(UUID.randomUUID().toString())
+                .setSubject("6f1c2a9e-3b7d-4c51-9a0e-2d8f4b6c7e13")
+                .claim("role", "USER")
+                .claim("type", "access")
+                .claim("ver", 0L)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 1_800_000))
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private static JwtKey newKey(String kid, SignatureAlgorithm algorithm) {
+        if (algorithm.isHmac()) {
+            return JwtKey.hmac(kid, algorithm, Encoders.BASE64.encode(Keys.secretKeyFor(algorithm).getEncoded()));
+        }
+        KeyPair keyPair = Keys.keyPairFor(algorithm);
+        return new JwtKey(kid, algorithm, keyPair.getPrivate(), keyPair.getPublic());
+    }
+}
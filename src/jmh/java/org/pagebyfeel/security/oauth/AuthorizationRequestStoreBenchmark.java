@@ -0,0 +1,84 @@
+package org.pagebyfeel.security.oauth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pagebyfeel.redis.codec.RedisTypeRegistry;
+import org.pagebyfeel.redis.codec.VersionedSmileRedisSerializer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠키 저장소(Java 직렬화 + Base64)와 Redis 저장소(Smile)의 인코딩/디코딩 비용 비교
+ * 쿠키 크기와 Redis 값 크기는 Setup 단계에서 출력한다. Redis 왕복 시간은 포함하지 않는다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthorizationRequestStoreBenchmark {
+
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private VersionedSmileRedisSerializer redisSerializer;
+    private String cookieValue;
+    private byte[] redisValue;
+
+    @Setup
+    public void setUp() {
+        redisSerializer = new VersionedSmileRedisSerializer(
+                new RedisTypeRegistry().register(3, StoredAuthorizationRequest.class),
+                new GenericJackson2JsonRedisSerializer(new ObjectMapper().registerModule(new JavaTimeModule()))
+        );
+
+        String state = "bYb5tLlE1a4cQyRkO0s9XQ3gWw6R2mJH8pZ7vN1xU4c=";
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("123456789012-abcdefghijklmnopqrstuvwxyz012345.apps.googleusercontent.com")
+                .redirectUri("https://api.pagebyfeel.org/api/login/oauth2/code/google")
+                .scopes(Set.of("profile", "email"))
+                .state(state)
+                .attributes(Map.of("registration_id", "google"))
+                .authorizationRequestUri("https://accounts.google.com/o/oauth2/v2/auth?response_type=code"
+                        + "&client_id=123456789012-abcdefghijklmnopqrstuvwxyz012345.apps.googleusercontent.com"
+                        + "&scope=profile%20email&state=" + state
+                        + "&redirect_uri=https://api.pagebyfeel.org/api/login/oauth2/code/google")
+                .build();
+
+        cookieValue = HttpCookieOAuth2AuthorizationRequestRepository.serialize(authorizationRequest);
+        redisValue = redisSerializer.serialize(StoredAuthorizationRequest.from(authorizationRequest));
+
+        System.out.printf("%ncookie store - cookie: %d bytes%n", cookieValue.getBytes(StandardCharsets.US_ASCII).length);
+        System.out.printf("redis store  - cookie: %d bytes, redis value: %d bytes%n",
+                state.getBytes(StandardCharsets.US_ASCII).length, redisValue.length);
+    }
+
+    @Benchmark
+    public String cookieEncode() {
+        return HttpCookieOAuth2AuthorizationRequestRepository.serialize(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest cookieDecode() {
+        return HttpCookieOAuth2AuthorizationRequestRepository.deserialize(cookieValue);
+    }
+
+    @Benchmark
+    public byte[] redisEncode() {
+        return redisSerializer.serialize(StoredAuthorizationRequest.from(authorizationRequest));
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest redisDecode() {
+        return ((StoredAuthorizationRequest) redisSerializer.deserialize(redisValue)).toAuthorizationRequest();
+    }
+}
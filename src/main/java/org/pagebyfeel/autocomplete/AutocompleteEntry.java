@@ -0,0 +1,7 @@
+package org.pagebyfeel.autocomplete;
+
+/**
+ * 자동완성 색인 단위이자 결과. 색인 적재 시 JPQL 생성자 표현식으로 바로 만든다
+ */
+public record AutocompleteEntry(Long bookId, String title, String author) {
+}
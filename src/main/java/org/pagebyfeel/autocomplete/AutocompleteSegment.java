@@ -0,0 +1,418 @@
+package org.pagebyfeel.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번 만들면 바뀌지 않는 자동완성 색인 조각
+ * 문서 번호는 정적 순위(짧은 제목 우선, 같으면 bookId 순)대로 매기므로 번호가 작을수록 상위 결과다.
+ * 단어 사전, 포스팅, 문서별 단어, 제목/저자 문자열을 모두 원시 배열에 이어 붙여 객체 수를 문서 수와 무관하게 유지한다
+ */
+final class AutocompleteSegment {
+
+    static final AutocompleteSegment EMPTY = build(List.of());
+
+    /** 가장 좁은 검색어가 문서 64개 중 하나 이상에 있으면 포스팅을 모으기 전에 정적 순위 순으로 먼저 훑는다 */
+    private static final int DENSE_DOCS_PER_POSTING = 64;
+    private static final int RANK_SCAN_BUDGET = 1 << 13;
+    /** 가장 좁은 검색어의 포스팅이 이 이하면 비트셋 대신 정렬한 배열로 후보를 만든다 */
+    private static final int SORTED_POSTINGS_LIMIT = 1 << 11;
+    /** 포스팅이 이보다 많거나 가장 좁은 검색어의 16배를 넘는 검색어는 비트셋 대신 후보 문서의 단어 목록으로 확인한다 */
+    private static final int BITSET_POSTINGS_LIMIT = 1 << 17;
+    private static final int BITSET_POSTINGS_RATIO = 16;
+    /** tier로 다시 정렬할 후보를 정적 순위 순으로 limit의 몇 배까지 모을지 */
+    private static final int TIER_OVERFETCH = 4;
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final long TIER_SHIFT = 32;
+
+    private final long[] bookIds;
+    private final char[] text;
+    private final int[] textOffsets;    // 문서 i의 제목: [2i, 2i+1), 저자: [2i+1, 2i+2)
+    private final char[] termChars;
+    private final int[] termOffsets;    // 정렬된 단어 t: termChars[termOffsets[t], termOffsets[t+1])
+    private final int[] postingOffsets; // 단어 t를 가진 문서: postings[postingOffsets[t], postingOffsets[t+1]) (오름차순)
+    private final int[] postings;
+    private final int[] docTermOffsets; // 문서 d의 단어: docTerms[docTermOffsets[d], docTermOffsets[d+1]) (제목 첫 단어가 맨 앞)
+    private final int[] docTerms;
+
+    private AutocompleteSegment(long[] bookIds, char[] text, int[] textOffsets,
+                                char[] termChars, int[] termOffsets,
+                                int[] postingOffsets, int[] postings,
+                                int[] docTermOffsets, int[] docTerms) {
+        this.bookIds = bookIds;
+        this.text = text;
+        this.textOffsets = textOffsets;
+        this.termChars = termChars;
+        this.termOffsets = termOffsets;
+        this.postingOffsets = postingOffsets;
+        this.postings = postings;
+        this.docTermOffsets = docTermOffsets;
+        this.docTerms = docTerms;
+    }
+
+    static AutocompleteSegment build(List<AutocompleteEntry> source) {
+        List<AutocompleteEntry> entries = new ArrayList<>(source);
+        entries.sort(Comparator.comparingInt((AutocompleteEntry e) -> e.title().length())
+                .thenComparingLong(AutocompleteEntry::bookId));
+        int docCount = entries.size();
+
+        long[] bookIds = new long[docCount];
+        int[] textOffsets = new int[docCount * 2 + 1];
+        StringBuilder text = new StringBuilder();
+        Map<String, Integer> provisionalIds = new HashMap<>();
+        List<String> provisionalTerms = new ArrayList<>();
+        int[] docTermOffsets = new int[docCount + 1];
+        int[] docTerms = new int[Math.max(16, docCount * 4)];
+        int docTermCount = 0;
+
+        List<String> terms = new ArrayList<>(AutocompleteTokenizer.MAX_TERMS);
+        for (int doc = 0; doc < docCount; doc++) {
+            AutocompleteEntry entry = entries.get(doc);
+            bookIds[doc] = entry.bookId();
+            textOffsets[doc * 2] = text.length();
+            text.append(entry.title());
+            textOffsets[doc * 2 + 1] = text.length();
+            text.append(entry.author());
+
+            terms.clear();
+            AutocompleteTokenizer.appendTerms(entry.title(), terms);
+            AutocompleteTokenizer.appendTerms(entry.author(), terms);
+            if (docTermCount + terms.size() > docTerms.length) {
+                docTerms = Arrays.copyOf(docTerms, Math.max(docTerms.length * 2, docTermCount + terms.size()));
+            }
+            for (String term : terms) {
+                Integer id = provisionalIds.get(term);
+                if (id == null) {
+                    id = provisionalTerms.size();
+                    provisionalIds.put(term, id);
+                    provisionalTerms.add(term);
+                }
+                docTerms[docTermCount++] = id;
+            }
+            docTermOffsets[doc + 1] = docTermCount;
+        }
+        textOffsets[docCount * 2] = text.length();
+
+        // 단어 번호를 사전순으로 다시 매겨 접두어가 같은 단어들이 연속 구간이 되게 한다
+        String[] sortedTerms = provisionalTerms.toArray(new String[0]);
+        Arrays.sort(sortedTerms);
+        int termCount = sortedTerms.length;
+        int[] termOffsets = new int[termCount + 1];
+        StringBuilder termText = new StringBuilder();
+        for (int t = 0; t < termCount; t++) {
+            termText.append(sortedTerms[t]);
+            termOffsets[t + 1] = termText.length();
+            provisionalIds.put(sortedTerms[t], t);
+        }
+        int[] remap = new int[termCount];
+        for (int t = 0; t < termCount; t++) {
+            remap[t] = provisionalIds.get(provisionalTerms.get(t));
+        }
+        docTerms = Arrays.copyOf(docTerms, docTermCount);
+        for (int i = 0; i < docTermCount; i++) {
+            docTerms[i] = remap[docTerms[i]];
+        }
+
+        // 계수 정렬로 포스팅 구성. 문서 순서대로 채우므로 단어별 포스팅은 자동으로 오름차순
+        int[] postingOffsets = new int[termCount + 1];
+        for (int term : docTerms) {
+            postingOffsets[term + 1]++;
+        }
+        for (int t = 0; t < termCount; t++) {
+            postingOffsets[t + 1] += postingOffsets[t];
+        }
+        int[] postings = new int[docTermCount];
+        int[] cursor = Arrays.copyOf(postingOffsets, termCount);
+        for (int doc = 0; doc < docCount; doc++) {
+            for (int i = docTermOffsets[doc]; i < docTermOffsets[doc + 1]; i++) {
+                postings[cursor[docTerms[i]]++] = doc;
+            }
+        }
+
+        return new AutocompleteSegment(bookIds, toArray(text), textOffsets, toArray(termText), termOffsets,
+                postingOffsets, postings, docTermOffsets, docTerms);
+    }
+
+    int size() {
+        return bookIds.length;
+    }
+
+    long bookId(int doc) {
+        return bookIds[doc];
+    }
+
+    int titleLength(int doc) {
+        return textOffsets[doc * 2 + 1] - textOffsets[doc * 2];
+    }
+
+    AutocompleteEntry entry(int doc) {
+        int titleStart = textOffsets[doc * 2];
+        int authorStart = textOffsets[doc * 2 + 1];
+        int end = textOffsets[doc * 2 + 2];
+        return new AutocompleteEntry(bookIds[doc],
+                new String(text, titleStart, authorStart - titleStart),
+                new String(text, authorStart, end - authorStart));
+    }
+
+    List<AutocompleteEntry> entries() {
+        List<AutocompleteEntry> entries = new ArrayList<>(bookIds.length);
+        for (int doc = 0; doc < bookIds.length; doc++) {
+            entries.add(entry(doc));
+        }
+        return entries;
+    }
+
+    /**
+     * 배열이 차지하는 대략적인 힙 크기 (배열 헤더 제외)
+     */
+    long memoryBytes() {
+        return (long) bookIds.length * Long.BYTES
+                + (long) (text.length + termChars.length) * Character.BYTES
+                + (long) (textOffsets.length + termOffsets.length + postingOffsets.length + postings.length
+                + docTermOffsets.length + docTerms.length) * Integer.BYTES;
+    }
+
+    /**
+     * 모든 검색어를 단어 접두어로 포함하는 문서 상위 limit개. 결과는 (tier << 32 | 문서 번호) 오름차순이며
+     * tier 0은 첫 검색어가 제목 첫 단어와 맞는 경우다.
+     * 정적 순위 순으로 맞는 문서를 limit * TIER_OVERFETCH개까지만 모은 뒤 그 안에서 tier로 다시 정렬한다
+     */
+    long[] search(List<String> queryTerms, int limit) {
+        int termCount = Math.min(queryTerms.size(), MAX_QUERY_TERMS);
+        if (termCount == 0 || limit <= 0 || bookIds.length == 0) {
+            return new long[0];
+        }
+
+        // 포스팅이 적은 검색어부터 처리하도록 정렬 (insertion sort, 최대 8개)
+        int[] lo = new int[termCount];
+        int[] hi = new int[termCount];
+        int firstLo = 0;
+        int firstHi = 0;
+        for (int i = 0; i < termCount; i++) {
+            String prefix = queryTerms.get(i);
+            int termLo = lowerBound(prefix);
+            int termHi = upperBound(prefix, termLo);
+            if (termLo == termHi) {
+                return new long[0];
+            }
+            if (i == 0) {
+                firstLo = termLo;
+                firstHi = termHi;
+            }
+            int j = i;
+            while (j > 0 && postingCount(lo[j - 1], hi[j - 1]) > postingCount(termLo, termHi)) {
+                lo[j] = lo[j - 1];
+                hi[j] = hi[j - 1];
+                j--;
+            }
+            lo[j] = termLo;
+            hi[j] = termHi;
+        }
+
+        int[] matches = new int[limit * TIER_OVERFETCH];
+        int found = 0;
+        int nextDoc = 0;
+        int driverPostings = postingCount(lo[0], hi[0]);
+        if ((long) driverPostings * DENSE_DOCS_PER_POSTING >= bookIds.length) {
+            int end = Math.min(bookIds.length, RANK_SCAN_BUDGET);
+            for (; nextDoc < end && found < matches.length; nextDoc++) {
+                if (matchesAll(nextDoc, lo, hi, 0)) {
+                    matches[found++] = nextDoc;
+                }
+            }
+        }
+        if (found < matches.length && nextDoc < bookIds.length) {
+            if (driverPostings <= SORTED_POSTINGS_LIMIT) {
+                found = collectFromSortedPostings(lo, hi, nextDoc, matches, found);
+            } else if (driverPostings <= BITSET_POSTINGS_LIMIT) {
+                found = collectFromPostings(lo, hi, nextDoc, matches, found);
+            } else {
+                found = collectInRankOrder(lo, hi, nextDoc, matches, found);
+            }
+        }
+
+        long[] keys = new long[found];
+        for (int i = 0; i < found; i++) {
+            keys[i] = hitKey(matches[i], firstLo, firstHi);
+        }
+        Arrays.sort(keys);
+        return keys.length > limit ? Arrays.copyOf(keys, limit) : keys;
+    }
+
+    /**
+     * 가장 좁은 검색어의 포스팅이 적을 때. 복사해 정렬한 뒤 중복을 건너뛰며 번호 순으로 확인한다
+     */
+    private int collectFromSortedPostings(int[] lo, int[] hi, int fromDoc, int[] matches, int found) {
+        int[] candidates = Arrays.copyOfRange(postings, postingOffsets[lo[0]], postingOffsets[hi[0]]);
+        Arrays.sort(candidates);
+        int previous = -1;
+        for (int doc : candidates) {
+            if (doc == previous || doc < fromDoc) {
+                continue;
+            }
+            previous = doc;
+            if (matchesAll(doc, lo, hi, 1)) {
+                matches[found++] = doc;
+                if (found == matches.length) {
+                    return found;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 가장 좁은 검색어의 포스팅을 비트셋으로 모으고, 포스팅이 많지 않은 다른 검색어와 AND한 뒤
+     * 남은 문서를 번호 순으로 확인한다. 포스팅이 많은 검색어만 문서별 단어 목록으로 확인한다
+     */
+    private int collectFromPostings(int[] lo, int[] hi, int fromDoc, int[] matches, int found) {
+        long[] candidates = new long[(bookIds.length + 63) >>> 6];
+        markPostings(lo[0], hi[0], candidates);
+
+        int checkFrom = lo.length;
+        long[] other = null;
+        for (int i = 1; i < lo.length; i++) {
+            int postingCount = postingCount(lo[i], hi[i]);
+            if (postingCount > BITSET_POSTINGS_LIMIT
+                    || postingCount > (long) postingCount(lo[0], hi[0]) * BITSET_POSTINGS_RATIO) {
+                checkFrom = i;
+                break;
+            }
+            if (other == null) {
+                other = new long[candidates.length];
+            } else {
+                Arrays.fill(other, 0L);
+            }
+            markPostings(lo[i], hi[i], other);
+            for (int w = 0; w < candidates.length; w++) {
+                candidates[w] &= other[w];
+            }
+        }
+
+        for (int w = fromDoc >>> 6; w < candidates.length; w++) {
+            long word = candidates[w];
+            while (word != 0) {
+                int doc = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+                if (doc >= fromDoc && matchesAll(doc, lo, hi, checkFrom)) {
+                    matches[found++] = doc;
+                    if (found == matches.length) {
+                        return found;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 모든 검색어의 포스팅이 많을 때(예: 자음 하나씩 두 단어). 맞는 문서가 흔하므로 순서대로 훑는다
+     */
+    private int collectInRankOrder(int[] lo, int[] hi, int fromDoc, int[] matches, int found) {
+        for (int doc = fromDoc; doc < bookIds.length; doc++) {
+            if (matchesAll(doc, lo, hi, 0)) {
+                matches[found++] = doc;
+                if (found == matches.length) {
+                    return found;
+                }
+            }
+        }
+        return found;
+    }
+
+    private void markPostings(int lo, int hi, long[] bits) {
+        for (int p = postingOffsets[lo]; p < postingOffsets[hi]; p++) {
+            int doc = postings[p];
+            bits[doc >>> 6] |= 1L << doc;
+        }
+    }
+
+    private boolean matchesAll(int doc, int[] lo, int[] hi, int fromTerm) {
+        for (int i = fromTerm; i < lo.length; i++) {
+            if (!hasTermInRange(doc, lo[i], hi[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasTermInRange(int doc, int lo, int hi) {
+        for (int i = docTermOffsets[doc]; i < docTermOffsets[doc + 1]; i++) {
+            int term = docTerms[i];
+            if (term >= lo && term < hi) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long hitKey(int doc, int firstLo, int firstHi) {
+        int start = docTermOffsets[doc];
+        boolean titleStartMatches = start < docTermOffsets[doc + 1]
+                && docTerms[start] >= firstLo && docTerms[start] < firstHi;
+        return ((titleStartMatches ? 0L : 1L) << TIER_SHIFT) | doc;
+    }
+
+    private int postingCount(int lo, int hi) {
+        return postingOffsets[hi] - postingOffsets[lo];
+    }
+
+    /** prefix 이상인 첫 단어 */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = termOffsets.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareTerm(mid, prefix, false) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** from 이후에서 prefix로 시작하지 않는 첫 단어 */
+    private int upperBound(String prefix, int from) {
+        int low = from;
+        int high = termOffsets.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareTerm(mid, prefix, true) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * prefixOnly면 prefix로 시작하는 단어를 prefix와 같은 것으로 본다
+     */
+    private int compareTerm(int term, String prefix, boolean prefixOnly) {
+        int start = termOffsets[term];
+        int length = termOffsets[term + 1] - start;
+        int common = Math.min(length, prefix.length());
+        for (int i = 0; i < common; i++) {
+            int diff = termChars[start + i] - prefix.charAt(i);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        if (prefixOnly && length >= prefix.length()) {
+            return 0;
+        }
+        return length - prefix.length();
+    }
+
+    private static char[] toArray(StringBuilder builder) {
+        char[] chars = new char[builder.length()];
+        builder.getChars(0, builder.length(), chars, 0);
+        return chars;
+    }
+}
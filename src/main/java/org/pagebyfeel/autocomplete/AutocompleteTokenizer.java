@@ -0,0 +1,103 @@
+package org.pagebyfeel.autocomplete;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 자동완성용 정규화. 소문자화 후 한글 음절을 호환 자모로 풀고 겹모음/겹받침도 나눠
+ * 입력 중인 글자("채시", "채ㅅ", "닭"을 치는 중의 "달")가 완성된 단어의 접두어가 되게 한다
+ * 글자/숫자가 아닌 문자는 단어 구분자로 취급한다
+ */
+final class AutocompleteTokenizer {
+
+    static final int MAX_TERM_LENGTH = 32;
+    static final int MAX_TERMS = 16;
+
+    private static final int SYLLABLE_BASE = 0xAC00;
+    private static final int SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int COMPAT_JAMO_BASE = 0x3131;
+    private static final int COMPAT_JAMO_LAST = 0x3163;
+
+    private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char[] JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ".toCharArray();
+    private static final char[] JONGSEONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ".toCharArray();
+
+    /** 호환 자모(ㄱ~ㅣ) 한 글자를 키보드 입력 순서의 낱자로 나눈 결과 */
+    private static final String[] SPLIT_JAMO = new String[COMPAT_JAMO_LAST - COMPAT_JAMO_BASE + 1];
+
+    static {
+        String[][] compounds = {
+                {"ㄳ", "ㄱㅅ"}, {"ㄵ", "ㄴㅈ"}, {"ㄶ", "ㄴㅎ"}, {"ㄺ", "ㄹㄱ"}, {"ㄻ", "ㄹㅁ"}, {"ㄼ", "ㄹㅂ"},
+                {"ㄽ", "ㄹㅅ"}, {"ㄾ", "ㄹㅌ"}, {"ㄿ", "ㄹㅍ"}, {"ㅀ", "ㄹㅎ"}, {"ㅄ", "ㅂㅅ"},
+                {"ㅘ", "ㅗㅏ"}, {"ㅙ", "ㅗㅐ"}, {"ㅚ", "ㅗㅣ"}, {"ㅝ", "ㅜㅓ"}, {"ㅞ", "ㅜㅔ"}, {"ㅟ", "ㅜㅣ"}, {"ㅢ", "ㅡㅣ"}
+        };
+        for (String[] compound : compounds) {
+            SPLIT_JAMO[compound[0].charAt(0) - COMPAT_JAMO_BASE] = compound[1];
+        }
+    }
+
+    private AutocompleteTokenizer() {
+    }
+
+    /**
+     * 정규화한 단어 목록. 중복 단어는 한 번만 넣고, 단어 길이와 개수는 MAX_TERM_LENGTH, MAX_TERMS로 자른다
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        appendTerms(text, terms);
+        return terms;
+    }
+
+    static void appendTerms(String text, List<String> terms) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String source = Normalizer.isNormalized(text, Normalizer.Form.NFC)
+                ? text
+                : Normalizer.normalize(text, Normalizer.Form.NFC);
+
+        StringBuilder term = new StringBuilder(MAX_TERM_LENGTH);
+        for (int i = 0; i < source.length() && terms.size() < MAX_TERMS; i++) {
+            char c = source.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                addTerm(term, terms);
+                continue;
+            }
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_BASE;
+                appendJamo(term, CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)]);
+                appendJamo(term, JUNGSEONG[(index / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+                int jongseong = index % JONGSEONG_COUNT;
+                if (jongseong != 0) {
+                    appendJamo(term, JONGSEONG[jongseong]);
+                }
+            } else {
+                appendJamo(term, Character.toLowerCase(c));
+            }
+        }
+        addTerm(term, terms);
+    }
+
+    private static void appendJamo(StringBuilder term, char jamo) {
+        String split = jamo >= COMPAT_JAMO_BASE && jamo <= COMPAT_JAMO_LAST ? SPLIT_JAMO[jamo - COMPAT_JAMO_BASE] : null;
+        if (split != null) {
+            term.append(split);
+        } else {
+            term.append(jamo);
+        }
+    }
+
+    private static void addTerm(StringBuilder term, List<String> terms) {
+        if (term.isEmpty()) {
+            return;
+        }
+        String value = term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term.toString();
+        term.setLength(0);
+        if (terms.size() < MAX_TERMS && !terms.contains(value)) {
+            terms.add(value);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package org.pagebyfeel.autocomplete;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.repository.BookRepository;
+import org.pagebyfeel.service.BookCreatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 도서 제목/저자 인메모리 자동완성 색인
+ * 시작 시 DB 전체로 본 조각을 만들고, 이후 추가된 도서는 작은 델타 조각에 모았다가 커지면 본 조각을 다시 만든다.
+ * 조회는 불변 스냅샷을 volatile로 읽으므로 잠금이 없다
+ */
+@Slf4j
+@Component
+public class BookAutocompleteIndex {
+
+    private static final Comparator<Hit> HIT_ORDER = Comparator.comparingInt(Hit::tier)
+            .thenComparingInt(Hit::titleLength)
+            .thenComparingLong(Hit::bookId);
+
+    private final BookRepository bookRepository;
+    private final int loadBatchSize;
+    private final int maxDeltaSize;
+    private final int rescanWindow;
+
+    private final Object writeLock = new Object();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile Snapshot snapshot =
+            new Snapshot(AutocompleteSegment.EMPTY, AutocompleteSegment.EMPTY, List.of(), new long[0], 0L);
+    private volatile boolean ready = false;
+
+    public BookAutocompleteIndex(
+            BookRepository bookRepository,
+            @Value("${app.autocomplete.load-batch-size:10000}") int loadBatchSize,
+            @Value("${app.autocomplete.max-delta-size:5000}") int maxDeltaSize,
+            @Value("${app.autocomplete.rescan-window:1000}") int rescanWindow
+    ) {
+        this.bookRepository = bookRepository;
+        this.loadBatchSize = loadBatchSize;
+        this.maxDeltaSize = maxDeltaSize;
+        this.rescanWindow = rescanWindow;
+    }
+
+    /**
+     * 검색어의 모든 단어를 제목/저자 단어 접두어로 포함하는 도서 상위 limit개
+     * 첫 단어가 제목 첫 단어와 맞는 도서, 짧은 제목, 작은 bookId 순
+     */
+    public List<AutocompleteEntry> suggest(String query, int limit) {
+        List<String> terms = AutocompleteTokenizer.tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Snapshot current = snapshot;
+        List<Hit> hits = new ArrayList<>(limit * 2);
+        collect(current.main(), terms, limit, hits);
+        collect(current.delta(), terms, limit, hits);
+        hits.sort(HIT_ORDER);
+
+        List<AutocompleteEntry> results = new ArrayList<>(Math.min(limit, hits.size()));
+        for (int i = 0; i < hits.size() && i < limit; i++) {
+            Hit hit = hits.get(i);
+            results.add(hit.segment().entry(hit.doc()));
+        }
+        return results;
+    }
+
+    /**
+     * 이 노드에서 커밋된 도서를 바로 반영. 델타 조각만 다시 만든다
+     */
+    public void add(AutocompleteEntry entry) {
+        synchronized (writeLock) {
+            Snapshot current = snapshot;
+            for (AutocompleteEntry pending : current.pending()) {
+                if (pending.bookId().equals(entry.bookId())) {
+                    return;
+                }
+            }
+            List<AutocompleteEntry> pending = new ArrayList<>(current.pending());
+            pending.add(entry);
+            snapshot = new Snapshot(current.main(), AutocompleteSegment.build(pending), pending,
+                    current.mainTailIds(), current.lastLoadedBookId());
+        }
+    }
+
+    /**
+     * 트랜잭션 안에서 발행되면 커밋 후, 밖에서 발행되면(이미 커밋된 배치 저장) 바로 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookCreated(BookCreatedEvent event) {
+        add(new AutocompleteEntry(event.bookId(), event.title(), event.author()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * DB 전체를 book_id 순으로 나눠 읽어 본 조각을 새로 만든다. 만드는 동안 추가된 도서는 델타에 남긴다
+     */
+    public void rebuild() {
+        loadLock.lock();
+        try {
+            long started = System.nanoTime();
+            List<AutocompleteEntry> entries = new ArrayList<>();
+            long lastBookId = loadAfter(0L, entries);
+            AutocompleteSegment main = install(entries, lastBookId);
+            log.info("Book autocomplete index built with {} books ({} KiB) in {} ms",
+                    main.size(), main.memoryBytes() / 1024, (System.nanoTime() - started) / 1_000_000);
+        } catch (Exception e) {
+            log.error("Failed to build book autocomplete index. Keeping the previous index until next refresh.", e);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 다른 노드에서 추가된 도서를 가져와 델타에 더한다. 델타가 커지면 본 조각을 다시 만든다
+     * IDENTITY 값은 커밋 순서와 다르게 보일 수 있으므로 마지막으로 읽은 book_id보다 rescanWindow만큼 앞에서부터 다시 읽고,
+     * 이미 색인된 도서는 건너뛴다. 그보다 더 늦게 커밋된 행은 다음 재구성에서 채워진다
+     */
+    @Scheduled(
+            initialDelayString = "${app.autocomplete.refresh-interval-ms:60000}",
+            fixedDelayString = "${app.autocomplete.refresh-interval-ms:60000}"
+    )
+    public void refresh() {
+        // 재구성 중이면 재구성이 같은 행을 읽으므로 건너뛴다
+        if (loadLock.isLocked()) {
+            return;
+        }
+        if (!ready || snapshot.pending().size() >= maxDeltaSize) {
+            rebuild();
+            return;
+        }
+        if (!loadLock.tryLock()) {
+            return;
+        }
+
+        try {
+            long watermark = snapshot.lastLoadedBookId();
+            List<AutocompleteEntry> loaded = new ArrayList<>();
+            long lastBookId = Math.max(watermark, loadAfter(Math.max(0L, watermark - rescanWindow), loaded));
+            synchronized (writeLock) {
+                Snapshot current = snapshot;
+                Set<Long> pendingIds = new HashSet<>();
+                for (AutocompleteEntry pending : current.pending()) {
+                    pendingIds.add(pending.bookId());
+                }
+                List<AutocompleteEntry> pending = new ArrayList<>(current.pending());
+                for (AutocompleteEntry entry : loaded) {
+                    if (Arrays.binarySearch(current.mainTailIds(), entry.bookId()) < 0 && pendingIds.add(entry.bookId())) {
+                        pending.add(entry);
+                    }
+                }
+                if (pending.size() == current.pending().size() && lastBookId == current.lastLoadedBookId()) {
+                    return;
+                }
+                AutocompleteSegment delta = pending.size() == current.pending().size()
+                        ? current.delta()
+                        : AutocompleteSegment.build(pending);
+                snapshot = new Snapshot(current.main(), delta, pending, current.mainTailIds(), lastBookId);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh book autocomplete index: {}", e.getMessage());
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * DB를 거치지 않고 주어진 목록으로 본 조각을 교체 (벤치마크용)
+     */
+    void replaceAll(List<AutocompleteEntry> entries) {
+        long lastBookId = 0L;
+        for (AutocompleteEntry entry : entries) {
+            lastBookId = Math.max(lastBookId, entry.bookId());
+        }
+        install(entries, lastBookId);
+    }
+
+    private AutocompleteSegment install(List<AutocompleteEntry> entries, long lastBookId) {
+        AutocompleteSegment main = AutocompleteSegment.build(entries);
+        synchronized (writeLock) {
+            Set<Long> pendingIds = new HashSet<>();
+            for (AutocompleteEntry pending : snapshot.pending()) {
+                pendingIds.add(pending.bookId());
+            }
+            for (int doc = 0; doc < main.size() && !pendingIds.isEmpty(); doc++) {
+                pendingIds.remove(main.bookId(doc));
+            }
+            List<AutocompleteEntry> remaining = new ArrayList<>(pendingIds.size());
+            for (AutocompleteEntry pending : snapshot.pending()) {
+                if (pendingIds.contains(pending.bookId())) {
+                    remaining.add(pending);
+                }
+            }
+            snapshot = new Snapshot(main, AutocompleteSegment.build(remaining), remaining,
+                    tailIds(entries, lastBookId - rescanWindow), lastBookId);
+        }
+        ready = true;
+        return main;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current.main().size() + current.delta().size();
+    }
+
+    public long memoryBytes() {
+        Snapshot current = snapshot;
+        return current.main().memoryBytes() + current.delta().memoryBytes();
+    }
+
+    private long loadAfter(long afterBookId, List<AutocompleteEntry> sink) {
+        long lastBookId = afterBookId;
+        while (true) {
+            List<AutocompleteEntry> batch =
+                    bookRepository.findAutocompleteEntriesAfter(lastBookId, PageRequest.ofSize(loadBatchSize));
+            if (batch.isEmpty()) {
+                return lastBookId;
+            }
+            sink.addAll(batch);
+            lastBookId = batch.get(batch.size() - 1).bookId();
+            if (batch.size() < loadBatchSize) {
+                return lastBookId;
+            }
+        }
+    }
+
+    /**
+     * 다시 읽는 구간에서 본 조각에 이미 있는 도서를 가려내기 위한 정렬된 book_id 목록
+     */
+    private static long[] tailIds(List<AutocompleteEntry> entries, long afterBookId) {
+        long[] ids = new long[entries.size()];
+        int count = 0;
+        for (AutocompleteEntry entry : entries) {
+            if (entry.bookId() > afterBookId) {
+                ids[count++] = entry.bookId();
+            }
+        }
+        long[] tail = Arrays.copyOf(ids, count);
+        Arrays.sort(tail);
+        return tail;
+    }
+
+    private static void collect(AutocompleteSegment segment, List<String> terms, int limit, List<Hit> hits) {
+        for (long key : segment.search(terms, limit)) {
+            int doc = (int) key;
+            hits.add(new Hit((int) (key >>> 32), segment.titleLength(doc), segment.bookId(doc), segment, doc));
+        }
+    }
+
+    private record Snapshot(AutocompleteSegment main,
+                            AutocompleteSegment delta,
+                            List<AutocompleteEntry> pending,
+                            long[] mainTailIds,
+                            long lastLoadedBookId) {
+    }
+
+    private record Hit(int tier, int titleLength, long bookId, AutocompleteSegment segment, int doc) {
+    }
+}
@@ -0,0 +1,11 @@
+package org.pagebyfeel.cache;
+
+/**
+ * 다른 노드의 L1 제거 요청 전송
+ */
+interface CacheInvalidationPublisher {
+
+    void publishEvict(String cacheName, String key);
+
+    void publishClear(String cacheName);
+}
@@ -0,0 +1,12 @@
+package org.pagebyfeel.cache;
+
+/**
+ * @Cacheable 등에서 사용하는 캐시 이름
+ */
+public final class CacheNames {
+
+    public static final String USER_INFO = "userInfo";
+
+    private CacheNames() {
+    }
+}
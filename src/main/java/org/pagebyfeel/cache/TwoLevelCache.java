@@ -0,0 +1,193 @@
+package org.pagebyfeel.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 노드 로컬 Caffeine(L1)과 Redis(L2)를 차례로 조회하는 캐시
+ * <ul>
+ *     <li>get(key, loader)는 같은 키에 대한 동시 로딩을 노드당 한 번으로 묶는다 (@Cacheable(sync = true))</li>
+ *     <li>put/evict는 트랜잭션 커밋 이후에 반영하고, 다른 노드의 L1은 pub/sub 메시지로 제거한다</li>
+ *     <li>Redis 장애 시 RedisService가 Fail-Open으로 처리하므로 L1과 원본 조회만으로 동작한다</li>
+ * </ul>
+ * null 값은 캐시하지 않는다
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final String KEY_PREFIX = "cache:";
+
+    private final String name;
+    private final TwoLevelCacheSpec spec;
+    private final RedisService redisService;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Cache<String, Object> localCache;
+
+    private final LongAdder redisHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder remoteInvalidationCount = new LongAdder();
+
+    TwoLevelCache(String name, TwoLevelCacheSpec spec, RedisService redisService,
+                  CacheInvalidationPublisher invalidationPublisher) {
+        super(false);
+        this.name = name;
+        this.spec = spec;
+        this.redisService = redisService;
+        this.invalidationPublisher = invalidationPublisher;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(spec.localMaximumSize())
+                .expireAfterWrite(spec.localTtl())
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = key.toString();
+        Object value = localCache.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+
+        value = redisService.get(redisKey(cacheKey));
+        if (value == null) {
+            missCount.increment();
+            return null;
+        }
+
+        redisHitCount.increment();
+        localCache.put(cacheKey, value);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = key.toString();
+        Object value = localCache.get(cacheKey, k -> loadFromRedisOrSource(k, key, valueLoader));
+        return (T) fromStoreValue(value);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+
+        String cacheKey = key.toString();
+        afterCommit(() -> {
+            redisService.set(redisKey(cacheKey), value, spec.redisTtl().toSeconds(), TimeUnit.SECONDS);
+            localCache.put(cacheKey, value);
+            invalidationPublisher.publishEvict(name, cacheKey);
+        });
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = key.toString();
+        afterCommit(() -> {
+            redisService.delete(redisKey(cacheKey));
+            localCache.invalidate(cacheKey);
+            invalidationPublisher.publishEvict(name, cacheKey);
+        });
+    }
+
+    @Override
+    public void clear() {
+        afterCommit(() -> {
+            redisService.deleteByPattern(KEY_PREFIX + name + ":*");
+            localCache.invalidateAll();
+            invalidationPublisher.publishClear(name);
+        });
+    }
+
+    /**
+     * 다른 노드에서 값이 바뀌었다는 메시지를 받았을 때 L1만 제거
+     */
+    void evictLocal(String cacheKey) {
+        localCache.invalidate(cacheKey);
+        remoteInvalidationCount.increment();
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+        remoteInvalidationCount.increment();
+    }
+
+    public TwoLevelCacheStats getStats() {
+        CacheStats stats = localCache.stats();
+        return new TwoLevelCacheStats(
+                stats.hitCount(),
+                redisHitCount.sum(),
+                missCount.sum(),
+                stats.loadCount(),
+                stats.totalLoadTime(),
+                stats.evictionCount(),
+                remoteInvalidationCount.sum()
+        );
+    }
+
+    private Object loadFromRedisOrSource(String cacheKey, Object key, Callable<?> valueLoader) {
+        Object value = redisService.get(redisKey(cacheKey));
+        if (value != null) {
+            redisHitCount.increment();
+            return value;
+        }
+
+        missCount.increment();
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (value != null) {
+            // 로더가 읽은 값은 그 사이 put()으로 기록된 새 값보다 오래되었을 수 있으므로 L2가 비어 있을 때만 기록하고,
+            // 이미 값이 있으면 그 값을 쓴다. L2를 무조건 덮어쓰는 것은 put()뿐이다
+            Boolean stored = redisService.setIfAbsent(redisKey(cacheKey), value, spec.redisTtl().toSeconds(), TimeUnit.SECONDS);
+            if (Boolean.FALSE.equals(stored)) {
+                Object current = redisService.get(redisKey(cacheKey));
+                if (current != null) {
+                    return current;
+                }
+            }
+        }
+        return value;
+    }
+
+    private String redisKey(String cacheKey) {
+        return KEY_PREFIX + name + ":" + cacheKey;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
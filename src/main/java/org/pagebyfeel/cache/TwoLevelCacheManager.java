@@ -0,0 +1,107 @@
+package org.pagebyfeel.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TwoLevelCache를 이름별로 생성하고, 캐시 무효화 메시지를 주고받는 CacheManager
+ * 등록되지 않은 이름은 기본 설정으로 생성한다.
+ * 메시지 형식은 {nodeId}|{E|C}|{cacheName}|{key}이며, 자신이 보낸 메시지는 무시한다
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener, CacheInvalidationPublisher {
+
+    public static final String CACHE_INVALIDATION_CHANNEL = "channel:cache-invalidation";
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Map<String, TwoLevelCacheSpec> specs;
+    private final TwoLevelCacheSpec defaultSpec;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            RedisService redisService,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            Map<String, TwoLevelCacheSpec> specs,
+            TwoLevelCacheSpec defaultSpec
+    ) {
+        this.redisService = redisService;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.specs = Map.copyOf(specs);
+        this.defaultSpec = defaultSpec;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CACHE_INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> new TwoLevelCache(
+                cacheName, specs.getOrDefault(cacheName, defaultSpec), redisService, this
+        ));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public Map<String, TwoLevelCacheStats> getStats() {
+        Map<String, TwoLevelCacheStats> stats = new LinkedHashMap<>();
+        caches.forEach((name, cache) -> stats.put(name, cache.getStats()));
+        return stats;
+    }
+
+    @Override
+    public void publishEvict(String cacheName, String key) {
+        redisService.publish(CACHE_INVALIDATION_CHANNEL, String.join("|", nodeId, EVICT, cacheName, key));
+    }
+
+    @Override
+    public void publishClear(String cacheName) {
+        redisService.publish(CACHE_INVALIDATION_CHANNEL, String.join("|", nodeId, CLEAR, cacheName, ""));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length != 4) {
+            log.warn("Ignoring malformed cache invalidation message");
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+
+        if (CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.pagebyfeel.cache;
+
+import java.time.Duration;
+
+/**
+ * 캐시별 L1 최대 크기와 TTL. L2(Redis)에는 같은 TTL을 적용하고, L1 TTL은 L2보다 길지 않게 둔다
+ */
+public record TwoLevelCacheSpec(long localMaximumSize, Duration localTtl, Duration redisTtl) {
+
+    public TwoLevelCacheSpec {
+        if (localTtl.compareTo(redisTtl) > 0) {
+            throw new IllegalArgumentException("localTtl must not exceed redisTtl");
+        }
+    }
+}
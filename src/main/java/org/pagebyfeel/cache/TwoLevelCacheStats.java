@@ -0,0 +1,24 @@
+package org.pagebyfeel.cache;
+
+/**
+ * 캐시별 통계. 적중률은 L1과 L2 적중을 합산해 계산한다
+ */
+public record TwoLevelCacheStats(
+        long localHitCount,
+        long redisHitCount,
+        long missCount,
+        long loadCount,
+        long totalLoadTimeNanos,
+        long evictionCount,
+        long remoteInvalidationCount
+) {
+
+    public double hitRatio() {
+        long requests = localHitCount + redisHitCount + missCount;
+        return requests == 0 ? 1.0 : (double) (localHitCount + redisHitCount) / requests;
+    }
+
+    public double averageLoadTimeNanos() {
+        return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+    }
+}
@@ -0,0 +1,82 @@
+package org.pagebyfeel.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.pagebyfeel.config.http.PooledHttpClients;
+import org.pagebyfeel.metadata.BookMetadataLoader;
+import org.pagebyfeel.metadata.BookMetadataProvider;
+import org.pagebyfeel.metadata.KakaoBookMetadataProvider;
+import org.pagebyfeel.metadata.NaverBookMetadataProvider;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 외부 도서 API 클라이언트. OAuth2 로그인과 같은 방식의 keep-alive 연결 풀을 쓰되 풀과 타임아웃은 따로 둔다
+ */
+@Configuration
+public class BookMetadataConfig {
+
+    @Bean
+    public BookMetadataLoader bookMetadataLoader(
+            RedisService redisService,
+            MeterRegistry meterRegistry,
+            @Value("${app.book-metadata.providers:kakao,naver}") List<String> providerOrder,
+            @Value("${app.book-metadata.kakao.base-url:https://dapi.kakao.com}") String kakaoBaseUrl,
+            @Value("${app.book-metadata.kakao.rest-api-key:}") String kakaoRestApiKey,
+            @Value("${app.book-metadata.naver.base-url:https://openapi.naver.com}") String naverBaseUrl,
+            @Value("${app.book-metadata.naver.client-id:}") String naverClientId,
+            @Value("${app.book-metadata.naver.client-secret:}") String naverClientSecret,
+            @Value("${app.book-metadata.max-concurrent-requests:8}") int maxConcurrentRequests,
+            @Value("${app.book-metadata.permit-timeout-ms:500}") long permitTimeoutMs,
+            @Value("${app.book-metadata.wait-timeout-ms:5000}") long waitTimeoutMs,
+            @Value("${app.book-metadata.found-ttl-hours:168}") long foundTtlHours,
+            @Value("${app.book-metadata.not-found-ttl-minutes:60}") long notFoundTtlMinutes,
+            @Value("${app.book-metadata.http-client.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${app.book-metadata.http-client.read-timeout-ms:2000}") long readTimeoutMs
+    ) {
+        ClientHttpRequestFactory requestFactory = PooledHttpClients.pooledRequestFactory(
+                maxConcurrentRequests * 2,
+                maxConcurrentRequests,
+                Duration.ofMillis(connectTimeoutMs),
+                Duration.ofMillis(readTimeoutMs),
+                Duration.ofMillis(permitTimeoutMs),
+                false
+        );
+
+        List<BookMetadataProvider> providers = new ArrayList<>();
+        for (String name : providerOrder) {
+            switch (name.strip()) {
+                case "kakao" -> providers.add(new KakaoBookMetadataProvider(
+                        restClient(requestFactory, kakaoBaseUrl), kakaoRestApiKey));
+                case "naver" -> providers.add(new NaverBookMetadataProvider(
+                        restClient(requestFactory, naverBaseUrl), naverClientId, naverClientSecret));
+                default -> throw new IllegalArgumentException("Unknown book metadata provider: " + name);
+            }
+        }
+
+        return new BookMetadataLoader(
+                providers,
+                redisService,
+                meterRegistry,
+                maxConcurrentRequests,
+                Duration.ofMillis(permitTimeoutMs),
+                Duration.ofMillis(waitTimeoutMs),
+                Duration.ofHours(foundTtlHours),
+                Duration.ofMinutes(notFoundTtlMinutes)
+        );
+    }
+
+    private static RestClient restClient(ClientHttpRequestFactory requestFactory, String baseUrl) {
+        return RestClient.builder()
+                .requestFactory(requestFactory)
+                .baseUrl(baseUrl)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package org.pagebyfeel.config;
+
+import org.pagebyfeel.cache.CacheNames;
+import org.pagebyfeel.cache.TwoLevelCacheManager;
+import org.pagebyfeel.cache.TwoLevelCacheSpec;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${app.cache.default.local-maximum-size:1000}")
+    private long defaultLocalMaximumSize;
+
+    @Value("${app.cache.default.local-ttl-seconds:60}")
+    private long defaultLocalTtlSeconds;
+
+    @Value("${app.cache.default.redis-ttl-seconds:600}")
+    private long defaultRedisTtlSeconds;
+
+    @Value("${app.cache.user-info.local-maximum-size:10000}")
+    private long userInfoLocalMaximumSize;
+
+    @Value("${app.cache.user-info.local-ttl-seconds:300}")
+    private long userInfoLocalTtlSeconds;
+
+    @Value("${app.cache.user-info.redis-ttl-seconds:1800}")
+    private long userInfoRedisTtlSeconds;
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisService redisService,
+                                             RedisMessageListenerContainer redisMessageListenerContainer) {
+        return new TwoLevelCacheManager(
+                redisService,
+                redisMessageListenerContainer,
+                Map.of(
+                        CacheNames.USER_INFO, new TwoLevelCacheSpec(
+                                userInfoLocalMaximumSize,
+                                Duration.ofSeconds(userInfoLocalTtlSeconds),
+                                Duration.ofSeconds(userInfoRedisTtlSeconds)
+                        )
+                ),
+                new TwoLevelCacheSpec(
+                        defaultLocalMaximumSize,
+                        Duration.ofSeconds(defaultLocalTtlSeconds),
+                        Duration.ofSeconds(defaultRedisTtlSeconds)
+                )
+        );
+    }
+}
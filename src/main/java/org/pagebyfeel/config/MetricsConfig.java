@@ -0,0 +1,113 @@
+package org.pagebyfeel.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.pagebyfeel.autocomplete.BookAutocompleteIndex;
+import org.pagebyfeel.cache.CacheNames;
+import org.pagebyfeel.cache.TwoLevelCache;
+import org.pagebyfeel.cache.TwoLevelCacheManager;
+import org.pagebyfeel.redis.RedisCommandBatcher;
+import org.pagebyfeel.security.VerifiedTokenCache;
+import org.pagebyfeel.security.ratelimit.RateLimitRoute;
+import org.pagebyfeel.security.ratelimit.RateLimitStats;
+import org.pagebyfeel.security.ratelimit.TokenBucketRateLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * 기존 컴포넌트가 직접 세던 통계를 Micrometer 지표로 노출
+ * HTTP 요청, Hikari, Lettuce 명령 지연, Spring Data 리포지토리 호출은 Spring Boot 자동 구성이 기록한다
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(VerifiedTokenCache verifiedTokenCache) {
+        return registry -> {
+            FunctionCounter.builder("jwt.verified.cache.requests", verifiedTokenCache, VerifiedTokenCache::getHitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("jwt.verified.cache.requests", verifiedTokenCache, VerifiedTokenCache::getMissCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("jwt.verified.cache.requests", verifiedTokenCache,
+                            VerifiedTokenCache::getRejectedHitCount)
+                    .tag("result", "rejected_hit")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder twoLevelCacheMetrics(TwoLevelCacheManager cacheManager) {
+        return registry -> {
+            String name = CacheNames.USER_INFO;
+            TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache(name);
+            registerCacheCounter(registry, cache, name, "local_hit", c -> c.getStats().localHitCount());
+            registerCacheCounter(registry, cache, name, "redis_hit", c -> c.getStats().redisHitCount());
+            registerCacheCounter(registry, cache, name, "miss", c -> c.getStats().missCount());
+            Gauge.builder("cache.two.level.hit.ratio", cache, c -> c.getStats().hitRatio())
+                    .tag("cache", name)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder rateLimitMetrics(TokenBucketRateLimiter rateLimiter) {
+        return registry -> {
+            for (RateLimitRoute route : RateLimitRoute.values()) {
+                registerRateLimitCounter(registry, rateLimiter, route, "allowed", RateLimitStats::allowedCount);
+                registerRateLimitCounter(registry, rateLimiter, route, "local_rejected", RateLimitStats::localRejectedCount);
+                registerRateLimitCounter(registry, rateLimiter, route, "redis_rejected", RateLimitStats::redisRejectedCount);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder redisCommandBatcherMetrics(ObjectProvider<RedisCommandBatcher> commandBatcher) {
+        return registry -> commandBatcher.ifAvailable(batcher -> {
+            FunctionCounter.builder("redis.batcher.flushes", batcher, RedisCommandBatcher::getFlushCount)
+                    .register(registry);
+            FunctionCounter.builder("redis.batcher.commands", batcher, RedisCommandBatcher::getCommandCount)
+                    .register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder bookAutocompleteMetrics(BookAutocompleteIndex autocompleteIndex) {
+        return registry -> {
+            Gauge.builder("book.autocomplete.books", autocompleteIndex, BookAutocompleteIndex::size)
+                    .register(registry);
+            Gauge.builder("book.autocomplete.memory", autocompleteIndex, BookAutocompleteIndex::memoryBytes)
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    private static void registerCacheCounter(MeterRegistry registry,
+                                             TwoLevelCache cache,
+                                             String name,
+                                             String result,
+                                             ToLongFunction<TwoLevelCache> count) {
+        FunctionCounter.builder("cache.two.level.requests", cache, count::applyAsLong)
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static void registerRateLimitCounter(MeterRegistry registry,
+                                                 TokenBucketRateLimiter rateLimiter,
+                                                 RateLimitRoute route,
+                                                 String result,
+                                                 ToLongFunction<RateLimitStats> count) {
+        FunctionCounter.builder("rate.limit.decisions", rateLimiter,
+                        limiter -> count.applyAsLong(limiter.getStats().get(route)))
+                .tag("route", route.name().toLowerCase())
+                .tag("result", result)
+                .register(registry);
+    }
+}
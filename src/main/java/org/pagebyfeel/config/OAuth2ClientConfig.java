@@ -0,0 +1,89 @@
+package org.pagebyfeel.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.pagebyfeel.config.http.PooledHttpClients;
+import org.pagebyfeel.security.oauth.OAuth2HttpClients;
+import org.pagebyfeel.security.oauth.OAuth2ProviderLatencyRecorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class OAuth2ClientConfig {
+
+    @Value("${app.oauth2.http-client.max-total:100}")
+    private int maxTotal;
+
+    @Value("${app.oauth2.http-client.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${app.oauth2.http-client.connect-timeout-ms:2000}")
+    private long connectTimeoutMs;
+
+    @Value("${app.oauth2.http-client.read-timeout-ms:3000}")
+    private long readTimeoutMs;
+
+    @Value("${app.oauth2.http-client.pool-timeout-ms:1000}")
+    private long poolTimeoutMs;
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory oAuth2ClientHttpRequestFactory() {
+        return PooledHttpClients.pooledRequestFactory(
+                maxTotal,
+                maxPerRoute,
+                Duration.ofMillis(connectTimeoutMs),
+                Duration.ofMillis(readTimeoutMs),
+                Duration.ofMillis(poolTimeoutMs)
+        );
+    }
+
+    @Bean
+    public OAuth2ProviderLatencyRecorder oAuth2ProviderLatencyRecorder(
+            ClientRegistrationRepository clientRegistrationRepository,
+            MeterRegistry meterRegistry
+    ) {
+        Map<String, String> providersByHost = new HashMap<>();
+        if (clientRegistrationRepository instanceof Iterable<?> registrations) {
+            for (Object registration : registrations) {
+                ClientRegistration clientRegistration = (ClientRegistration) registration;
+                ClientRegistration.ProviderDetails details = clientRegistration.getProviderDetails();
+                putHost(providersByHost, details.getTokenUri(), clientRegistration.getRegistrationId());
+                putHost(providersByHost, details.getUserInfoEndpoint().getUri(), clientRegistration.getRegistrationId());
+            }
+        }
+        return new OAuth2ProviderLatencyRecorder(providersByHost, meterRegistry);
+    }
+
+    @Bean
+    public RestTemplate oAuth2RestTemplate(HttpComponentsClientHttpRequestFactory oAuth2ClientHttpRequestFactory,
+                                           OAuth2ProviderLatencyRecorder oAuth2ProviderLatencyRecorder) {
+        return OAuth2HttpClients.userInfoRestTemplate(oAuth2ClientHttpRequestFactory, oAuth2ProviderLatencyRecorder);
+    }
+
+    @Bean
+    public OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> authorizationCodeTokenResponseClient(
+            HttpComponentsClientHttpRequestFactory oAuth2ClientHttpRequestFactory,
+            OAuth2ProviderLatencyRecorder oAuth2ProviderLatencyRecorder
+    ) {
+        return OAuth2HttpClients.authorizationCodeTokenResponseClient(
+                oAuth2ClientHttpRequestFactory, oAuth2ProviderLatencyRecorder
+        );
+    }
+
+    private static void putHost(Map<String, String> providersByHost, String uri, String registrationId) {
+        if (uri != null && !uri.isBlank()) {
+            providersByHost.put(URI.create(uri).getHost(), registrationId);
+        }
+    }
+}
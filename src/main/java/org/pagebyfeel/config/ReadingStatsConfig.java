@@ -0,0 +1,21 @@
+package org.pagebyfeel.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+@Configuration
+public class ReadingStatsConfig {
+
+    /**
+     * 독서 기록 시각과 일/월 통계의 날짜 경계를 정하는 시계
+     * 서버(JVM) 기본 시간대와 무관하게 app.reading-stats.zone 기준 현지 시각으로 기록하고 집계한다
+     */
+    @Bean
+    public Clock readingClock(@Value("${app.reading-stats.zone:Asia/Seoul}") String zone) {
+        return Clock.system(ZoneId.of(zone));
+    }
+}
@@ -3,10 +3,17 @@ package org.pagebyfeel.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.pagebyfeel.dto.response.UserResponse;
+import org.pagebyfeel.entity.RefreshToken;
+import org.pagebyfeel.metadata.CachedBookMetadata;
+import org.pagebyfeel.redis.codec.RedisTypeRegistry;
+import org.pagebyfeel.security.oauth.StoredAuthorizationRequest;
+import org.pagebyfeel.redis.codec.VersionedSmileRedisSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -29,8 +36,21 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * compact 포맷으로 저장할 타입 목록. 타입 ID는 저장된 데이터와 연결되므로 변경하거나 재사용하지 말 것
+     */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTypeRegistry redisTypeRegistry() {
+        return new RedisTypeRegistry()
+                .register(1, RefreshToken.class)
+                .register(2, UserResponse.class)
+                .register(3, StoredAuthorizationRequest.class)
+                .register(4, CachedBookMetadata.class);
+    }
+
+    @Bean
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       RedisTypeRegistry redisTypeRegistry) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
@@ -38,7 +58,11 @@ public class RedisConfig {
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        // 등록된 타입은 Smile로, 그 외 타입과 기존 데이터는 JSON으로 처리
+        VersionedSmileRedisSerializer serializer = new VersionedSmileRedisSerializer(
+                redisTypeRegistry,
+                new GenericJackson2JsonRedisSerializer(objectMapper)
+        );
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
         
         template.setKeySerializer(stringSerializer);
@@ -52,4 +76,11 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -1,19 +1,29 @@
 package org.pagebyfeel.config;
 
 import lombok.RequiredArgsConstructor;
+import org.pagebyfeel.security.JsonAuthenticationEntryPoint;
 import org.pagebyfeel.security.JwtAuthenticationFilter;
 import org.pagebyfeel.security.JwtTokenProvider;
 import org.pagebyfeel.security.oauth.CustomOAuth2UserService;
-import org.pagebyfeel.security.oauth.HttpCookieOAuth2AuthorizationRequestRepository;
 import org.pagebyfeel.security.oauth.OAuth2AuthenticationFailureHandler;
 import org.pagebyfeel.security.oauth.OAuth2AuthenticationSuccessHandler;
+import org.pagebyfeel.security.oauth.OAuth2AuthorizationRequestFailureHandler;
+import org.pagebyfeel.security.ratelimit.RateLimitFilter;
+import org.pagebyfeel.security.ratelimit.TokenBucketRateLimiter;
 import org.pagebyfeel.service.RedisService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.ObjectPostProcessor;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestRedirectFilter;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -24,10 +34,14 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JsonAuthenticationEntryPoint jsonAuthenticationEntryPoint;
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler;
-    private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
+    private final OAuth2AuthorizationRequestFailureHandler oAuth2AuthorizationRequestFailureHandler;
+    private final AuthorizationRequestRepository<OAuth2AuthorizationRequest> authorizationRequestRepository;
+    private final OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> authorizationCodeTokenResponseClient;
+    private final TokenBucketRateLimiter tokenBucketRateLimiter;
     private final RedisService redisService;
     private final CorsConfigurationSource corsConfigurationSource;
 
@@ -55,22 +69,45 @@ public class SecurityConfig {
                                 "/oauth2/**",
                                 "/login/oauth2/**"
                         ).permitAll()
-                        .requestMatchers("/actuator/health").permitAll()
+                        // actuator는 별도 관리 포트(management.server.port)에서만 열리고 외부에 공개하지 않는다
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        // 도서 등록은 관리자만 (조회/검색은 로그인 사용자)
+                        .requestMatchers(HttpMethod.POST, "/books").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/reading-stats/backfill").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(jsonAuthenticationEntryPoint)
+                )
                 .oauth2Login(oauth2 -> oauth2
                         .authorizationEndpoint(authorization -> authorization
-                                .authorizationRequestRepository(httpCookieOAuth2AuthorizationRequestRepository)
+                                .authorizationRequestRepository(authorizationRequestRepository)
+                        )
+                        .tokenEndpoint(token ->
+                                token.accessTokenResponseClient(authorizationCodeTokenResponseClient)
                         )
                         .userInfoEndpoint(userInfo ->
                                 userInfo.userService(customOAuth2UserService)
                         )
                         .successHandler(oAuth2AuthenticationSuccessHandler)
                         .failureHandler(oAuth2AuthenticationFailureHandler)
+                        // 로그인 시작 단계의 실패(인가 요청 저장 실패 등)는 기본 핸들러가 500으로 응답하므로 직접 지정
+                        .withObjectPostProcessor(new ObjectPostProcessor<OAuth2AuthorizationRequestRedirectFilter>() {
+                            @Override
+                            public <O extends OAuth2AuthorizationRequestRedirectFilter> O postProcess(O filter) {
+                                filter.setAuthenticationFailureHandler(oAuth2AuthorizationRequestFailureHandler);
+                                return filter;
+                            }
+                        })
                 )
                 .addFilterBefore(
                         new JwtAuthenticationFilter(jwtTokenProvider, redisService), 
                         UsernamePasswordAuthenticationFilter.class
+                )
+                // OAuth2 로그인 필터가 요청을 처리하기 전에 제한해야 하므로 OAuth2 필터보다 앞에 둔다
+                .addFilterBefore(
+                        new RateLimitFilter(tokenBucketRateLimiter, jwtTokenProvider),
+                        OAuth2AuthorizationRequestRedirectFilter.class
                 );
 
         return http.build();
@@ -0,0 +1,54 @@
+package org.pagebyfeel.config;
+
+import org.pagebyfeel.timing.RepositoryTimingBeanPostProcessor;
+import org.pagebyfeel.timing.ServerTimingFilter;
+import org.pagebyfeel.timing.ServerTimingHandlerInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청별 Server-Timing 헤더와 느린 요청 로그
+ * 인증 필터 시간까지 포함하도록 Spring Security 필터 체인보다 앞에 등록한다
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.server-timing", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServerTimingConfig implements WebMvcConfigurer {
+
+    @Value("${app.server-timing.request-header:X-Server-Timing}")
+    private String requestHeader;
+
+    @Value("${app.server-timing.header-secret:}")
+    private String headerSecret;
+
+    @Value("${app.server-timing.sample-rate:0.0}")
+    private double sampleRate;
+
+    @Value("${app.server-timing.slow-request-threshold-ms:1000}")
+    private long slowRequestThresholdMs;
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter() {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(requestHeader, headerSecret, sampleRate, slowRequestThresholdMs)
+        );
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static으로 선언
+    @Bean
+    public static RepositoryTimingBeanPostProcessor repositoryTimingBeanPostProcessor() {
+        return new RepositoryTimingBeanPostProcessor();
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ServerTimingHandlerInterceptor());
+    }
+}
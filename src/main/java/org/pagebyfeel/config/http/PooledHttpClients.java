@@ -0,0 +1,67 @@
+package org.pagebyfeel.config.http;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+
+/**
+ * 외부 API 호출에 공유하는 keep-alive 연결 풀 HTTP 클라이언트 생성 (OAuth2 Provider, 외부 도서 API)
+ * 호출마다 새 연결과 TLS 핸드셰이크를 만들지 않도록 연결을 재사용한다.
+ * 풀은 라우트(호스트)별로 제한되므로 한 호스트가 느려져도 다른 호스트의 연결을 점유하지 않는다
+ */
+public final class PooledHttpClients {
+
+    private static final TimeValue CONNECTION_TIME_TO_LIVE = TimeValue.ofMinutes(5);
+    private static final TimeValue IDLE_EVICTION = TimeValue.ofSeconds(30);
+
+    private PooledHttpClients() {
+    }
+
+    public static HttpComponentsClientHttpRequestFactory pooledRequestFactory(
+            int maxTotal, int maxPerRoute, Duration connectTimeout, Duration readTimeout, Duration poolTimeout
+    ) {
+        return pooledRequestFactory(maxTotal, maxPerRoute, connectTimeout, readTimeout, poolTimeout, true);
+    }
+
+    /**
+     * automaticRetries가 false면 503/429 응답과 I/O 오류를 클라이언트가 재시도하지 않는다.
+     * 호출자가 직접 다른 Provider로 넘어가는 경우 재시도 대기가 그대로 응답 지연이 되므로 끈다
+     */
+    public static HttpComponentsClientHttpRequestFactory pooledRequestFactory(
+            int maxTotal, int maxPerRoute, Duration connectTimeout, Duration readTimeout, Duration poolTimeout,
+            boolean automaticRetries
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(CONNECTION_TIME_TO_LIVE)
+                        .build())
+                .build();
+
+        HttpClientBuilder builder = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_EVICTION)
+                .disableCookieManagement();
+        if (!automaticRetries) {
+            builder.disableAutomaticRetries();
+        }
+
+        return new HttpComponentsClientHttpRequestFactory(builder.build());
+    }
+}
@@ -47,6 +47,20 @@ public class AuthController {
         return ApiResponse.success(null);
     }
     
+    @PostMapping("/logout/all")
+    public ApiResponse<Void> logoutAll(
+            @AuthenticationPrincipal CustomOAuth2User user,
+            HttpServletResponse response
+    ) {
+        if (user != null) {
+            authService.revokeAllSessions(user.getUserId());
+
+            deleteCookie(response, "accessToken");
+            deleteCookie(response, "refreshToken");
+        }
+        return ApiResponse.success(null);
+    }
+
     private String extractTokenFromCookie(HttpServletRequest request) {
         if (request.getCookies() != null) {
             for (Cookie cookie : request.getCookies()) {
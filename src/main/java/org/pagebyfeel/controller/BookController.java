@@ -0,0 +1,63 @@
+package org.pagebyfeel.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.pagebyfeel.dto.request.CreateBookRequest;
+import org.pagebyfeel.dto.request.ImportBooksRequest;
+import org.pagebyfeel.dto.response.BookResponse;
+import org.pagebyfeel.dto.response.BookSearchResponse;
+import org.pagebyfeel.dto.response.BookSuggestionResponse;
+import org.pagebyfeel.dto.response.ImportBooksResponse;
+import org.pagebyfeel.service.BookService;
+import org.pagebyfeel.util.ApiResponse;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/books")
+@RequiredArgsConstructor
+public class BookController {
+
+    private final BookService bookService;
+
+    @GetMapping("/search")
+    public ApiResponse<BookSearchResponse> search(
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(bookService.searchBooks(query, cursor, size));
+    }
+
+    @GetMapping("/autocomplete")
+    public ApiResponse<List<BookSuggestionResponse>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        return ApiResponse.success(bookService.suggestBooks(query, size));
+    }
+
+    @GetMapping("/isbn/{isbn}")
+    public ApiResponse<BookResponse> getByIsbn(@PathVariable String isbn) {
+        return ApiResponse.success(bookService.getBookByIsbn(isbn));
+    }
+
+    @GetMapping("/{bookId}")
+    public ApiResponse<BookResponse> getBook(@PathVariable Long bookId) {
+        return ApiResponse.success(bookService.getBook(bookId));
+    }
+
+    @PostMapping
+    public ApiResponse<BookResponse> createBook(@Valid @RequestBody CreateBookRequest request) {
+        return ApiResponse.success(bookService.createBook(request));
+    }
+
+    /**
+     * 카탈로그에 없는 책을 ISBN으로 외부 도서 API에서 가져와 등록 (일반 사용자 허용)
+     */
+    @PostMapping("/import")
+    public ApiResponse<ImportBooksResponse> importBooks(@Valid @RequestBody ImportBooksRequest request) {
+        return ApiResponse.success(bookService.importBooks(request));
+    }
+}
@@ -0,0 +1,40 @@
+package org.pagebyfeel.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.pagebyfeel.dto.request.UpdateReadingProgressRequest;
+import org.pagebyfeel.dto.response.ReadingRecordResponse;
+import org.pagebyfeel.security.oauth.CustomOAuth2User;
+import org.pagebyfeel.service.ReadingRecordService;
+import org.pagebyfeel.util.ApiResponse;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/reading-records")
+@RequiredArgsConstructor
+public class ReadingRecordController {
+
+    private final ReadingRecordService readingRecordService;
+
+    @GetMapping("/{bookId}")
+    public ApiResponse<ReadingRecordResponse> getReadingRecord(
+            @AuthenticationPrincipal CustomOAuth2User user,
+            @PathVariable Long bookId
+    ) {
+        return ApiResponse.success(readingRecordService.getReadingRecord(user.getUserId(), bookId));
+    }
+
+    /**
+     * 페이지를 넘길 때마다 호출된다. 현재 저장된 페이지보다 작은 값은 무시된다
+     */
+    @PutMapping("/{bookId}/progress")
+    public ApiResponse<Void> updateProgress(
+            @AuthenticationPrincipal CustomOAuth2User user,
+            @PathVariable Long bookId,
+            @Valid @RequestBody UpdateReadingProgressRequest request
+    ) {
+        readingRecordService.updateProgress(user.getUserId(), bookId, request);
+        return ApiResponse.success(null);
+    }
+}
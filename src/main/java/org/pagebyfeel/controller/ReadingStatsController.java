@@ -0,0 +1,35 @@
+package org.pagebyfeel.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.pagebyfeel.dto.response.ReadingStatsResponse;
+import org.pagebyfeel.security.oauth.CustomOAuth2User;
+import org.pagebyfeel.service.ReadingStatsService;
+import org.pagebyfeel.util.ApiResponse;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/reading-stats")
+@RequiredArgsConstructor
+public class ReadingStatsController {
+
+    private final ReadingStatsService readingStatsService;
+
+    @GetMapping
+    public ApiResponse<ReadingStatsResponse> getReadingStats(
+            @AuthenticationPrincipal CustomOAuth2User user,
+            @RequestParam(value = "days", defaultValue = "30") int days,
+            @RequestParam(value = "months", defaultValue = "12") int months
+    ) {
+        return ApiResponse.success(readingStatsService.getReadingStats(user.getUserId(), days, months));
+    }
+
+    /**
+     * 독서 로그로 전체 통계를 다시 계산 (관리자 전용). 백그라운드에서 실행되고 바로 반환된다
+     */
+    @PostMapping("/backfill")
+    public ApiResponse<Void> startBackfill() {
+        readingStatsService.startBackfill();
+        return ApiResponse.success(null);
+    }
+}
@@ -0,0 +1,34 @@
+package org.pagebyfeel.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateBookRequest {
+
+    @NotBlank(message = "ISBN은 필수입니다")
+    private String isbn;
+
+    @NotBlank(message = "제목은 필수입니다")
+    @Size(max = 255, message = "제목은 255자 이하여야 합니다")
+    private String title;
+
+    @NotBlank(message = "저자는 필수입니다")
+    @Size(max = 255, message = "저자는 255자 이하여야 합니다")
+    private String author;
+
+    @Size(max = 255, message = "출판사는 255자 이하여야 합니다")
+    private String publisher;
+
+    private LocalDate publishedDate;
+
+    @Size(max = 255, message = "표지 URL은 255자 이하여야 합니다")
+    private String coverImageUrl;
+}
@@ -0,0 +1,19 @@
+package org.pagebyfeel.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportBooksRequest {
+
+    @NotEmpty(message = "ISBN 목록은 필수입니다")
+    @Size(max = 50, message = "한 번에 50권까지 가져올 수 있습니다")
+    private List<String> isbns;
+}
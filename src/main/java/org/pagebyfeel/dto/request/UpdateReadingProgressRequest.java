@@ -0,0 +1,21 @@
+package org.pagebyfeel.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateReadingProgressRequest {
+
+    @NotNull(message = "페이지는 필수입니다")
+    @PositiveOrZero(message = "페이지는 0 이상이어야 합니다")
+    private Integer page;
+
+    @Positive(message = "전체 페이지 수는 1 이상이어야 합니다")
+    private Integer totalPages;
+}
@@ -0,0 +1,35 @@
+package org.pagebyfeel.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.pagebyfeel.entity.Book;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookResponse {
+    private Long bookId;
+    private String isbn;
+    private String title;
+    private String author;
+    private String publisher;
+    private LocalDate publishedDate;
+    private String coverImageUrl;
+
+    public static BookResponse from(Book book) {
+        return BookResponse.builder()
+                .bookId(book.getBookId())
+                .isbn(book.getIsbn())
+                .title(book.getTitle())
+                .author(book.getAuthor())
+                .publisher(book.getPublisher())
+                .publishedDate(book.getPublishedDate())
+                .coverImageUrl(book.getCoverImageUrl())
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package org.pagebyfeel.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 키셋 페이지네이션 결과. 다음 페이지는 nextCursor를 cursor 파라미터로 넘겨 조회하고, null이면 마지막 페이지
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSearchResponse {
+    private List<BookResponse> books;
+    private Long nextCursor;
+}
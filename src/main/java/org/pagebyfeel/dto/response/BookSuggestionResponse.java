@@ -0,0 +1,19 @@
+package org.pagebyfeel.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.pagebyfeel.autocomplete.AutocompleteEntry;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSuggestionResponse {
+    private Long bookId;
+    private String title;
+    private String author;
+
+    public static BookSuggestionResponse from(AutocompleteEntry entry) {
+        return new BookSuggestionResponse(entry.bookId(), entry.title(), entry.author());
+    }
+}
@@ -0,0 +1,18 @@
+package org.pagebyfeel.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 가져오기 결과. failedIsbns는 외부 도서 API 장애로 확인하지 못한 ISBN으로, 나중에 다시 요청할 수 있다
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportBooksResponse {
+    private List<BookResponse> books;
+    private List<String> failedIsbns;
+}
@@ -0,0 +1,63 @@
+package org.pagebyfeel.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.pagebyfeel.entity.ReadingRecord;
+import org.pagebyfeel.reading.ReadingProgress;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReadingRecordResponse {
+    private Long bookId;
+    private int currentPage;
+    private Integer totalPages;
+    private LocalDateTime startedAt;
+    private LocalDateTime lastReadAt;
+    private LocalDateTime finishedAt;
+
+    public static ReadingRecordResponse from(ReadingRecord record) {
+        return ReadingRecordResponse.builder()
+                .bookId(record.getBookId())
+                .currentPage(record.getCurrentPage())
+                .totalPages(record.getTotalPages())
+                .startedAt(record.getStartedAt())
+                .lastReadAt(record.getLastReadAt())
+                .finishedAt(record.getFinishedAt())
+                .build();
+    }
+
+    /**
+     * 아직 DB에 기록되지 않은 진행률만 있는 경우 (첫 갱신이 버퍼에 있음)
+     */
+    public static ReadingRecordResponse from(ReadingProgress progress) {
+        return ReadingRecordResponse.builder()
+                .bookId(progress.bookId())
+                .currentPage(progress.page())
+                .totalPages(progress.totalPages())
+                .startedAt(progress.readAt())
+                .lastReadAt(progress.readAt())
+                .finishedAt(progress.isFinished() ? progress.readAt() : null)
+                .build();
+    }
+
+    /**
+     * DB 기록에 버퍼의 더 앞선 진행률을 덮어쓴 결과
+     */
+    public ReadingRecordResponse withProgress(ReadingProgress progress) {
+        if (progress.page() <= currentPage) {
+            return this;
+        }
+        Integer total = progress.totalPages() != null ? progress.totalPages() : totalPages;
+        LocalDateTime finished = finishedAt;
+        if (finished == null && total != null && progress.page() >= total) {
+            finished = progress.readAt();
+        }
+        return new ReadingRecordResponse(bookId, progress.page(), total, startedAt, progress.readAt(), finished);
+    }
+}
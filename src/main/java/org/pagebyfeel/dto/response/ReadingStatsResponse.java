@@ -0,0 +1,38 @@
+package org.pagebyfeel.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.pagebyfeel.entity.ReadingStats;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadingStatsResponse {
+    private List<PeriodStats> daily;
+    private List<PeriodStats> monthly;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PeriodStats {
+        private LocalDate periodStart;
+        private long pagesRead;
+        private long readingSeconds;
+        private int booksFinished;
+
+        public static PeriodStats from(ReadingStats stats) {
+            return PeriodStats.builder()
+                    .periodStart(stats.getPeriodStart())
+                    .pagesRead(stats.getPagesRead())
+                    .readingSeconds(stats.getReadingSeconds())
+                    .booksFinished(stats.getBooksFinished())
+                    .build();
+        }
+    }
+}
@@ -1,4 +1,40 @@
 package org.pagebyfeel.entity;
 
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 도서 카탈로그. ISBN은 ISBN-13으로 정규화해 저장한다
+ * 검색용 search_vector 컬럼과 인덱스는 deploy/postgres/init/01-books.sql에서 관리한다 (엔티티에 매핑하지 않음)
+ */
+@Entity
+@Table(name = "books")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
 public class Book {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long bookId;
+
+    @Column(nullable = false, unique = true, length = 13)
+    private String isbn;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String author;
+
+    @Column
+    private String publisher;
+
+    @Column
+    private LocalDate publishedDate;
+
+    @Column
+    private String coverImageUrl;
 }
@@ -1,4 +1,48 @@
 package org.pagebyfeel.entity;
 
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 사용자별 책 읽기 진행 상황. (사용자, 책)마다 한 행이며 current_page는 줄어들지 않는다
+ * 진행률 갱신은 ReadingProgressBuffer가 모아서 JDBC 배치로 기록하므로 엔티티는 조회에만 쓴다
+ * 스키마는 deploy/postgres/init/02-reading-records.sql에서 관리한다
+ */
+@Entity
+@Table(
+        name = "reading_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reading_records_user_book", columnNames = {"user_id", "book_id"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
 public class ReadingRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long recordId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private Long bookId;
+
+    @Column(nullable = false)
+    private int currentPage;
+
+    @Column
+    private Integer totalPages;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime lastReadAt;
+
+    @Column
+    private LocalDateTime finishedAt;
 }
@@ -0,0 +1,49 @@
+package org.pagebyfeel.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * 사용자별 일/월 독서 통계 집계. 진행률이 기록될 때 같은 트랜잭션에서 증분으로 갱신된다
+ * period_start는 일 집계면 그 날짜, 월 집계면 그 달의 1일
+ * 스키마는 deploy/postgres/init/03-reading-stats.sql에서 관리한다
+ */
+@Entity
+@Table(
+        name = "reading_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_reading_stats_user_period",
+                columnNames = {"user_id", "period", "period_start"}
+        )
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReadingStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long statsId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 5)
+    private ReadingStatsPeriod period;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false)
+    private long pagesRead;
+
+    @Column(nullable = false)
+    private long readingSeconds;
+
+    @Column(nullable = false)
+    private int booksFinished;
+}
@@ -0,0 +1,6 @@
+package org.pagebyfeel.entity;
+
+public enum ReadingStatsPeriod {
+    DAY,
+    MONTH
+}
@@ -5,8 +5,11 @@ import org.pagebyfeel.exception.auth.AuthErrorCode;
 import org.pagebyfeel.exception.common.BusinessException;
 import org.pagebyfeel.exception.common.ErrorCode;
 import org.pagebyfeel.exception.common.ErrorResponse;
+import org.pagebyfeel.exception.common.ErrorResponseBodies;
+import org.pagebyfeel.exception.common.StacklessBusinessException;
 import org.pagebyfeel.exception.global.GlobalErrorCode;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
@@ -25,16 +28,20 @@ public class GlobalExceptionHandler {
 
     /**
      * BusinessException 처리
-     * 비즈니스 로직에서 발생하는 모든 커스텀 예외 처리
+     * 비즈니스 로직에서 발생하는 모든 커스텀 예외 처리. 응답 본문은 ErrorCode별로 미리 직렬화된 JSON을 사용
      */
     @ExceptionHandler(BusinessException.class)
-    public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException ex) {
-        log.warn("BusinessException occurred: {}", ex.getMessage());
+    public ResponseEntity<byte[]> handleBusinessException(BusinessException ex) {
+        if (ex instanceof StacklessBusinessException) {
+            log.debug("BusinessException occurred: {}", ex.getMessage());
+        } else {
+            log.warn("BusinessException occurred: {}", ex.getMessage());
+        }
         ErrorCode errorCode = ex.getErrorCode();
-        ErrorResponse response = ErrorResponse.of(errorCode);
         return ResponseEntity
                 .status(errorCode.getHttpStatus())
-                .body(response);
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(ErrorResponseBodies.of(errorCode));
     }
 
     /**
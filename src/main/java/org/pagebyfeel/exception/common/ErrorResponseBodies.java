@@ -0,0 +1,80 @@
+package org.pagebyfeel.exception.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ErrorCode별 ErrorResponse JSON을 미리 직렬화해 두고 timestamp만 이어 붙인다
+ * 필드 순서와 이름은 ErrorResponse의 Jackson 출력과 같고, timestamp는 초 단위로 캐시한다
+ */
+public final class ErrorResponseBodies {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final Map<ErrorCode, byte[]> PREFIXES = new ConcurrentHashMap<>();
+    private static volatile CachedTimestamp timestamp = new CachedTimestamp(-1, new byte[0]);
+
+    private ErrorResponseBodies() {
+    }
+
+    public static byte[] of(ErrorCode errorCode) {
+        byte[] prefix = PREFIXES.computeIfAbsent(errorCode, ErrorResponseBodies::serializePrefix);
+        byte[] now = currentTimestamp();
+
+        byte[] body = new byte[prefix.length + now.length + SUFFIX.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(now, 0, body, prefix.length, now.length);
+        System.arraycopy(SUFFIX, 0, body, prefix.length + now.length, SUFFIX.length);
+        return body;
+    }
+
+    /**
+     * 필터나 AuthenticationEntryPoint처럼 MVC 밖에서 에러 응답을 쓸 때 사용
+     */
+    public static void write(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        byte[] body = of(errorCode);
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] serializePrefix(ErrorCode errorCode) {
+        try {
+            String prefix = "{\"success\":false"
+                    + ",\"errorCode\":" + OBJECT_MAPPER.writeValueAsString(errorCode.name())
+                    + ",\"message\":" + OBJECT_MAPPER.writeValueAsString(errorCode.getMessage())
+                    + ",\"status\":" + errorCode.getHttpStatus().value()
+                    + ",\"timestamp\":\"";
+            return prefix.getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize error code: " + errorCode.name(), e);
+        }
+    }
+
+    private static byte[] currentTimestamp() {
+        long epochSecond = System.currentTimeMillis() / 1000;
+        CachedTimestamp cached = timestamp;
+        if (cached.epochSecond() != epochSecond) {
+            String formatted = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)
+                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+            cached = new CachedTimestamp(epochSecond, formatted.getBytes(StandardCharsets.UTF_8));
+            timestamp = cached;
+        }
+        return cached.bytes();
+    }
+
+    private record CachedTimestamp(long epochSecond, byte[] bytes) {
+    }
+}
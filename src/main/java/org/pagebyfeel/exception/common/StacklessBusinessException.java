@@ -0,0 +1,12 @@
+package org.pagebyfeel.exception.common;
+
+/**
+ * 만료 토큰처럼 정상 흐름에서 자주 발생하는 예외용 BusinessException
+ * 스택 트레이스를 수집하지 않아 생성 비용이 낮고, 로그도 debug 레벨로만 남긴다
+ */
+public class StacklessBusinessException extends BusinessException {
+
+    public StacklessBusinessException(ErrorCode errorCode) {
+        super(errorCode, errorCode.getMessage(), false);
+    }
+}
@@ -19,11 +19,17 @@ public enum GlobalErrorCode implements ErrorCode {
     
     // 외부 API 에러 (502 Bad Gateway)
     EXTERNAL_API_ERROR(HttpStatus.BAD_GATEWAY, "외부 API 호출 중 에러가 발생했습니다."),
+
+    // 일시적 장애 (503 Service Unavailable)
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "일시적으로 서비스를 이용할 수 없습니다. 잠시 후 다시 시도해주세요."),
     
     // 입력 검증 (400 Bad Request)
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "입력값이 올바르지 않습니다."),
     MISSING_REQUIRED_FIELD(HttpStatus.BAD_REQUEST, "필수 입력 항목이 누락되었습니다."),
     
+    // 요청 제한 (429 Too Many Requests)
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    
     // 리소스 관련 (404 Not Found)
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "요청한 리소스를 찾을 수 없습니다."),
     
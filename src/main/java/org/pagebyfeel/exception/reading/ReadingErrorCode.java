@@ -20,7 +20,10 @@ public enum ReadingErrorCode implements ErrorCode {
     INVALID_READING_DATE(HttpStatus.BAD_REQUEST, "독서 날짜가 올바르지 않습니다."),
     
     // 독서 기록 권한 관련 (403 Forbidden)
-    READING_RECORD_ACCESS_DENIED(HttpStatus.FORBIDDEN, "해당 독서 기록에 접근할 권한이 없습니다.");
+    READING_RECORD_ACCESS_DENIED(HttpStatus.FORBIDDEN, "해당 독서 기록에 접근할 권한이 없습니다."),
+    
+    // 독서 통계 관련 (409 Conflict)
+    READING_STATS_BACKFILL_IN_PROGRESS(HttpStatus.CONFLICT, "독서 통계 재구성이 이미 진행 중입니다.");
     
     private final HttpStatus httpStatus;
     private final String message;
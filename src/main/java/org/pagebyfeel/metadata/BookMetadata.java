@@ -0,0 +1,16 @@
+package org.pagebyfeel.metadata;
+
+import java.time.LocalDate;
+
+/**
+ * 외부 도서 API에서 가져온 도서 정보. isbn은 ISBN-13
+ */
+public record BookMetadata(
+        String isbn,
+        String title,
+        String author,
+        String publisher,
+        LocalDate publishedDate,
+        String coverImageUrl
+) {
+}
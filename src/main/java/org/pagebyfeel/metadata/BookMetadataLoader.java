@@ -0,0 +1,252 @@
+package org.pagebyfeel.metadata;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.pagebyfeel.service.RedisService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 외부 도서 API 조회 계층
+ * - Redis에 결과를 캐시하고, 어느 Provider에도 없던 ISBN도 짧은 TTL로 캐시한다 (negative cache)
+ * - 같은 ISBN의 동시 조회는 한 번의 외부 호출로 합친다 (single-flight)
+ * - 노드 전체의 동시 외부 호출 수를 제한해 Provider 장애가 요청 스레드를 모두 붙잡지 않게 한다
+ * Provider 호출이 실패한 경우는 일시적 장애일 수 있으므로 캐시하지 않는다
+ */
+@Slf4j
+public class BookMetadataLoader {
+
+    private static final String CACHE_PREFIX = "book_metadata:";
+
+    private final List<BookMetadataProvider> providers;
+    private final RedisService redisService;
+    private final Semaphore outboundPermits;
+    private final Duration permitTimeout;
+    private final Duration waitTimeout;
+    private final Duration foundTtl;
+    private final Duration notFoundTtl;
+    private final ExecutorService executor;
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<BookMetadata>>> inFlight =
+            new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter cacheHits;
+    private final Counter coalesced;
+
+    public BookMetadataLoader(List<BookMetadataProvider> providers,
+                              RedisService redisService,
+                              MeterRegistry meterRegistry,
+                              int maxConcurrentRequests,
+                              Duration permitTimeout,
+                              Duration waitTimeout,
+                              Duration foundTtl,
+                              Duration notFoundTtl) {
+        this.providers = providers.stream().filter(BookMetadataProvider::isConfigured).toList();
+        this.redisService = redisService;
+        this.outboundPermits = new Semaphore(maxConcurrentRequests);
+        this.permitTimeout = permitTimeout;
+        this.waitTimeout = waitTimeout;
+        this.foundTtl = foundTtl;
+        this.notFoundTtl = notFoundTtl;
+        this.meterRegistry = meterRegistry;
+        this.cacheHits = Counter.builder("book.metadata.lookups").tag("result", "cache_hit").register(meterRegistry);
+        this.coalesced = Counter.builder("book.metadata.lookups").tag("result", "coalesced").register(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrentRequests, runnable -> {
+            Thread thread = new Thread(runnable, "book-metadata-loader-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (this.providers.isEmpty()) {
+            log.warn("No book metadata provider is configured. External lookups will always miss.");
+        }
+    }
+
+    /**
+     * ISBN-13 하나의 도서 정보. 캐시에 없으면 Provider를 순서대로 조회한다
+     */
+    public Optional<BookMetadata> load(String isbn13) {
+        Object cached = redisService.get(CACHE_PREFIX + isbn13);
+        if (cached instanceof CachedBookMetadata entry) {
+            cacheHits.increment();
+            return Optional.ofNullable(entry.metadata());
+        }
+        return loadUncached(isbn13);
+    }
+
+    /**
+     * 여러 ISBN을 한 번의 MGET으로 캐시 확인한 뒤, 없는 것만 동시 호출 제한 안에서 병렬로 조회
+     * 배치 전체가 waitTimeout 하나를 기한으로 공유하며, 기한까지 끝나지 않은 조회는 취소하고 실패로 분류한다.
+     * 일부 ISBN의 조회가 실패해도 나머지 결과는 돌려주고, 실패한 ISBN은 따로 모은다
+     */
+    public BookMetadataLookup loadAll(Collection<String> isbns) {
+        List<String> keys = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            keys.add(CACHE_PREFIX + isbn);
+        }
+        List<Object> cached = redisService.multiGet(keys);
+
+        Map<String, BookMetadata> found = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Optional<BookMetadata>>> pending = new LinkedHashMap<>();
+        int i = 0;
+        for (String isbn : isbns) {
+            if (cached.get(i++) instanceof CachedBookMetadata entry) {
+                cacheHits.increment();
+                if (entry.metadata() != null) {
+                    found.put(isbn, entry.metadata());
+                }
+            } else {
+                pending.put(isbn, CompletableFuture.supplyAsync(() -> loadUncached(isbn), executor));
+            }
+        }
+
+        awaitBatch(pending.values());
+
+        List<String> failed = new ArrayList<>();
+        for (Map.Entry<String, CompletableFuture<Optional<BookMetadata>>> entry : pending.entrySet()) {
+            CompletableFuture<Optional<BookMetadata>> future = entry.getValue();
+            // 아직 실행 전인 조회는 취소되면 시작하지 않는다. 이미 호출 중인 조회는 클라이언트 read timeout에서 끝난다
+            if (!future.isDone()) {
+                future.cancel(false);
+            }
+            try {
+                future.join().ifPresent(metadata -> found.put(entry.getKey(), metadata));
+            } catch (CancellationException | CompletionException e) {
+                String errorCode = e.getCause() instanceof BusinessException businessException
+                        ? businessException.getErrorCode().name()
+                        : "DEADLINE_EXCEEDED";
+                log.warn("Book metadata lookup skipped. isbn={}, errorCode={}", entry.getKey(), errorCode);
+                failed.add(entry.getKey());
+            }
+        }
+        return new BookMetadataLookup(found, failed);
+    }
+
+    private void awaitBatch(Collection<CompletableFuture<Optional<BookMetadata>>> futures) {
+        if (futures.isEmpty()) {
+            return;
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 개별 실패는 호출한 쪽에서 ISBN별로 분류
+        } catch (TimeoutException e) {
+            log.warn("Book metadata batch lookup exceeded {} ms. Cancelling unfinished lookups.", waitTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Optional<BookMetadata> loadUncached(String isbn13) {
+        CompletableFuture<Optional<BookMetadata>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<BookMetadata>> existing = inFlight.putIfAbsent(isbn13, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            Optional<BookMetadata> result = fetchFromProviders(isbn13);
+            redisService.set(CACHE_PREFIX + isbn13, new CachedBookMetadata(result.orElse(null)),
+                    (result.isPresent() ? foundTtl : notFoundTtl).toSeconds(), TimeUnit.SECONDS);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(isbn13, mine);
+        }
+    }
+
+    private Optional<BookMetadata> fetchFromProviders(String isbn13) {
+        acquirePermit();
+        try {
+            boolean anyFailed = false;
+            for (BookMetadataProvider provider : providers) {
+                long start = System.nanoTime();
+                String outcome = "error";
+                try {
+                    Optional<BookMetadata> metadata = provider.fetch(isbn13);
+                    outcome = metadata.isPresent() ? "found" : "not_found";
+                    if (metadata.isPresent()) {
+                        return metadata;
+                    }
+                } catch (RuntimeException e) {
+                    anyFailed = true;
+                    log.warn("Book metadata lookup failed. provider={}, isbn={}, error={}",
+                            provider.getName(), isbn13, e.getMessage());
+                } finally {
+                    Timer.builder("book.metadata.fetch")
+                            .tag("provider", provider.getName())
+                            .tag("outcome", outcome)
+                            .register(meterRegistry)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+            if (anyFailed) {
+                throw new BusinessException(GlobalErrorCode.EXTERNAL_API_ERROR);
+            }
+            return Optional.empty();
+        } finally {
+            outboundPermits.release();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!outboundPermits.tryAcquire(permitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private Optional<BookMetadata> await(CompletableFuture<Optional<BookMetadata>> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(GlobalErrorCode.EXTERNAL_API_ERROR);
+        } catch (TimeoutException e) {
+            throw new BusinessException(GlobalErrorCode.EXTERNAL_API_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
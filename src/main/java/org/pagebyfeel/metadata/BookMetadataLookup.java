@@ -0,0 +1,12 @@
+package org.pagebyfeel.metadata;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 ISBN 조회 결과
+ * - found: 찾은 도서 정보 (요청 순서)
+ * - failed: Provider 장애나 대기 시간 초과로 확인하지 못한 ISBN. 어디에도 없는 ISBN은 양쪽 모두에 들어가지 않는다
+ */
+public record BookMetadataLookup(Map<String, BookMetadata> found, List<String> failed) {
+}
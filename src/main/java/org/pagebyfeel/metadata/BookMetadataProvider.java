@@ -0,0 +1,19 @@
+package org.pagebyfeel.metadata;
+
+import java.util.Optional;
+
+/**
+ * ISBN으로 도서 정보를 조회하는 외부 API
+ * 찾지 못하면 빈 값을, 호출 자체가 실패하면(타임아웃, 5xx 등) 예외를 던진다
+ */
+public interface BookMetadataProvider {
+
+    String getName();
+
+    /**
+     * API 키가 설정되지 않은 Provider는 조회 대상에서 빠진다
+     */
+    boolean isConfigured();
+
+    Optional<BookMetadata> fetch(String isbn13);
+}
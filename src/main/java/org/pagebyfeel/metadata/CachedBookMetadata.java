@@ -0,0 +1,7 @@
+package org.pagebyfeel.metadata;
+
+/**
+ * Redis에 저장하는 조회 결과. metadata가 null이면 모든 Provider에 없던 ISBN (negative cache)
+ */
+public record CachedBookMetadata(BookMetadata metadata) {
+}
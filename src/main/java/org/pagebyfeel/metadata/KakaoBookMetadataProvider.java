@@ -0,0 +1,88 @@
+package org.pagebyfeel.metadata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Kakao 책 검색 API (GET /v3/search/book?target=isbn)
+ * REST API 키는 로그인용 OAuth2 클라이언트 설정과 별개로 app.book-metadata.kakao.rest-api-key (KAKAO_REST_API_KEY)에서 읽고,
+ * 비어 있으면 이 Provider는 건너뛴다
+ */
+public class KakaoBookMetadataProvider implements BookMetadataProvider {
+
+    private final RestClient restClient;
+    private final String restApiKey;
+
+    public KakaoBookMetadataProvider(RestClient restClient, String restApiKey) {
+        this.restClient = restClient;
+        this.restApiKey = restApiKey;
+    }
+
+    @Override
+    public String getName() {
+        return "kakao";
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return restApiKey != null && !restApiKey.isBlank();
+    }
+
+    @Override
+    public Optional<BookMetadata> fetch(String isbn13) {
+        JsonNode response = restClient.get()
+                .uri(uri -> uri.path("/v3/search/book")
+                        .queryParam("target", "isbn")
+                        .queryParam("query", isbn13)
+                        .build())
+                .header("Authorization", "KakaoAK " + restApiKey)
+                .retrieve()
+                .body(JsonNode.class);
+        if (response == null) {
+            return Optional.empty();
+        }
+
+        // isbn 필드는 "ISBN10 ISBN13" 형식
+        for (JsonNode document : response.path("documents")) {
+            if (!document.path("isbn").asText().contains(isbn13) || document.path("title").asText().isBlank()) {
+                continue;
+            }
+            String datetime = document.path("datetime").asText();
+            return Optional.of(new BookMetadata(
+                    isbn13,
+                    document.path("title").asText().strip(),
+                    String.join(", ", authors(document.path("authors"))),
+                    blankToNull(document.path("publisher").asText()),
+                    parseDate(datetime),
+                    blankToNull(document.path("thumbnail").asText())
+            ));
+        }
+        return Optional.empty();
+    }
+
+    private static List<String> authors(JsonNode authors) {
+        List<String> names = new ArrayList<>();
+        for (JsonNode author : authors) {
+            names.add(author.asText().strip());
+        }
+        return names;
+    }
+
+    private static LocalDate parseDate(String datetime) {
+        try {
+            return datetime.length() >= 10 ? LocalDate.parse(datetime.substring(0, 10)) : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,81 @@
+package org.pagebyfeel.metadata;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Naver 책 상세 검색 API (GET /v1/search/book_adv.json?d_isbn=). 검색 API 사용이 등록된 애플리케이션의 키가 필요하다
+ */
+public class NaverBookMetadataProvider implements BookMetadataProvider {
+
+    private static final DateTimeFormatter PUBDATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RestClient restClient;
+    private final String clientId;
+    private final String clientSecret;
+
+    public NaverBookMetadataProvider(RestClient restClient, String clientId, String clientSecret) {
+        this.restClient = restClient;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+    }
+
+    @Override
+    public String getName() {
+        return "naver";
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return clientId != null && !clientId.isBlank() && clientSecret != null && !clientSecret.isBlank();
+    }
+
+    @Override
+    public Optional<BookMetadata> fetch(String isbn13) {
+        JsonNode response = restClient.get()
+                .uri(uri -> uri.path("/v1/search/book_adv.json")
+                        .queryParam("d_isbn", isbn13)
+                        .build())
+                .header("X-Naver-Client-Id", clientId)
+                .header("X-Naver-Client-Secret", clientSecret)
+                .retrieve()
+                .body(JsonNode.class);
+        if (response == null) {
+            return Optional.empty();
+        }
+
+        for (JsonNode item : response.path("items")) {
+            if (!item.path("isbn").asText().contains(isbn13) || item.path("title").asText().isBlank()) {
+                continue;
+            }
+            // 저자가 여러 명이면 '^'로 구분된다
+            String pubdate = item.path("pubdate").asText();
+            return Optional.of(new BookMetadata(
+                    isbn13,
+                    item.path("title").asText().strip(),
+                    item.path("author").asText().replace("^", ", ").strip(),
+                    blankToNull(item.path("publisher").asText()),
+                    parseDate(pubdate),
+                    blankToNull(item.path("image").asText())
+            ));
+        }
+        return Optional.empty();
+    }
+
+    private static LocalDate parseDate(String pubdate) {
+        try {
+            return pubdate.length() == 8 ? LocalDate.parse(pubdate, PUBDATE_FORMAT) : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
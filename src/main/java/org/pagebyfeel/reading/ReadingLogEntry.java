@@ -0,0 +1,22 @@
+package org.pagebyfeel.reading;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 반영된 진행률 갱신 한 건 (reading_progress_log 행). 일/월 통계는 이 로그의 합계다
+ * 진행률은 줄어들지 않으므로 (userId, bookId, toPage)가 갱신을 유일하게 식별하고, 같은 갱신을 다시 적재해도 한 번만 집계된다
+ */
+public record ReadingLogEntry(
+        UUID userId,
+        Long bookId,
+        int fromPage,
+        int toPage,
+        LocalDateTime readAt,
+        int readingSeconds,
+        boolean finished
+) {
+    public int pagesRead() {
+        return toPage - fromPage;
+    }
+}
@@ -0,0 +1,53 @@
+package org.pagebyfeel.reading;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 독서 진행률 갱신 한 건
+ * 쓰기 버퍼에는 "<userId>:<bookId>" 필드에 "<page>|<totalPages>|<readAt>" 값으로 저장한다 (totalPages가 없으면 빈 문자열)
+ */
+public record ReadingProgress(UUID userId, Long bookId, int page, Integer totalPages, LocalDateTime readAt) {
+
+    private static final char FIELD_SEPARATOR = ':';
+    private static final char VALUE_SEPARATOR = '|';
+
+    public boolean isFinished() {
+        return totalPages != null && page >= totalPages;
+    }
+
+    static String bufferField(UUID userId, Long bookId) {
+        return userId.toString() + FIELD_SEPARATOR + bookId;
+    }
+
+    String bufferField() {
+        return bufferField(userId, bookId);
+    }
+
+    String bufferValue() {
+        return String.valueOf(page) + VALUE_SEPARATOR
+                + (totalPages == null ? "" : totalPages.toString()) + VALUE_SEPARATOR
+                + readAt;
+    }
+
+    /**
+     * 버퍼의 필드와 값으로 복원. 형식이 맞지 않으면 IllegalArgumentException
+     */
+    static ReadingProgress fromBuffer(String field, String value) {
+        int fieldSeparator = field.indexOf(FIELD_SEPARATOR);
+        int first = value.indexOf(VALUE_SEPARATOR);
+        int second = value.indexOf(VALUE_SEPARATOR, first + 1);
+        if (fieldSeparator < 0 || first < 0 || second < 0) {
+            throw new IllegalArgumentException("Malformed reading progress entry: " + field + "=" + value);
+        }
+
+        String totalPages = value.substring(first + 1, second);
+        return new ReadingProgress(
+                UUID.fromString(field.substring(0, fieldSeparator)),
+                Long.parseLong(field.substring(fieldSeparator + 1)),
+                Integer.parseInt(value.substring(0, first)),
+                totalPages.isEmpty() ? null : Integer.valueOf(totalPages),
+                LocalDateTime.parse(value.substring(second + 1))
+        );
+    }
+}
@@ -0,0 +1,144 @@
+package org.pagebyfeel.reading;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 독서 진행률 쓰기 버퍼
+ * 요청마다 DB 트랜잭션을 만드는 대신 Redis 해시에 (사용자, 책)별 최신 페이지만 남기고, 주기적으로 모아 JDBC 배치로 기록한다.
+ * 버퍼가 Redis에 있으므로 노드가 재시작되어도 기록 전 갱신이 사라지지 않고, 어느 노드든 다음 flush에서 이어서 기록한다.
+ * Redis를 쓸 수 없으면 해당 갱신은 버퍼 없이 바로 DB에 기록한다
+ */
+@Slf4j
+@Component
+public class ReadingProgressBuffer {
+
+    private static final Comparator<ReadingProgress> FLUSH_ORDER = Comparator
+            .comparing(ReadingProgress::userId)
+            .thenComparing(ReadingProgress::bookId);
+
+    private final RedisService redisService;
+    private final ReadingProgressWriter progressWriter;
+    private final int flushBatchSize;
+    private final Duration flushLease;
+    // 노드별 lease 토큰. 같은 노드는 실패한 flush를 lease 만료를 기다리지 않고 다시 시도할 수 있다
+    private final String leaseToken = UUID.randomUUID().toString();
+
+    private final Counter buffered;
+    private final Counter ignored;
+    private final Counter direct;
+    private final Counter flushedRows;
+    private final Timer flushTimer;
+
+    public ReadingProgressBuffer(
+            RedisService redisService,
+            ReadingProgressWriter progressWriter,
+            MeterRegistry meterRegistry,
+            @Value("${app.reading-progress.flush-batch-size:500}") int flushBatchSize,
+            @Value("${app.reading-progress.flush-lease-ms:30000}") long flushLeaseMs
+    ) {
+        this.redisService = redisService;
+        this.progressWriter = progressWriter;
+        this.flushBatchSize = flushBatchSize;
+        this.flushLease = Duration.ofMillis(flushLeaseMs);
+        this.buffered = Counter.builder("reading.progress.updates").tag("result", "buffered").register(meterRegistry);
+        this.ignored = Counter.builder("reading.progress.updates").tag("result", "ignored").register(meterRegistry);
+        this.direct = Counter.builder("reading.progress.updates").tag("result", "direct").register(meterRegistry);
+        this.flushedRows = Counter.builder("reading.progress.flushed.rows").register(meterRegistry);
+        this.flushTimer = Timer.builder("reading.progress.flush").register(meterRegistry);
+    }
+
+    /**
+     * 진행률 갱신을 버퍼에 추가. 버퍼에 이미 같거나 큰 페이지가 있으면 무시된다
+     */
+    public void submit(ReadingProgress progress) {
+        Boolean stored = redisService.bufferReadingProgress(progress.bufferField(), progress.page(), progress.bufferValue());
+        if (stored == null) {
+            direct.increment();
+            progressWriter.write(List.of(progress));
+            return;
+        }
+        (stored ? buffered : ignored).increment();
+    }
+
+    /**
+     * 아직 DB에 기록되지 않은 가장 앞선 진행률
+     */
+    public Optional<ReadingProgress> getBuffered(UUID userId, Long bookId) {
+        String field = ReadingProgress.bufferField(userId, bookId);
+        ReadingProgress latest = null;
+        for (String value : redisService.getBufferedReadingProgress(field)) {
+            ReadingProgress progress = ReadingProgress.fromBuffer(field, value);
+            if (latest == null || progress.page() > latest.page()) {
+                latest = progress;
+            }
+        }
+        return Optional.ofNullable(latest);
+    }
+
+    /**
+     * 버퍼를 가져와 (user_id, book_id) 순으로 정렬한 뒤 flush-batch-size 단위 트랜잭션으로 기록
+     * 기록 중 실패하면 ack하지 않으므로 다음 flush에서 같은 내용을 다시 기록한다 (조건부 upsert라 중복 반영되지 않음)
+     */
+    @Scheduled(
+            initialDelayString = "${app.reading-progress.flush-interval-ms:1000}",
+            fixedDelayString = "${app.reading-progress.flush-interval-ms:1000}"
+    )
+    public void flush() {
+        Map<String, String> claimed = redisService.claimReadingProgress(leaseToken, flushLease);
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        List<ReadingProgress> updates = new ArrayList<>(claimed.size());
+        claimed.forEach((field, value) -> {
+            try {
+                updates.add(ReadingProgress.fromBuffer(field, value));
+            } catch (RuntimeException e) {
+                log.warn("Dropping malformed reading progress entry. field={}, value={}", field, value);
+            }
+        });
+        // 같은 행을 갱신하는 다른 트랜잭션(직접 기록)과 잠금 순서를 맞춘다
+        updates.sort(FLUSH_ORDER);
+
+        int applied = 0;
+        try {
+            for (int from = 0; from < updates.size(); from += flushBatchSize) {
+                applied += progressWriter.write(updates.subList(from, Math.min(from + flushBatchSize, updates.size())));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} reading progress updates. Retrying on next flush: {}",
+                    updates.size(), e.getMessage());
+            return;
+        }
+
+        if (!redisService.ackReadingProgress(leaseToken)) {
+            log.warn("Reading progress flush lease expired before ack. Another node will write the same updates again.");
+        }
+        flushedRows.increment(applied);
+        flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        log.debug("Flushed reading progress. claimed={}, applied={}", updates.size(), applied);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
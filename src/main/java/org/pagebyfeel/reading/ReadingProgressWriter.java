@@ -0,0 +1,85 @@
+package org.pagebyfeel.reading;
+
+import org.pagebyfeel.entity.ReadingRecord;
+import org.pagebyfeel.repository.ReadingRecordRepository;
+import org.pagebyfeel.repository.ReadingStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 진행률 갱신 한 묶음을 DB에 기록하고, 같은 트랜잭션에서 반영된 만큼을 독서 로그와 일/월 통계에 더한다
+ * 반영되지 않은 갱신(재전송, 늦게 도착한 이전 페이지)은 로그에도 통계에도 들어가지 않으므로 같은 묶음을 다시 기록해도 통계가 두 번 늘지 않는다
+ */
+@Component
+public class ReadingProgressWriter {
+
+    private final ReadingRecordRepository readingRecordRepository;
+    private final ReadingStatsRepository readingStatsRepository;
+    private final Duration sessionGap;
+
+    public ReadingProgressWriter(
+            ReadingRecordRepository readingRecordRepository,
+            ReadingStatsRepository readingStatsRepository,
+            @Value("${app.reading-stats.session-gap-minutes:10}") long sessionGapMinutes
+    ) {
+        this.readingRecordRepository = readingRecordRepository;
+        this.readingStatsRepository = readingStatsRepository;
+        this.sessionGap = Duration.ofMinutes(sessionGapMinutes);
+    }
+
+    /**
+     * updates는 (user_id, book_id)마다 한 건이어야 한다. 반환값은 반영된 갱신 수
+     */
+    @Transactional
+    public int write(List<ReadingProgress> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> userIds = new ArrayList<>(updates.size());
+        for (ReadingProgress update : updates) {
+            userIds.add(update.userId());
+        }
+        readingStatsRepository.lockBucketsShared(userIds);
+
+        Map<String, ReadingRecord> previous = new HashMap<>();
+        for (ReadingRecord record : readingRecordRepository.lockRecords(updates)) {
+            previous.put(ReadingProgress.bufferField(record.getUserId(), record.getBookId()), record);
+        }
+
+        List<ReadingProgress> applied = readingRecordRepository.upsertProgress(updates);
+        List<ReadingLogEntry> entries = new ArrayList<>(applied.size());
+        for (ReadingProgress update : applied) {
+            entries.add(toLogEntry(update, previous.get(update.bufferField())));
+        }
+        readingStatsRepository.addToRollups(readingStatsRepository.appendLog(entries));
+        return applied.size();
+    }
+
+    /**
+     * 직전 기록과의 차이를 로그 항목으로. 직전 갱신과의 간격이 session-gap 이내면 그 시간을 읽은 시간으로 본다
+     * 완독은 이번 갱신으로 처음 끝 페이지에 도달한 경우만 센다
+     */
+    ReadingLogEntry toLogEntry(ReadingProgress update, ReadingRecord previous) {
+        if (previous == null) {
+            return new ReadingLogEntry(update.userId(), update.bookId(), 0, update.page(), update.readAt(), 0,
+                    update.isFinished());
+        }
+
+        Duration gap = Duration.between(previous.getLastReadAt(), update.readAt());
+        int readingSeconds = gap.isNegative() || gap.compareTo(sessionGap) > 0 ? 0 : (int) gap.toSeconds();
+        Integer totalPages = update.totalPages() != null ? update.totalPages() : previous.getTotalPages();
+        boolean finished = previous.getFinishedAt() == null && totalPages != null && update.page() >= totalPages;
+
+        return new ReadingLogEntry(update.userId(), update.bookId(), previous.getCurrentPage(), update.page(),
+                update.readAt(), readingSeconds, finished);
+    }
+}
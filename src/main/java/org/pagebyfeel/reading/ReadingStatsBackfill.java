@@ -0,0 +1,98 @@
+package org.pagebyfeel.reading;
+
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.repository.ReadingStatsBatchRepository;
+import org.pagebyfeel.repository.ReadingStatsRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 독서 로그에서 일/월 통계 전체를 다시 계산하는 작업
+ * 사용자를 user_id 첫 바이트 기준 256개 버킷으로 나누고, 버킷 하나를 한 트랜잭션으로 여러 스레드에서 병렬 처리한다.
+ * 버킷을 처리하는 동안 그 버킷 사용자의 진행률 flush만 잠시 기다리고, 나머지 사용자의 증분 갱신은 계속된다.
+ * 실패한 버킷은 롤백되어 기존 통계가 남으므로 다시 실행하면 된다
+ */
+@Slf4j
+@Component
+public class ReadingStatsBackfill {
+
+    private final ReadingStatsRepository readingStatsRepository;
+    private final int parallelism;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public ReadingStatsBackfill(
+            ReadingStatsRepository readingStatsRepository,
+            @Value("${app.reading-stats.backfill-parallelism:4}") int parallelism
+    ) {
+        this.readingStatsRepository = readingStatsRepository;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 백그라운드 스레드에서 재구성을 시작. 이미 실행 중이면 false
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuildAll();
+            } finally {
+                running.set(false);
+            }
+        }, "reading-stats-backfill");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * 모든 버킷을 재구성하고 실패한 버킷 수를 반환
+     */
+    int rebuildAll() {
+        long started = System.nanoTime();
+        AtomicInteger rows = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> futures = new ArrayList<>(ReadingStatsBatchRepository.BUCKET_COUNT);
+            for (int bucket = 0; bucket < ReadingStatsBatchRepository.BUCKET_COUNT; bucket++) {
+                int target = bucket;
+                futures.add(executor.submit(() -> rows.addAndGet(readingStatsRepository.rebuildBucket(target))));
+            }
+
+            int failed = 0;
+            for (int bucket = 0; bucket < futures.size(); bucket++) {
+                try {
+                    futures.get(bucket).get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.warn("Failed to rebuild reading stats bucket {}: {}", bucket, e.getCause().getMessage());
+                }
+            }
+
+            log.info("Reading stats rebuilt. buckets={}, failed={}, rows={}, elapsed={}ms",
+                    futures.size(), failed, rows.get(), (System.nanoTime() - started) / 1_000_000);
+            return failed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Reading stats rebuild interrupted");
+            return ReadingStatsBatchRepository.BUCKET_COUNT;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
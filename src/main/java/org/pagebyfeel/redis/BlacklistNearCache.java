@@ -0,0 +1,162 @@
+package org.pagebyfeel.redis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 블랙리스트 토큰의 로컬 Bloom filter near-cache
+ * 필터가 "없음"이라고 답하면 Redis 조회를 생략하고, "있을 수 있음"일 때만 Redis에 확인한다.
+ * 다른 노드의 추가분은 Redis pub/sub으로 전달받고, 만료된 항목은 주기적인 재구성으로 정리한다.
+ * 구독이 끊겼다가 다시 연결되면 그 사이의 메시지를 받지 못했으므로 Redis 조회로 돌아가고 필터를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class BlacklistNearCache implements MessageListener, SubscriptionListener {
+
+    public static final String BLACKLIST_CHANNEL = "channel:blacklist";
+    private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long expectedInsertions;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuildingFilter;
+    private volatile boolean ready = false;
+
+    // add()의 이중 기록과 rebuild()의 필터 교체를 묶는 잠금. 교체 직전에 들어온 항목이 버려지는 필터에만 기록되지 않게 한다
+    private final Object swapLock = new Object();
+    // 구독이 (재)연결될 때마다 증가. 그 전에 시작한 재구성은 끊긴 동안의 항목을 놓쳤을 수 있으므로 ready로 만들지 않는다
+    private final AtomicLong subscriptionGeneration = new AtomicLong();
+    private final AtomicBoolean resyncPending = new AtomicBoolean();
+
+    public BlacklistNearCache(
+            RedisTemplate<String, String> stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${app.blacklist.near-cache.expected-insertions:100000}") long expectedInsertions
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(BLACKLIST_CHANNEL));
+    }
+
+    /**
+     * false면 블랙리스트에 확실히 없음. 필터가 아직 준비되지 않았다면 항상 true를 반환해 Redis 조회로 넘긴다
+     */
+    public boolean mightContain(String tokenId) {
+        return !ready || filter.mightContain(tokenId);
+    }
+
+    public void add(String tokenId) {
+        synchronized (swapLock) {
+            filter.put(tokenId);
+            if (rebuildingFilter != null) {
+                rebuildingFilter.put(tokenId);
+            }
+        }
+    }
+
+    public void publish(String tokenId) {
+        stringRedisTemplate.convertAndSend(BLACKLIST_CHANNEL, tokenId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 최초 구독과 연결 복구 후 재구독 모두 호출된다. 구독이 없던 동안 놓친 메시지가 있을 수 있으므로
+     * 곧바로 Redis 조회로 돌아가고 백그라운드에서 필터를 다시 만든다 (구독 스레드에서 SCAN을 돌리지 않는다)
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        subscriptionGeneration.incrementAndGet();
+        ready = false;
+        if (!resyncPending.compareAndSet(false, true)) {
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            resyncPending.set(false);
+            rebuild();
+        }, "blacklist-near-cache-resync");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * Bloom filter는 삭제를 지원하지 않으므로 TTL로 사라진 키를 반영하기 위해 주기적으로 다시 만든다
+     */
+    @Scheduled(
+            initialDelayString = "${app.blacklist.near-cache.rebuild-interval-ms:600000}",
+            fixedDelayString = "${app.blacklist.near-cache.rebuild-interval-ms:600000}"
+    )
+    public synchronized void rebuild() {
+        long generation = subscriptionGeneration.get();
+        long sizeHint = Math.max(expectedInsertions, filter.getInsertionCount() * 2);
+        BloomFilter next = new BloomFilter(sizeHint, FALSE_POSITIVE_RATE);
+        synchronized (swapLock) {
+            rebuildingFilter = next;
+        }
+
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(BLACKLIST_PREFIX + "*")
+                .count(1000)
+                .build();
+
+        long loaded = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                next.put(cursor.next().substring(BLACKLIST_PREFIX.length()));
+                loaded++;
+            }
+            synchronized (swapLock) {
+                filter = next;
+                rebuildingFilter = null;
+                // 재구성 중에 재구독되었다면 다음 재구성(resync)이 끝날 때까지 Redis 조회를 유지
+                ready = generation == subscriptionGeneration.get();
+            }
+            log.info("Blacklist near-cache rebuilt with {} entries", loaded);
+        } catch (Exception e) {
+            log.error("Failed to rebuild blacklist near-cache. Falling back to Redis lookups until next rebuild.", e);
+            synchronized (swapLock) {
+                rebuildingFilter = null;
+                ready = false;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+}
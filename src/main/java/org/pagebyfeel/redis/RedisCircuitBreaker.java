@@ -0,0 +1,195 @@
+package org.pagebyfeel.redis;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.pagebyfeel.timing.RequestTiming;
+import org.pagebyfeel.timing.RequestTimings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Redis 호출용 서킷 브레이커
+ * 연속 실패(예외 또는 지연 예산 초과)가 임계치에 도달하면 OPEN 상태가 되어 Redis를 호출하지 않고 즉시 장애 동작을 수행한다.
+ * OPEN 유지 시간이 지나면 HALF_OPEN으로 전환해 한 번의 시험 호출로 복구 여부를 확인한다
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtNanos;
+
+    private final Map<RedisOperation, OperationStats> stats = new EnumMap<>(RedisOperation.class);
+
+    public RedisCircuitBreaker(
+            @Value("${app.redis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${app.redis.circuit-breaker.open-duration-ms:5000}") long openDurationMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = Duration.ofMillis(openDurationMillis).toNanos();
+        for (RedisOperation operation : RedisOperation.values()) {
+            stats.put(operation, new OperationStats(meterRegistry, operation));
+        }
+        Gauge.builder("redis.circuit.breaker.state", state, current -> current.get().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Redis 작업 실행. 실패하거나 서킷이 열려 있으면 작업의 FailureMode에 따라
+     * fallback 값을 반환(FAIL_OPEN)하거나 SERVICE_UNAVAILABLE 예외를 던진다(FAIL_CLOSED)
+     */
+    public <T> T execute(RedisOperation operation, Supplier<T> call, Supplier<T> fallback) {
+        OperationStats operationStats = stats.get(operation);
+
+        if (!tryAcquirePermission()) {
+            operationStats.rejected.increment();
+            return degrade(operation, fallback);
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            long elapsed = System.nanoTime() - start;
+            operationStats.calls.increment();
+            operationStats.timer.record(elapsed, TimeUnit.NANOSECONDS);
+            RequestTimings.recordDuration(RequestTiming.Stage.REDIS, elapsed);
+
+            if (elapsed > operation.getLatencyBudget().toNanos()) {
+                operationStats.slowCalls.increment();
+                log.warn("Redis operation {} exceeded latency budget: {}ms", operation, elapsed / 1_000_000);
+                onFailure();
+            } else {
+                onSuccess();
+            }
+            return result;
+        } catch (RuntimeException e) {
+            long elapsed = System.nanoTime() - start;
+            operationStats.calls.increment();
+            operationStats.timer.record(elapsed, TimeUnit.NANOSECONDS);
+            RequestTimings.recordDuration(RequestTiming.Stage.REDIS, elapsed);
+            operationStats.failures.increment();
+            log.error("Redis operation {} failed", operation, e);
+            onFailure();
+            return degrade(operation, fallback);
+        }
+    }
+
+    public void execute(RedisOperation operation, Runnable call) {
+        execute(operation, () -> {
+            call.run();
+            return null;
+        }, () -> null);
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public long getCallCount(RedisOperation operation) {
+        return stats.get(operation).calls.sum();
+    }
+
+    public long getFailureCount(RedisOperation operation) {
+        return stats.get(operation).failures.sum();
+    }
+
+    public long getSlowCallCount(RedisOperation operation) {
+        return stats.get(operation).slowCalls.sum();
+    }
+
+    public long getRejectedCount(RedisOperation operation) {
+        return stats.get(operation).rejected.sum();
+    }
+
+    private boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.nanoTime() - openedAtNanos >= openDurationNanos) {
+            // 한 스레드만 HALF_OPEN 시험 호출을 수행
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                log.info("Redis circuit breaker half-open. Probing Redis.");
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() != State.CLOSED) {
+            state.set(State.CLOSED);
+            log.info("Redis circuit breaker closed.");
+        }
+    }
+
+    private void onFailure() {
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if (current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold)) {
+            openedAtNanos = System.nanoTime();
+            state.set(State.OPEN);
+            log.error("Redis circuit breaker opened after {} consecutive failures.", failures);
+        }
+    }
+
+    private <T> T degrade(RedisOperation operation, Supplier<T> fallback) {
+        if (operation.getFailureMode() == RedisOperation.FailureMode.FAIL_CLOSED) {
+            throw new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
+        }
+        return fallback.get();
+    }
+
+    private static class OperationStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final Timer timer;
+
+        private OperationStats(MeterRegistry meterRegistry, RedisOperation operation) {
+            String name = operation.name().toLowerCase();
+            this.timer = Timer.builder("redis.operation")
+                    .description("실제로 Redis를 호출한 작업의 소요 시간 (서킷 OPEN으로 건너뛴 호출 제외)")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            registerCounter(meterRegistry, name, "failure", failures);
+            registerCounter(meterRegistry, name, "slow", slowCalls);
+            registerCounter(meterRegistry, name, "rejected", rejected);
+        }
+
+        private static void registerCounter(MeterRegistry meterRegistry, String operation, String event, LongAdder count) {
+            FunctionCounter.builder("redis.circuit.breaker.events", count, LongAdder::sum)
+                    .tag("operation", operation)
+                    .tag("event", event)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package org.pagebyfeel.redis;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 여러 요청 스레드의 단건 쓰기 명령을 모아 하나의 파이프라인으로 전송하는 배처 (app.redis.batcher.enabled=true일 때만 사용)
+ * 별도 대기 시간 없이 직전 파이프라인이 끝나는 즉시 쌓인 명령을 전송하므로, 부하가 낮으면 단건 호출과 같고 높을수록 배치가 커진다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.redis.batcher", name = "enabled", havingValue = "true")
+public class RedisCommandBatcher {
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final int maxBatchSize;
+    private final Duration waitTimeout;
+    private final BlockingQueue<PendingCommand> queue = new LinkedBlockingQueue<>();
+    private final Thread flusher;
+
+    private final LongAdder flushCount = new LongAdder();
+    private final LongAdder commandCount = new LongAdder();
+
+    private volatile boolean running = true;
+    // flusher 스레드 전용 연결. 파이프라인은 전용 연결을 쓰므로 flush마다 새 연결을 열지 않도록 계속 재사용한다
+    private RedisConnection connection;
+
+    public RedisCommandBatcher(
+            RedisTemplate<String, String> stringRedisTemplate,
+            @Value("${app.redis.batcher.max-batch-size:128}") int maxBatchSize,
+            @Value("${app.redis.batcher.wait-timeout-ms:500}") long waitTimeoutMs
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxBatchSize = maxBatchSize;
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMs);
+        this.flusher = new Thread(this::runFlushLoop, "redis-command-batcher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /**
+     * 쓰기 명령을 다음 파이프라인에 추가. 결과 값이 필요한 명령은 배처를 거치지 않는다
+     */
+    public CompletableFuture<Void> submit(Consumer<RedisConnection> command) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("Redis command batcher is shut down"));
+            return future;
+        }
+        PendingCommand pending = new PendingCommand(command, future);
+        queue.add(pending);
+        // shutdown()이 큐를 비운 뒤에 추가되었다면 아무도 꺼내지 않으므로 직접 실패 처리한다.
+        // 아직 큐에 남아 있을 때만 제거에 성공하므로 shutdown()이 가져간 명령과 겹치지 않는다
+        if (!running && queue.remove(pending)) {
+            future.completeExceptionally(new IllegalStateException("Redis command batcher is shut down"));
+        }
+        return future;
+    }
+
+    /**
+     * 명령을 다음 파이프라인에 추가하고 최대 wait-timeout-ms만큼 완료를 기다린다.
+     * 시간 안에 끝나지 않으면 QueryTimeoutException (명령은 이후에 실행될 수 있다)
+     */
+    public void execute(Consumer<RedisConnection> command) {
+        CompletableFuture<Void> future = submit(command);
+        try {
+            future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Batched Redis command did not complete within " + waitTimeout.toMillis() + "ms", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a batched Redis command", e);
+        }
+    }
+
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+
+    public long getCommandCount() {
+        return commandCount.sum();
+    }
+
+    private void runFlushLoop() {
+        List<PendingCommand> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingCommand> batch) {
+        try {
+            if (connection == null || connection.isClosed()) {
+                connection = stringRedisTemplate.getRequiredConnectionFactory().getConnection();
+            }
+            connection.openPipeline();
+            for (PendingCommand pending : batch) {
+                pending.command().accept(connection);
+            }
+            connection.closePipeline();
+            batch.forEach(pending -> pending.future().complete(null));
+        } catch (Exception e) {
+            log.warn("Pipelined flush of {} Redis commands failed", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            // 상태를 알 수 없는 연결은 버리고 다음 flush에서 새로 연다
+            closeConnection();
+        }
+
+        flushCount.increment();
+        commandCount.add(batch.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingCommand> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (flusher.isAlive()) {
+            // flusher가 아직 연결을 쓰고 있으므로 남은 명령은 보내지 않고 실패 처리
+            IllegalStateException shutDown = new IllegalStateException("Redis command batcher is shut down");
+            remaining.forEach(pending -> pending.future().completeExceptionally(shutDown));
+            return;
+        }
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        closeConnection();
+    }
+
+    private void closeConnection() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (Exception e) {
+            log.debug("Failed to close Redis command batcher connection", e);
+        }
+        connection = null;
+    }
+
+    private record PendingCommand(Consumer<RedisConnection> command, CompletableFuture<Void> future) {
+    }
+}
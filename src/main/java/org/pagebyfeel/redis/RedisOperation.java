@@ -0,0 +1,74 @@
+package org.pagebyfeel.redis;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * RedisService가 수행하는 작업별 지연 예산과 장애 시 동작
+ * 예산을 넘긴 호출은 결과와 상관없이 서킷 브레이커에 실패로 기록된다
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RedisOperation {
+
+    // Refresh Token - 교체는 Fail-Closed (잘못된 토큰 교체 허용 금지)
+    SAVE_REFRESH_TOKEN(Duration.ofMillis(200), FailureMode.FAIL_OPEN),
+    ROTATE_REFRESH_TOKEN(Duration.ofMillis(200), FailureMode.FAIL_CLOSED),
+    MIGRATE_LEGACY_REFRESH_TOKEN(Duration.ofMillis(200), FailureMode.FAIL_CLOSED),
+    DELETE_REFRESH_TOKEN(Duration.ofMillis(200), FailureMode.FAIL_OPEN),
+    HAS_REFRESH_TOKEN(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+
+    // 블랙리스트 - 조회는 가용성을 위해 Fail-Open
+    ADD_TO_BLACKLIST(Duration.ofMillis(200), FailureMode.FAIL_OPEN),
+    IS_BLACKLISTED(Duration.ofMillis(50), FailureMode.FAIL_OPEN),
+
+    // 토큰 epoch - "모든 기기 로그아웃"은 조용히 실패하면 안 되므로 Fail-Closed
+    GET_TOKEN_EPOCH(Duration.ofMillis(50), FailureMode.FAIL_OPEN),
+    INCREMENT_TOKEN_EPOCH(Duration.ofMillis(200), FailureMode.FAIL_CLOSED),
+
+    PUBLISH(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+
+    // rate limit - Redis 장애 시 로컬 버킷만으로 제한
+    RATE_LIMIT(Duration.ofMillis(50), FailureMode.FAIL_OPEN),
+
+    // OAuth2 로그인 요청 - 저장에 실패하면 콜백이 반드시 실패하므로 시작 단계에서 503으로 거부
+    SAVE_OAUTH2_AUTHORIZATION_REQUEST(Duration.ofMillis(100), FailureMode.FAIL_CLOSED),
+    GET_OAUTH2_AUTHORIZATION_REQUEST(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+
+    // 독서 진행률 쓰기 버퍼 - 기록에 실패하면 호출자가 DB에 직접 기록한다
+    BUFFER_READING_PROGRESS(Duration.ofMillis(50), FailureMode.FAIL_OPEN),
+    GET_BUFFERED_READING_PROGRESS(Duration.ofMillis(50), FailureMode.FAIL_OPEN),
+    CLAIM_READING_PROGRESS(Duration.ofMillis(500), FailureMode.FAIL_OPEN),
+    ACK_READING_PROGRESS(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+
+    // 범용 key-value
+    SET(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+    SET_IF_ABSENT(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+    GET(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+    DELETE(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+    HAS_KEY(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+    GET_EXPIRE(Duration.ofMillis(100), FailureMode.FAIL_OPEN),
+    DELETE_BY_PATTERN(Duration.ofMillis(1000), FailureMode.FAIL_OPEN),
+
+    // 다건 작업 - 한 번의 왕복(MGET/DEL) 또는 파이프라인으로 처리
+    MULTI_GET(Duration.ofMillis(200), FailureMode.FAIL_OPEN),
+    MULTI_SET(Duration.ofMillis(200), FailureMode.FAIL_OPEN),
+    MULTI_DELETE(Duration.ofMillis(200), FailureMode.FAIL_OPEN),
+    MULTI_EXISTS(Duration.ofMillis(200), FailureMode.FAIL_OPEN);
+
+    private final Duration latencyBudget;
+    private final FailureMode failureMode;
+
+    public enum FailureMode {
+        /**
+         * 기본값을 반환하고 요청은 계속 진행
+         */
+        FAIL_OPEN,
+        /**
+         * 503으로 요청을 거부
+         */
+        FAIL_CLOSED
+    }
+}
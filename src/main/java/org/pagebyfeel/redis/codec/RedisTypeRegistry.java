@@ -0,0 +1,40 @@
+package org.pagebyfeel.redis.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis에 compact 포맷으로 저장할 타입 등록부
+ * 클래스 이름 대신 2바이트 타입 ID를 기록하므로, 한 번 배포된 ID는 다른 타입에 재사용하면 안 된다
+ */
+public class RedisTypeRegistry {
+
+    private final Map<Class<?>, Short> idsByType = new HashMap<>();
+    private final Map<Short, Class<?>> typesById = new HashMap<>();
+
+    public RedisTypeRegistry register(int typeId, Class<?> type) {
+        if (typeId <= 0 || typeId > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("typeId must be between 1 and " + Short.MAX_VALUE);
+        }
+
+        short id = (short) typeId;
+        Class<?> existing = typesById.get(id);
+        if (existing != null && existing != type) {
+            throw new IllegalArgumentException(
+                    "Redis type id " + typeId + " is already registered for " + existing.getName()
+            );
+        }
+
+        idsByType.put(type, id);
+        typesById.put(id, type);
+        return this;
+    }
+
+    Short idOf(Class<?> type) {
+        return idsByType.get(type);
+    }
+
+    Class<?> typeOf(short typeId) {
+        return typesById.get(typeId);
+    }
+}
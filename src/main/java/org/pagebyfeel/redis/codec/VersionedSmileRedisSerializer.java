@@ -0,0 +1,94 @@
+package org.pagebyfeel.redis.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 버전 바이트와 타입 ID를 앞에 붙인 Smile(바이너리 JSON) 직렬화기
+ *
+ * <pre>
+ * [version: 1 byte][typeId: 2 bytes][Smile payload]
+ * </pre>
+ *
+ * 등록되지 않은 타입과 이전 포맷으로 저장된 값은 기존 JSON 직렬화기로 처리한다.
+ * JSON은 0x01로 시작할 수 없으므로 첫 바이트만으로 두 포맷을 구분할 수 있어 저장된 데이터를 점진적으로 이전할 수 있다
+ */
+public class VersionedSmileRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_VERSION_1 = 0x01;
+    private static final int HEADER_LENGTH = 3;
+
+    private final RedisTypeRegistry typeRegistry;
+    private final RedisSerializer<Object> legacySerializer;
+    private final ObjectMapper smileMapper;
+
+    public VersionedSmileRedisSerializer(RedisTypeRegistry typeRegistry, RedisSerializer<Object> legacySerializer) {
+        this.typeRegistry = typeRegistry;
+        this.legacySerializer = legacySerializer;
+
+        SmileFactory smileFactory = SmileFactory.builder()
+                .disable(SmileGenerator.Feature.WRITE_HEADER)
+                .disable(SmileParser.Feature.REQUIRE_HEADER)
+                .build();
+        this.smileMapper = new ObjectMapper(smileFactory)
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        Short typeId = typeRegistry.idOf(value.getClass());
+        if (typeId == null) {
+            return legacySerializer.serialize(value);
+        }
+
+        try {
+            byte[] payload = smileMapper.writeValueAsBytes(value);
+            return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+                    .put(FORMAT_VERSION_1)
+                    .putShort(typeId)
+                    .put(payload)
+                    .array();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile payload: " + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != FORMAT_VERSION_1) {
+            return legacySerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_LENGTH) {
+            throw new SerializationException("Truncated Redis value header");
+        }
+
+        short typeId = (short) (((bytes[1] & 0xff) << 8) | (bytes[2] & 0xff));
+        Class<?> type = typeRegistry.typeOf(typeId);
+        if (type == null) {
+            throw new SerializationException("Unknown Redis type id: " + typeId);
+        }
+
+        try {
+            return smileMapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, type);
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile payload: " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.pagebyfeel.repository;
+
+import org.pagebyfeel.metadata.BookMetadata;
+
+import java.util.List;
+
+public interface BookBatchRepository {
+
+    /**
+     * 외부 API에서 가져온 도서를 JDBC 배치 한 번으로 저장. 이미 있는 ISBN은 건너뛰고, 새로 저장된 ISBN 목록을 반환한다
+     */
+    List<String> insertIgnoringDuplicates(List<BookMetadata> books);
+}
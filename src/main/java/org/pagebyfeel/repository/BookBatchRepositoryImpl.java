@@ -0,0 +1,58 @@
+package org.pagebyfeel.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.pagebyfeel.metadata.BookMetadata;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IDENTITY 키는 Hibernate가 INSERT를 배치로 묶지 못하므로 JdbcTemplate으로 직접 배치 전송한다
+ */
+@RequiredArgsConstructor
+public class BookBatchRepositoryImpl implements BookBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO books (isbn, title, author, publisher, published_date, cover_image_url)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (isbn) DO NOTHING
+            """;
+
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public List<String> insertIgnoringDuplicates(List<BookMetadata> books) {
+        if (books.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, books, books.size(), (ps, book) -> {
+            ps.setString(1, book.isbn());
+            ps.setString(2, truncate(book.title()));
+            ps.setString(3, truncate(book.author()));
+            ps.setString(4, truncate(book.publisher()));
+            ps.setDate(5, book.publishedDate() == null ? null : Date.valueOf(book.publishedDate()));
+            ps.setString(6, book.coverImageUrl() != null && book.coverImageUrl().length() > MAX_COLUMN_LENGTH
+                    ? null
+                    : book.coverImageUrl());
+        });
+
+        List<String> inserted = new ArrayList<>(books.size());
+        for (int i = 0; i < books.size(); i++) {
+            if (counts[0][i] > 0) {
+                inserted.add(books.get(i).isbn());
+            }
+        }
+        return inserted;
+    }
+
+    private static String truncate(String value) {
+        return value != null && value.length() > MAX_COLUMN_LENGTH ? value.substring(0, MAX_COLUMN_LENGTH) : value;
+    }
+}
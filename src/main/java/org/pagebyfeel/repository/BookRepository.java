@@ -0,0 +1,68 @@
+package org.pagebyfeel.repository;
+
+import org.pagebyfeel.autocomplete.AutocompleteEntry;
+import org.pagebyfeel.entity.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BookRepository extends JpaRepository<Book, Long>, BookBatchRepository {
+    Optional<Book> findByIsbn(String isbn);
+
+    List<Book> findAllByIsbnIn(Collection<String> isbns);
+
+    boolean existsByIsbn(String isbn);
+
+    /**
+     * 제목/저자 단어 접두어 검색 (search_vector GIN 인덱스). book_id 기준 키셋 페이지네이션
+     * tsQuery는 'word:* & word:*' 형태로 BookServiceImpl에서 만든다
+     */
+    @Query(value = """
+            SELECT * FROM books
+            WHERE search_vector @@ to_tsquery('simple', :tsQuery)
+              AND book_id > :afterId
+            ORDER BY book_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Book> searchByPrefix(
+            @Param("tsQuery") String tsQuery,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 접두어 검색에 더해 제목/저자 중간 부분 일치까지 포함 (pg_trgm GIN 인덱스, 3글자 이상일 때만 사용)
+     * 한국어는 조사가 붙은 어절 단위로 토큰화되므로 '주의자'처럼 단어 중간을 찾으려면 trigram이 필요하다
+     */
+    @Query(value = """
+            SELECT * FROM books
+            WHERE (search_vector @@ to_tsquery('simple', :tsQuery)
+                   OR title ILIKE :pattern
+                   OR author ILIKE :pattern)
+              AND book_id > :afterId
+            ORDER BY book_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Book> searchByPrefixOrSubstring(
+            @Param("tsQuery") String tsQuery,
+            @Param("pattern") String pattern,
+            @Param("afterId") long afterId,
+            @Param("limit") int limit
+    );
+
+    /**
+     * 자동완성 색인 적재용. 엔티티 대신 필요한 컬럼만 읽고 book_id 커서로 나눠 읽는다
+     */
+    @Query("""
+            SELECT new org.pagebyfeel.autocomplete.AutocompleteEntry(b.bookId, b.title, b.author)
+            FROM Book b
+            WHERE b.bookId > :afterId
+            ORDER BY b.bookId
+            """)
+    List<AutocompleteEntry> findAutocompleteEntriesAfter(@Param("afterId") long afterId, Pageable pageable);
+}
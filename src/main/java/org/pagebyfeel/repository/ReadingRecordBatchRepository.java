@@ -0,0 +1,21 @@
+package org.pagebyfeel.repository;
+
+import org.pagebyfeel.entity.ReadingRecord;
+import org.pagebyfeel.reading.ReadingProgress;
+
+import java.util.List;
+
+public interface ReadingRecordBatchRepository {
+
+    /**
+     * 진행률 갱신을 JDBC 배치로 upsert. 저장된 페이지보다 앞선 갱신만 반영되므로 같은 배치를 다시 실행해도 안전하다
+     * 카탈로그에 없는 책의 갱신은 버린다. 반환값은 실제로 반영된 갱신
+     */
+    List<ReadingProgress> upsertProgress(List<ReadingProgress> updates);
+
+    /**
+     * 갱신 대상 (사용자, 책)을 잠그고 현재 값을 읽는다 (advisory lock 후 SELECT ... FOR UPDATE)
+     * 아직 기록이 없는 (사용자, 책)도 트랜잭션이 끝날 때까지 잠기지만 결과에는 없다. 호출자의 트랜잭션 안에서 써야 한다
+     */
+    List<ReadingRecord> lockRecords(List<ReadingProgress> updates);
+}
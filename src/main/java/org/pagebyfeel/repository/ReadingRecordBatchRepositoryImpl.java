@@ -0,0 +1,132 @@
+package org.pagebyfeel.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.pagebyfeel.entity.ReadingRecord;
+import org.pagebyfeel.reading.ReadingProgress;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * 페이지를 넘길 때마다 오는 진행률 갱신을 모아 한 번에 기록한다
+ * ON CONFLICT ... WHERE current_page < EXCLUDED.current_page 조건으로 늦게 도착한 이전 페이지가 진행률을 되돌리지 않는다
+ */
+@RequiredArgsConstructor
+public class ReadingRecordBatchRepositoryImpl implements ReadingRecordBatchRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO reading_records (user_id, book_id, current_page, total_pages, started_at, last_read_at, finished_at)
+            SELECT ?, ?, ?, ?, ?, ?, ?
+            WHERE EXISTS (SELECT 1 FROM books WHERE book_id = ?)
+            ON CONFLICT (user_id, book_id) DO UPDATE SET
+                current_page = EXCLUDED.current_page,
+                total_pages = COALESCE(EXCLUDED.total_pages, reading_records.total_pages),
+                last_read_at = EXCLUDED.last_read_at,
+                finished_at = COALESCE(
+                        reading_records.finished_at,
+                        EXCLUDED.finished_at,
+                        CASE WHEN EXCLUDED.current_page >= reading_records.total_pages THEN EXCLUDED.last_read_at END
+                )
+            WHERE reading_records.current_page < EXCLUDED.current_page
+            """;
+
+    // pg_advisory_xact_lock(int, int)의 첫 번째 키. 다른 기능의 advisory lock과 겹치지 않게 고정값을 쓴다
+    private static final int RECORD_LOCK_CLASS = 0x52524543;
+
+    // 배열 순서(호출자가 정렬한 순서)대로 잠근다
+    private static final String ADVISORY_LOCK_SQL = """
+            SELECT pg_advisory_xact_lock(?, t.key)
+            FROM unnest(?::int[]) WITH ORDINALITY AS t(key, position)
+            ORDER BY t.position
+            """;
+
+    private static final String LOCK_SQL = """
+            SELECT r.*
+            FROM reading_records r
+            JOIN unnest(?::uuid[], ?::bigint[]) AS t(user_id, book_id)
+                ON r.user_id = t.user_id AND r.book_id = t.book_id
+            ORDER BY r.user_id, r.book_id
+            FOR UPDATE OF r
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public List<ReadingProgress> upsertProgress(List<ReadingProgress> updates) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, updates, updates.size(), (ps, update) -> {
+            Timestamp readAt = Timestamp.valueOf(update.readAt());
+            ps.setObject(1, update.userId());
+            ps.setLong(2, update.bookId());
+            ps.setInt(3, update.page());
+            if (update.totalPages() == null) {
+                ps.setNull(4, Types.INTEGER);
+            } else {
+                ps.setInt(4, update.totalPages());
+            }
+            ps.setTimestamp(5, readAt);
+            ps.setTimestamp(6, readAt);
+            ps.setTimestamp(7, update.isFinished() ? readAt : null);
+            ps.setLong(8, update.bookId());
+        });
+
+        List<ReadingProgress> applied = new ArrayList<>(updates.size());
+        for (int i = 0; i < updates.size(); i++) {
+            if (counts[0][i] > 0) {
+                applied.add(updates.get(i));
+            }
+        }
+        return applied;
+    }
+
+    @Override
+    public List<ReadingRecord> lockRecords(List<ReadingProgress> updates) {
+        if (updates.isEmpty()) {
+            return List.of();
+        }
+
+        // 아직 행이 없는 (사용자, 책)은 FOR UPDATE로 잠기지 않으므로, 같은 책의 첫 기록을 두 트랜잭션이 동시에 쓰며
+        // 둘 다 직전 기록 없음으로 읽지 않도록 (사용자, 책) 단위 advisory lock을 먼저 잡는다. 키 순으로 잠가 교착을 피한다
+        TreeSet<Integer> lockKeys = new TreeSet<>();
+        for (ReadingProgress update : updates) {
+            lockKeys.add(lockKeyOf(update.userId(), update.bookId()));
+        }
+        jdbcTemplate.query(ADVISORY_LOCK_SQL, rs -> {
+        }, RECORD_LOCK_CLASS, lockKeys.toArray(new Integer[0]));
+
+        // 드라이버가 배열 바인딩을 지원하는 타입으로 넘기고 SQL에서 uuid[]로 변환
+        String[] userIds = new String[updates.size()];
+        Long[] bookIds = new Long[updates.size()];
+        for (int i = 0; i < updates.size(); i++) {
+            userIds[i] = updates.get(i).userId().toString();
+            bookIds[i] = updates.get(i).bookId();
+        }
+
+        return jdbcTemplate.query(LOCK_SQL, (rs, rowNum) -> ReadingRecord.builder()
+                .recordId(rs.getLong("record_id"))
+                .userId(rs.getObject("user_id", UUID.class))
+                .bookId(rs.getLong("book_id"))
+                .currentPage(rs.getInt("current_page"))
+                .totalPages(rs.getObject("total_pages", Integer.class))
+                .startedAt(rs.getObject("started_at", LocalDateTime.class))
+                .lastReadAt(rs.getObject("last_read_at", LocalDateTime.class))
+                .finishedAt(rs.getObject("finished_at", LocalDateTime.class))
+                .build(), userIds, bookIds);
+    }
+
+    // 해시 충돌은 서로 다른 (사용자, 책)이 잠금을 기다리게 할 뿐 결과에는 영향이 없다
+    static int lockKeyOf(UUID userId, Long bookId) {
+        return 31 * userId.hashCode() + Long.hashCode(bookId);
+    }
+}
@@ -0,0 +1,11 @@
+package org.pagebyfeel.repository;
+
+import org.pagebyfeel.entity.ReadingRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Long>, ReadingRecordBatchRepository {
+    Optional<ReadingRecord> findByUserIdAndBookId(UUID userId, Long bookId);
+}
@@ -0,0 +1,35 @@
+package org.pagebyfeel.repository;
+
+import org.pagebyfeel.reading.ReadingLogEntry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReadingStatsBatchRepository {
+
+    /**
+     * 재구성과 잠금의 단위. user_id(UUID)의 첫 바이트로 나눈다
+     */
+    int BUCKET_COUNT = 256;
+
+    /**
+     * 사용자가 속한 통계 버킷의 공유 잠금을 트랜잭션 끝까지 잡는다. 같은 버킷의 재구성과 동시에 증분 갱신하지 않게 한다
+     */
+    void lockBucketsShared(Collection<UUID> userIds);
+
+    /**
+     * 로그에 추가. 이미 있는 항목(재전송)은 건너뛰며, 반환값은 새로 추가된 항목
+     */
+    List<ReadingLogEntry> appendLog(List<ReadingLogEntry> entries);
+
+    /**
+     * 새로 추가된 로그 항목을 일/월 통계 행에 더한다
+     */
+    void addToRollups(List<ReadingLogEntry> entries);
+
+    /**
+     * 한 버킷(user_id 첫 바이트가 같은 사용자들)의 통계를 로그에서 다시 계산. 반환값은 다시 쓴 통계 행 수
+     */
+    int rebuildBucket(int bucket);
+}
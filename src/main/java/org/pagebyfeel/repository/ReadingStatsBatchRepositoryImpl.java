@@ -0,0 +1,169 @@
+package org.pagebyfeel.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.pagebyfeel.entity.ReadingStatsPeriod;
+import org.pagebyfeel.reading.ReadingLogEntry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * 독서 통계 집계 쓰기
+ * 증분 갱신과 재구성이 같은 사용자의 행을 동시에 만지지 않도록 버킷 단위 advisory lock을 쓴다.
+ * 증분 갱신(진행률 flush)은 공유 잠금, 재구성은 배타 잠금을 트랜잭션 끝까지 잡는다
+ * read_at은 app.reading-stats.zone 기준 현지 시각(TIMESTAMP WITHOUT TIME ZONE)이므로, 증분 갱신의 toLocalDate()와
+ * 재구성의 read_at::date가 같은 날짜를 낸다. 둘 다 JVM이나 DB 세션의 시간대에 영향을 받지 않는다
+ */
+@RequiredArgsConstructor
+public class ReadingStatsBatchRepositoryImpl implements ReadingStatsBatchRepository {
+
+    // pg_advisory_xact_lock(int, int)의 첫 번째 키. 다른 기능의 advisory lock과 겹치지 않게 고정값을 쓴다
+    private static final int STATS_LOCK_CLASS = 0x52535453;
+
+    private static final String APPEND_LOG_SQL = """
+            INSERT INTO reading_progress_log (user_id, book_id, to_page, from_page, read_at, reading_seconds, finished)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, book_id, to_page) DO NOTHING
+            """;
+
+    private static final String ADD_TO_ROLLUP_SQL = """
+            INSERT INTO reading_stats (user_id, period, period_start, pages_read, reading_seconds, books_finished)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, period, period_start) DO UPDATE SET
+                pages_read = reading_stats.pages_read + EXCLUDED.pages_read,
+                reading_seconds = reading_stats.reading_seconds + EXCLUDED.reading_seconds,
+                books_finished = reading_stats.books_finished + EXCLUDED.books_finished
+            """;
+
+    private static final String DELETE_BUCKET_SQL = """
+            DELETE FROM reading_stats WHERE user_id >= ? AND user_id <= ?
+            """;
+
+    private static final String REBUILD_BUCKET_SQL = """
+            INSERT INTO reading_stats (user_id, period, period_start, pages_read, reading_seconds, books_finished)
+            SELECT user_id, 'DAY', read_at::date,
+                   SUM(to_page - from_page), SUM(reading_seconds), COUNT(*) FILTER (WHERE finished)
+            FROM reading_progress_log
+            WHERE user_id >= ? AND user_id <= ?
+            GROUP BY user_id, read_at::date
+            UNION ALL
+            SELECT user_id, 'MONTH', date_trunc('month', read_at)::date,
+                   SUM(to_page - from_page), SUM(reading_seconds), COUNT(*) FILTER (WHERE finished)
+            FROM reading_progress_log
+            WHERE user_id >= ? AND user_id <= ?
+            GROUP BY user_id, date_trunc('month', read_at)
+            """;
+
+    private static final Comparator<RollupKey> ROLLUP_ORDER = Comparator
+            .comparing(RollupKey::userId)
+            .thenComparing(RollupKey::period)
+            .thenComparing(RollupKey::periodStart);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void lockBucketsShared(Collection<UUID> userIds) {
+        // 버킷 번호 순으로 잠가 여러 버킷을 잡는 트랜잭션끼리 교착되지 않게 한다
+        TreeSet<Integer> buckets = new TreeSet<>();
+        for (UUID userId : userIds) {
+            buckets.add(bucketOf(userId));
+        }
+        for (int bucket : buckets) {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock_shared(?, ?)", rs -> {
+            }, STATS_LOCK_CLASS, bucket);
+        }
+    }
+
+    @Override
+    public List<ReadingLogEntry> appendLog(List<ReadingLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(APPEND_LOG_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setObject(1, entry.userId());
+            ps.setLong(2, entry.bookId());
+            ps.setInt(3, entry.toPage());
+            ps.setInt(4, entry.fromPage());
+            ps.setTimestamp(5, Timestamp.valueOf(entry.readAt()));
+            ps.setInt(6, entry.readingSeconds());
+            ps.setBoolean(7, entry.finished());
+        });
+
+        List<ReadingLogEntry> appended = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+            if (counts[0][i] > 0) {
+                appended.add(entries.get(i));
+            }
+        }
+        return appended;
+    }
+
+    @Override
+    public void addToRollups(List<ReadingLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // 같은 통계 행에 대한 갱신을 하나로 합치고, 행 잠금 순서를 고정한다
+        Map<RollupKey, long[]> totals = new TreeMap<>(ROLLUP_ORDER);
+        for (ReadingLogEntry entry : entries) {
+            LocalDate day = entry.readAt().toLocalDate();
+            accumulate(totals, new RollupKey(entry.userId(), ReadingStatsPeriod.DAY, day), entry);
+            accumulate(totals, new RollupKey(entry.userId(), ReadingStatsPeriod.MONTH, day.withDayOfMonth(1)), entry);
+        }
+
+        List<Map.Entry<RollupKey, long[]>> rows = new ArrayList<>(totals.entrySet());
+        jdbcTemplate.batchUpdate(ADD_TO_ROLLUP_SQL, rows, rows.size(), (ps, row) -> {
+            RollupKey key = row.getKey();
+            long[] total = row.getValue();
+            ps.setObject(1, key.userId());
+            ps.setString(2, key.period().name());
+            ps.setDate(3, Date.valueOf(key.periodStart()));
+            ps.setLong(4, total[0]);
+            ps.setLong(5, total[1]);
+            ps.setInt(6, (int) total[2]);
+        });
+    }
+
+    /**
+     * 배타 잠금을 먼저 잡고 나서 삭제와 집계를 각각의 문장으로 실행한다.
+     * READ COMMITTED에서는 문장마다 새 스냅샷을 쓰므로, 잠금을 기다리는 동안 커밋된 증분 갱신의 로그도 집계에 포함된다
+     */
+    @Override
+    @Transactional
+    public int rebuildBucket(int bucket) {
+        UUID lower = new UUID((long) bucket << 56, 0L);
+        UUID upper = new UUID(((long) bucket << 56) | 0x00FF_FFFF_FFFF_FFFFL, -1L);
+
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", rs -> {
+        }, STATS_LOCK_CLASS, bucket);
+        jdbcTemplate.update(DELETE_BUCKET_SQL, lower, upper);
+        return jdbcTemplate.update(REBUILD_BUCKET_SQL, lower, upper, lower, upper);
+    }
+
+    static int bucketOf(UUID userId) {
+        return (int) (userId.getMostSignificantBits() >>> 56);
+    }
+
+    private static void accumulate(Map<RollupKey, long[]> totals, RollupKey key, ReadingLogEntry entry) {
+        long[] total = totals.computeIfAbsent(key, k -> new long[3]);
+        total[0] += entry.pagesRead();
+        total[1] += entry.readingSeconds();
+        total[2] += entry.finished() ? 1 : 0;
+    }
+
+    private record RollupKey(UUID userId, ReadingStatsPeriod period, LocalDate periodStart) {
+    }
+}
@@ -0,0 +1,15 @@
+package org.pagebyfeel.repository;
+
+import org.pagebyfeel.entity.ReadingStats;
+import org.pagebyfeel.entity.ReadingStatsPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReadingStatsRepository extends JpaRepository<ReadingStats, Long>, ReadingStatsBatchRepository {
+    List<ReadingStats> findAllByUserIdAndPeriodAndPeriodStartGreaterThanEqualOrderByPeriodStart(
+            UUID userId, ReadingStatsPeriod period, LocalDate from
+    );
+}
@@ -2,10 +2,33 @@ package org.pagebyfeel.repository;
 
 import org.pagebyfeel.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
+
+    /**
+     * 이메일 기준 upsert. 없으면 생성하고, 있으면 기존 행을 그대로 반환한다 (한 번의 왕복)
+     * DO NOTHING은 충돌 시 RETURNING 결과가 없으므로 email을 자기 자신으로 갱신해 기존 행을 반환받는다.
+     * 동시에 같은 이메일로 첫 로그인해도 unique 제약 위반 없이 하나의 행만 생성된다
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO users (user_id, email, nickname, role, provider)
+            VALUES (:userId, :email, :nickname, :role, :provider)
+            ON CONFLICT (email) DO UPDATE SET email = EXCLUDED.email
+            RETURNING *
+            """, nativeQuery = true)
+    User upsertByEmail(
+            @Param("userId") UUID userId,
+            @Param("email") String email,
+            @Param("nickname") String nickname,
+            @Param("role") String role,
+            @Param("provider") String provider
+    );
 }
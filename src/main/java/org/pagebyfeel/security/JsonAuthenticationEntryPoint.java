@@ -0,0 +1,29 @@
+package org.pagebyfeel.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.pagebyfeel.exception.auth.AuthErrorCode;
+import org.pagebyfeel.exception.common.ErrorCode;
+import org.pagebyfeel.exception.common.ErrorResponseBodies;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 인증되지 않은 요청에 ErrorResponse 형식의 401 응답을 작성
+ * JwtAuthenticationFilter가 남긴 거부 사유가 있으면 그 코드를, 없으면 UNAUTHORIZED를 사용한다
+ */
+@Component
+public class JsonAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    @Override
+    public void commence(HttpServletRequest request,
+                         HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        Object attribute = request.getAttribute(JwtAuthenticationFilter.AUTH_ERROR_ATTRIBUTE);
+        ErrorCode errorCode = attribute instanceof ErrorCode code ? code : AuthErrorCode.UNAUTHORIZED;
+        ErrorResponseBodies.write(response, errorCode);
+    }
+}
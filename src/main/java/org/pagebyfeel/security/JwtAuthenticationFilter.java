@@ -1,21 +1,32 @@
 package org.pagebyfeel.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.pagebyfeel.exception.auth.AuthErrorCode;
+import org.pagebyfeel.exception.common.BusinessException;
 import org.pagebyfeel.service.RedisService;
+import org.pagebyfeel.timing.RequestTiming;
+import org.pagebyfeel.timing.RequestTimings;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * 토큰이 유효하면 인증 정보를 채우고, 유효하지 않으면 예외 대신 거부 사유만 요청 속성에 남긴다
+ * 실제 401 응답은 인증이 필요한 경로에서만 JsonAuthenticationEntryPoint가 작성한다
+ */
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String AUTH_ERROR_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".AUTH_ERROR";
+
     private final JwtTokenProvider jwtTokenProvider;
     private final RedisService redisService;
 
@@ -25,13 +36,45 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = parseJwt(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token) && !redisService.isBlacklisted(token)) {
-            SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(token));
+        if (token != null) {
+            authenticate(request, token);
         }
-        
+
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(HttpServletRequest request, String token) {
+        // 서명 검증과 클레임 디코딩은 요청당 한 번만 수행
+        long start = RequestTimings.start();
+        TokenValidationResult result = jwtTokenProvider.validate(token);
+        RequestTimings.record(RequestTiming.Stage.JWT, start);
+        if (!result.isValid()) {
+            request.setAttribute(AUTH_ERROR_ATTRIBUTE, result.errorCode());
+            return;
+        }
+
+        Claims claims = result.claims();
+        start = RequestTimings.start();
+        String legacyTokenId = jwtTokenProvider.getLegacyBlacklistId(token, claims);
+        boolean revoked = redisService.isBlacklisted(jwtTokenProvider.getTokenId(token, claims))
+                || (legacyTokenId != null && redisService.isBlacklisted(legacyTokenId))
+                || !jwtTokenProvider.hasCurrentEpoch(claims);
+        RequestTimings.record(RequestTiming.Stage.BLACKLIST, start);
+        if (revoked) {
+            request.setAttribute(AUTH_ERROR_ATTRIBUTE, AuthErrorCode.INVALID_TOKEN);
+            return;
+        }
+
+        start = RequestTimings.start();
+        try {
+            SecurityContextHolder.getContext().setAuthentication(jwtTokenProvider.getAuthentication(claims));
+        } catch (BusinessException e) {
+            request.setAttribute(AUTH_ERROR_ATTRIBUTE, e.getErrorCode());
+        } finally {
+            RequestTimings.record(RequestTiming.Stage.PRINCIPAL, start);
+        }
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String header = request.getHeader("Authorization");
         if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
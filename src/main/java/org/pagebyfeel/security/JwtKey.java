@@ -0,0 +1,80 @@
+package org.pagebyfeel.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+
+/**
+ * kid로 식별되는 JWT 키. signingKey가 null이면 검증 전용(교체 전 이전 키)
+ * HS 계열은 같은 비밀키로 서명/검증하고, ES/RS 계열은 개인키로 서명하고 공개키로 검증한다
+ */
+public record JwtKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    public static JwtKey hmac(String kid, SignatureAlgorithm algorithm, String base64Secret) {
+        byte[] keyBytes = Decoders.BASE64.decode(base64Secret);
+        if (keyBytes.length < 32) {
+            throw new IllegalArgumentException(
+                    "JWT secret key must be at least 256 bits (32 bytes)"
+            );
+        }
+        Key key = Keys.hmacShaKeyFor(keyBytes);
+        return new JwtKey(kid, algorithm, key, key);
+    }
+
+    /**
+     * 개인키는 PKCS#8 DER, 공개키는 X.509 DER을 Base64로 인코딩한 값
+     */
+    public static JwtKey asymmetric(String kid, SignatureAlgorithm algorithm,
+                                    String base64PrivateKey, String base64PublicKey) {
+        return new JwtKey(kid, algorithm, privateKey(algorithm, base64PrivateKey), publicKey(algorithm, base64PublicKey));
+    }
+
+    /**
+     * 검증 전용 키. HS 계열은 비밀키, 그 외는 공개키
+     */
+    public static JwtKey verificationOnly(String kid, SignatureAlgorithm algorithm, String base64Key) {
+        if (algorithm.isHmac()) {
+            JwtKey key = hmac(kid, algorithm, base64Key);
+            return new JwtKey(kid, algorithm, null, key.verificationKey());
+        }
+        return new JwtKey(kid, algorithm, null, publicKey(algorithm, base64Key));
+    }
+
+    private static PrivateKey privateKey(SignatureAlgorithm algorithm, String base64Key) {
+        try {
+            return keyFactory(algorithm).generatePrivate(new PKCS8EncodedKeySpec(Decoders.BASE64.decode(base64Key)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid " + algorithm + " private key", e);
+        }
+    }
+
+    private static PublicKey publicKey(SignatureAlgorithm algorithm, String base64Key) {
+        try {
+            return keyFactory(algorithm).generatePublic(new X509EncodedKeySpec(Decoders.BASE64.decode(base64Key)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid " + algorithm + " public key", e);
+        }
+    }
+
+    private static KeyFactory keyFactory(SignatureAlgorithm algorithm) throws GeneralSecurityException {
+        if (algorithm.isEllipticCurve()) {
+            return KeyFactory.getInstance("EC");
+        }
+        if (algorithm.isRsa()) {
+            return KeyFactory.getInstance("RSA");
+        }
+        throw new IllegalArgumentException("Unsupported JWT signing algorithm: " + algorithm);
+    }
+}
@@ -0,0 +1,116 @@
+package org.pagebyfeel.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.security.Key;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서명 키 하나와 검증 키 여러 개를 kid로 관리하는 키 링
+ * 새 토큰은 현재 키로 서명해 kid 헤더를 붙이고, 검증은 kid로 키를 바로 찾는다 (키를 차례로 시도하지 않음).
+ * 키 교체 시 이전 키를 verification-keys에 남겨 두면 기존 토큰이 만료될 때까지 계속 유효하다
+ */
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    private final JwtKey signingKey;
+    private final JwtKey legacyKey;
+    private final Map<String, JwtKey> verificationKeys;
+
+    @Autowired
+    public JwtKeyRing(
+            @Value("${jwt.key-id:k1}") String keyId,
+            @Value("${jwt.signing-algorithm:HS256}") String signingAlgorithm,
+            @Value("${jwt.secret-key:}") String secretKey,
+            @Value("${jwt.private-key:}") String privateKey,
+            @Value("${jwt.public-key:}") String publicKey,
+            @Value("${jwt.verification-keys:}") String verificationKeys,
+            @Value("${jwt.legacy-key-id:k1}") String legacyKeyId
+    ) {
+        this(activeKey(keyId, SignatureAlgorithm.forName(signingAlgorithm), secretKey, privateKey, publicKey),
+                parseVerificationKeys(verificationKeys), legacyKeyId);
+    }
+
+    public JwtKeyRing(JwtKey signingKey, List<JwtKey> previousKeys, String legacyKeyId) {
+        if (!signingKey.canSign()) {
+            throw new IllegalArgumentException("JWT signing key must have a private or secret key: " + signingKey.kid());
+        }
+        Map<String, JwtKey> keys = new HashMap<>();
+        keys.put(signingKey.kid(), signingKey);
+        for (JwtKey key : previousKeys) {
+            if (keys.putIfAbsent(key.kid(), key) != null) {
+                throw new IllegalArgumentException("Duplicate JWT key id: " + key.kid());
+            }
+        }
+        this.signingKey = signingKey;
+        this.verificationKeys = Map.copyOf(keys);
+        this.legacyKey = verificationKeys.get(legacyKeyId);
+    }
+
+    /**
+     * 테스트/벤치마크용. HS256 비밀키 하나로 구성
+     */
+    public static JwtKeyRing hmac(String kid, String base64Secret) {
+        return new JwtKeyRing(JwtKey.hmac(kid, SignatureAlgorithm.HS256, base64Secret), List.of(), kid);
+    }
+
+    public JwtKey getSigningKey() {
+        return signingKey;
+    }
+
+    /**
+     * kid가 없는 토큰(키 링 도입 전 발급)은 legacy 키로 검증한다.
+     * 헤더의 alg가 키의 알고리즘과 다르면 거부해 알고리즘 혼동 공격을 막는다
+     */
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        JwtKey key = kid == null ? legacyKey : verificationKeys.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown JWT key id: " + kid);
+        }
+        if (!key.algorithm().getValue().equals(header.getAlgorithm())) {
+            throw new UnsupportedJwtException("JWT algorithm does not match key " + key.kid());
+        }
+        return key.verificationKey();
+    }
+
+    private static JwtKey activeKey(String keyId, SignatureAlgorithm algorithm,
+                                    String secretKey, String privateKey, String publicKey) {
+        if (algorithm.isHmac()) {
+            return JwtKey.hmac(keyId, algorithm, secretKey);
+        }
+        return JwtKey.asymmetric(keyId, algorithm, privateKey, publicKey);
+    }
+
+    /**
+     * kid:ALG:Base64키 형식을 쉼표로 구분한 목록
+     */
+    private static List<JwtKey> parseVerificationKeys(String value) {
+        if (!StringUtils.hasText(value)) {
+            return List.of();
+        }
+        return Arrays.stream(StringUtils.commaDelimitedListToStringArray(value))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .map(entry -> {
+                    String[] parts = entry.split(":", 3);
+                    if (parts.length != 3) {
+                        throw new IllegalArgumentException("JWT verification key must be kid:ALG:key");
+                    }
+                    return JwtKey.verificationOnly(parts[0], SignatureAlgorithm.forName(parts[1]), parts[2]);
+                })
+                .toList();
+    }
+}
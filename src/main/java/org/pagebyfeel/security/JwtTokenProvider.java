@@ -1,104 +1,191 @@
 package org.pagebyfeel.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
-import org.pagebyfeel.entity.user.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.pagebyfeel.exception.auth.AuthErrorCode;
-import org.pagebyfeel.exception.common.BusinessException;
-import org.pagebyfeel.repository.UserRepository;
+import org.pagebyfeel.exception.common.ErrorCode;
+import org.pagebyfeel.exception.common.StacklessBusinessException;
 import org.pagebyfeel.security.oauth.CustomOAuth2User;
+import org.pagebyfeel.util.HashUtils;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtTokenProvider {
 
-    private final SecretKey key;
+    private static final String LEGACY_TOKEN_ID_PREFIX = "sha256:";
+    private static final String EPOCH_CLAIM = "ver";
+
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMillis;
-    private final long refreshTokenValidityInMillis;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenEpochService tokenEpochService;
+
+    private final Timer signTimer;
+    private final Timer parseValidTimer;
+    private final Timer parseExpiredTimer;
+    private final Timer parseInvalidTimer;
 
     public JwtTokenProvider(
-            @org.springframework.beans.factory.annotation.Value("${jwt.secret-key}") String secretKey,
+            JwtKeyRing keyRing,
             @org.springframework.beans.factory.annotation.Value("${jwt.access-token-expiration-minutes}") long accessTokenMinutes,
-            @org.springframework.beans.factory.annotation.Value("${jwt.refresh-token-expiration-days}") long refreshTokenDays,
-            UserRepository userRepository
+            UserPrincipalCache userPrincipalCache,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenEpochService tokenEpochService,
+            MeterRegistry meterRegistry
     ) {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+        this.keyRing = keyRing;
+        // JwtParser는 불변이며 스레드 안전하므로 한 번만 생성해 재사용. 검증 키는 kid로 키 링에서 찾는다
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+        this.accessTokenValidityInMillis = accessTokenMinutes * 60 * 1000;
+        this.userPrincipalCache = userPrincipalCache;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenEpochService = tokenEpochService;
 
-        if (keyBytes.length < 32) {
-            throw new IllegalArgumentException(
-                    "JWT secret key must be at least 256 bits (32 bytes)"
-            );
-        }
+        // 캐시 적중은 VerifiedTokenCache 지표로 보고, 여기서는 실제 서명/검증 비용만 기록
+        this.signTimer = tokenTimer(meterRegistry, "sign", "success");
+        this.parseValidTimer = tokenTimer(meterRegistry, "parse", "valid");
+        this.parseExpiredTimer = tokenTimer(meterRegistry, "parse", "expired");
+        this.parseInvalidTimer = tokenTimer(meterRegistry, "parse", "invalid");
+    }
 
-        this.key = Keys.hmacShaKeyFor(keyBytes);
-        this.accessTokenValidityInMillis = accessTokenMinutes * 60 * 1000;
-        this.refreshTokenValidityInMillis = refreshTokenDays * 24 * 60 * 60 * 1000;
-        this.userRepository = userRepository;
+    private static Timer tokenTimer(MeterRegistry meterRegistry, String operation, String outcome) {
+        return Timer.builder("jwt.token")
+                .description("JWT 서명 및 서명 검증 시간 (캐시 미스만)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     public String generateAccessToken(UUID userId, String role) {
+        long start = System.nanoTime();
         Date now = new Date();
-        return Jwts.builder()
+        JwtKey signingKey = keyRing.getSigningKey();
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .setId(generateTokenId())
                 .setSubject(userId.toString())
                 .claim("role", role)
                 .claim("type", "access")
+                .claim(EPOCH_CLAIM, tokenEpochService.epochForNewToken(userId))
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + accessTokenValidityInMillis))
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(signingKey.signingKey(), signingKey.algorithm())
                 .compact();
+        signTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return token;
     }
 
-    public String generateRefreshToken(UUID userId) {
-        Date now = new Date();
-        return Jwts.builder()
-                .setSubject(userId.toString())
-                .claim("type", "refresh")
-                .setIssuedAt(now)
-                .setExpiration(new Date(now.getTime() + refreshTokenValidityInMillis))
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+    public boolean validateToken(String token) {
+        return validate(token).isValid();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 예외를 던지지 않는 토큰 검증. 필터처럼 잘못된 토큰이 자주 들어오는 경로에서 사용
+     * 검증 결과는 유효/거부 모두 캐시되므로 같은 토큰은 한 번만 파싱한다
+     */
+    public TokenValidationResult validate(String token) {
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return TokenValidationResult.valid(cached);
+        }
+
+        ErrorCode rejection = verifiedTokenCache.getRejection(token);
+        if (rejection != null) {
+            return TokenValidationResult.invalid(rejection);
+        }
+
+        long start = System.nanoTime();
+        try {
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.put(token, claims);
+            parseValidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return TokenValidationResult.valid(claims);
+        } catch (ExpiredJwtException e) {
+            verifiedTokenCache.putRejection(token, AuthErrorCode.TOKEN_EXPIRED);
+            parseExpiredTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return TokenValidationResult.EXPIRED;
+        } catch (JwtException | IllegalArgumentException e) {
+            verifiedTokenCache.putRejection(token, AuthErrorCode.INVALID_TOKEN);
+            parseInvalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return TokenValidationResult.INVALID;
+        }
+    }
+
+    /**
+     * 만료 여부와 관계없이 서명이 검증된 토큰의 subject. 서명이 맞지 않거나 형식이 잘못되면 null
+     * 만료된 Access Token을 들고 오는 갱신 경로에서 사용자를 식별할 때 사용. ExpiredJwtException은 서명 검증 뒤에 던져진다
+     */
+    public String getVerifiedSubjectIgnoringExpiry(String token) {
+        TokenValidationResult result = validate(token);
+        if (result.isValid()) {
+            return result.claims().getSubject();
+        }
+        if (result.errorCode() != AuthErrorCode.TOKEN_EXPIRED) {
+            return null;
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
+            return jwtParser.parseClaimsJws(token).getBody().getSubject();
+        } catch (ExpiredJwtException e) {
+            return e.getClaims().getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
 
+    /**
+     * 토큰을 검증하고 Claims를 반환. 유효하지 않으면 스택 트레이스 없는 BusinessException
+     */
+    public Claims parseVerifiedClaims(String token) {
+        TokenValidationResult result = validate(token);
+        if (!result.isValid()) {
+            throw new StacklessBusinessException(result.errorCode());
+        }
+        return result.claims();
+    }
+
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaimsFromToken(token);
+        return getAuthentication(getClaimsFromToken(token));
+    }
+
+    public Authentication getAuthentication(Claims claims) {
         UUID userId = UUID.fromString(claims.getSubject());
         String role = claims.get("role", String.class);
 
         if (role == null || role.isEmpty()) {
-            throw new BusinessException(AuthErrorCode.INVALID_TOKEN);
+            throw new StacklessBusinessException(AuthErrorCode.INVALID_TOKEN);
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BusinessException(AuthErrorCode.INVALID_TOKEN));
+        // 권한은 토큰 클레임을, 프로필 정보는 캐시된 스냅샷을 사용 (캐시 미스 시에만 DB 조회)
+        UserPrincipalCache.UserSnapshot user = userPrincipalCache.get(userId);
+        if (user == null) {
+            throw new StacklessBusinessException(AuthErrorCode.INVALID_TOKEN);
+        }
 
         CustomOAuth2User principal = new CustomOAuth2User(
-                user.getUserId(),
-                user.getEmail(),
-                user.getNickname(),
-                user.getProvider(),
+                user.userId(),
+                user.email(),
+                user.nickname(),
+                user.provider(),
                 List.of(new SimpleGrantedAuthority("ROLE_" + role)),
                 new HashMap<>()
         );
@@ -110,8 +197,66 @@ public class JwtTokenProvider {
         );
     }
 
+    /**
+     * 블랙리스트 키로 사용할 토큰 식별자. jti가 없는 이전 토큰은 고정 길이 해시로 대체
+     */
+    public String getTokenId(String token, Claims claims) {
+        String jti = claims.getId();
+        if (jti != null && !jti.isEmpty()) {
+            return jti;
+        }
+        return LEGACY_TOKEN_ID_PREFIX + HashUtils.sha256Base64Url(token);
+    }
+
+    /**
+     * 해시 키 도입 전에 블랙리스트된 토큰은 원문 그대로 키에 남아 있다. jti가 없는 토큰에 한해 이전 키 형태를 반환하고, 그 외에는 null
+     * 이전 토큰이 모두 만료되면 더 이상 값을 돌려주지 않으므로 별도 정리 없이 조회가 사라진다
+     */
+    public String getLegacyBlacklistId(String token, Claims claims) {
+        String jti = claims.getId();
+        if (jti != null && !jti.isEmpty()) {
+            return null;
+        }
+        return token;
+    }
+
+    /**
+     * 토큰의 epoch가 사용자의 현재 epoch보다 낮으면 "모든 기기 로그아웃" 이전에 발급된 토큰.
+     * epoch 클레임이 없는 이전 토큰은 0으로 간주
+     */
+    public boolean hasCurrentEpoch(Claims claims) {
+        Long tokenEpoch = claims.get(EPOCH_CLAIM, Long.class);
+        UUID userId = UUID.fromString(claims.getSubject());
+        return tokenEpochService.isCurrent(userId, tokenEpoch == null ? 0L : tokenEpoch);
+    }
+
+    public Duration getRemainingValidity(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return Duration.ZERO;
+        }
+        long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+        return Duration.ofMillis(Math.max(remainingMillis, 0));
+    }
+
     public Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody();
+        Claims cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        verifiedTokenCache.put(token, claims);
+        parseValidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return claims;
+    }
+
+    private String generateTokenId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,111 @@
+package org.pagebyfeel.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 사용자별 토큰 epoch 관리
+ * Access Token에 발급 당시의 epoch를 담고, epoch가 올라가면 그 이전 토큰은 모두 거부된다.
+ * 원본은 Redis에 두고 로컬에는 짧은 TTL로 미러링하며, 변경 시 pub/sub으로 다른 노드의 로컬 값을 갱신한다
+ */
+@Slf4j
+@Component
+public class TokenEpochService implements MessageListener {
+
+    public static final String TOKEN_EPOCH_CHANNEL = "channel:token-epoch";
+
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<UUID, Long> localEpochs;
+
+    public TokenEpochService(
+            RedisService redisService,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            @Value("${jwt.token-epoch-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.token-epoch-cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this.redisService = redisService;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.localEpochs = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(TOKEN_EPOCH_CHANNEL));
+    }
+
+    /**
+     * 현재 epoch. Redis 장애로 조회하지 못하면 캐시하지 않고 0으로 간주 (Fail-Open)
+     */
+    public long currentEpoch(UUID userId) {
+        Long epoch = localEpochs.get(userId, redisService::getTokenEpoch);
+        return epoch == null ? 0L : epoch;
+    }
+
+    /**
+     * 새 토큰 발급용 epoch. 다른 노드에서 올린 epoch를 놓치지 않도록 Redis 값을 우선 사용
+     */
+    public long epochForNewToken(UUID userId) {
+        Long epoch = redisService.getTokenEpoch(userId);
+        if (epoch == null) {
+            return currentEpoch(userId);
+        }
+
+        localEpochs.put(userId, epoch);
+        return epoch;
+    }
+
+    public boolean isCurrent(UUID userId, long tokenEpoch) {
+        return tokenEpoch >= currentEpoch(userId);
+    }
+
+    /**
+     * epoch를 올려 해당 사용자의 기존 Access Token을 모두 무효화
+     */
+    public long revokeAll(UUID userId) {
+        Long epoch = redisService.incrementTokenEpoch(userId);
+        if (epoch == null) {
+            throw new BusinessException(GlobalErrorCode.INTERNAL_SERVER_ERROR);
+        }
+
+        localEpochs.asMap().merge(userId, epoch, Math::max);
+        redisService.publish(TOKEN_EPOCH_CHANNEL, userId + ":" + epoch);
+        return epoch;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("Invalid token epoch message: {}", body);
+            return;
+        }
+
+        try {
+            UUID userId = UUID.fromString(body.substring(0, separator));
+            long epoch = Long.parseLong(body.substring(separator + 1));
+            localEpochs.asMap().merge(userId, epoch, Math::max);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid token epoch message: {}", body);
+        }
+    }
+}
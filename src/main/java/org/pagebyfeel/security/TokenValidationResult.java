@@ -0,0 +1,26 @@
+package org.pagebyfeel.security;
+
+import io.jsonwebtoken.Claims;
+import org.pagebyfeel.exception.auth.AuthErrorCode;
+import org.pagebyfeel.exception.common.ErrorCode;
+
+/**
+ * 예외 없이 토큰 검증 결과를 전달하기 위한 타입. 유효하면 claims, 아니면 errorCode가 채워진다
+ */
+public record TokenValidationResult(Claims claims, ErrorCode errorCode) {
+
+    static final TokenValidationResult EXPIRED = new TokenValidationResult(null, AuthErrorCode.TOKEN_EXPIRED);
+    static final TokenValidationResult INVALID = new TokenValidationResult(null, AuthErrorCode.INVALID_TOKEN);
+
+    public static TokenValidationResult valid(Claims claims) {
+        return new TokenValidationResult(claims, null);
+    }
+
+    static TokenValidationResult invalid(ErrorCode errorCode) {
+        return errorCode == AuthErrorCode.TOKEN_EXPIRED ? EXPIRED : INVALID;
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+}
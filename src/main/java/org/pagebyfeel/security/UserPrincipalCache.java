@@ -0,0 +1,85 @@
+package org.pagebyfeel.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.entity.user.Provider;
+import org.pagebyfeel.entity.user.Role;
+import org.pagebyfeel.entity.user.User;
+import org.pagebyfeel.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 인증 시 사용하는 사용자 스냅샷 캐시
+ * 요청마다 DB를 조회하지 않도록 email, nickname, provider, role을 제한된 크기와 TTL로 보관
+ */
+@Slf4j
+@Component
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, UserSnapshot> cache;
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.principal-cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시에 없으면 DB에서 한 번만 조회해 채운다. 존재하지 않는 사용자는 캐시하지 않고 null 반환
+     */
+    public UserSnapshot get(UUID userId) {
+        return cache.get(userId, this::load);
+    }
+
+    /**
+     * 사용자 정보 변경 시 호출. 트랜잭션 안에서는 커밋 이후에 제거해
+     * 커밋 전 다른 요청이 이전 값을 다시 적재하는 경우를 막는다
+     */
+    public void invalidate(UUID userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+            return;
+        }
+        cache.invalidate(userId);
+    }
+
+    private UserSnapshot load(UUID userId) {
+        log.debug("Principal cache miss for user: {}", userId);
+        return userRepository.findById(userId)
+                .map(UserSnapshot::from)
+                .orElse(null);
+    }
+
+    public record UserSnapshot(UUID userId, String email, String nickname, Provider provider, Role role) {
+
+        public static UserSnapshot from(User user) {
+            return new UserSnapshot(
+                    user.getUserId(),
+                    user.getEmail(),
+                    user.getNickname(),
+                    user.getProvider(),
+                    user.getRole()
+            );
+        }
+    }
+}
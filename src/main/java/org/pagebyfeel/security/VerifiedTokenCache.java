@@ -0,0 +1,119 @@
+package org.pagebyfeel.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.pagebyfeel.exception.common.ErrorCode;
+import org.pagebyfeel.util.HashUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증이 끝난 토큰의 Claims 캐시
+ * 토큰 원문 대신 SHA-256 해시를 키로 사용하고, 각 엔트리는 토큰의 exp 시각에 만료된다.
+ * 만료/위조 토큰도 결과가 바뀌지 않으므로 거부 사유를 따로 캐시해 같은 토큰이 반복될 때 다시 파싱하지 않는다
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Duration REJECTED_TOKEN_TTL = Duration.ofMinutes(10);
+
+    private final Cache<ByteBuffer, Claims> cache;
+    private final Cache<ByteBuffer, ErrorCode> rejectedTokens;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder rejectedHitCount = new LongAdder();
+
+    public VerifiedTokenCache(
+            @Value("${jwt.verified-token-cache.maximum-size:50000}") long maximumSize,
+            @Value("${jwt.rejected-token-cache.maximum-size:10000}") long rejectedMaximumSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpiresAtTokenExpiry())
+                .build();
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(rejectedMaximumSize)
+                .expireAfterWrite(REJECTED_TOKEN_TTL)
+                .build();
+    }
+
+    public Claims get(String token) {
+        Claims claims = cache.getIfPresent(keyOf(token));
+        if (claims == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return claims;
+    }
+
+    public void put(String token, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        cache.put(keyOf(token), claims);
+    }
+
+    /**
+     * 이전에 거부된 토큰이면 거부 사유, 아니면 null
+     */
+    public ErrorCode getRejection(String token) {
+        ErrorCode errorCode = rejectedTokens.getIfPresent(keyOf(token));
+        if (errorCode != null) {
+            rejectedHitCount.increment();
+        }
+        return errorCode;
+    }
+
+    public void putRejection(String token, ErrorCode errorCode) {
+        rejectedTokens.put(keyOf(token), errorCode);
+    }
+
+    public long getRejectedHitCount() {
+        return rejectedHitCount.sum();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static ByteBuffer keyOf(String token) {
+        return ByteBuffer.wrap(HashUtils.sha256(token));
+    }
+
+    private static class ExpiresAtTokenExpiry implements Expiry<ByteBuffer, Claims> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package org.pagebyfeel.security.oauth;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.pagebyfeel.entity.user.Provider;
 import org.pagebyfeel.entity.user.Role;
@@ -15,22 +14,31 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepository userRepository;
+    private final DefaultOAuth2UserService delegate;
+
+    public CustomOAuth2UserService(UserRepository userRepository, RestTemplate oAuth2RestTemplate) {
+        this.userRepository = userRepository;
+        // 연결 풀을 재사용하도록 공유 RestTemplate을 사용하는 인스턴스를 한 번만 생성
+        this.delegate = new DefaultOAuth2UserService();
+        this.delegate.setRestOperations(oAuth2RestTemplate);
+    }
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         try {
-            OAuth2User oAuth2User = new DefaultOAuth2UserService().loadUser(userRequest);
+            OAuth2User oAuth2User = delegate.loadUser(userRequest);
             
             userRequest.getClientRegistration();
 
@@ -64,17 +72,13 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
             throw new BusinessException(AuthErrorCode.OAUTH_EMAIL_NOT_FOUND);
         }
 
-        User user = userRepository.findByEmail(email)
-                .orElseGet(() -> {
-                    return userRepository.save(
-                            User.builder()
-                                    .email(email)
-                                    .provider(provider)
-                                    .role(Role.USER)
-                                    .nickname(nickname != null ? nickname : email.split("@")[0])
-                                    .build()
-                    );
-                });
+        User user = userRepository.upsertByEmail(
+                UUID.randomUUID(),
+                email,
+                nickname != null ? nickname : email.split("@")[0],
+                Role.USER.name(),
+                provider.name()
+        );
 
         Map<String, Object> attributes = new HashMap<>(oAuth2User.getAttributes());
 
@@ -4,26 +4,31 @@ import com.nimbusds.oauth2.sdk.util.StringUtils;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Value;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
 import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.Base64;
 
+/**
+ * OAuth2AuthorizationRequest 전체를 Java 직렬화해 쿠키에 저장 (app.oauth2.authorization-request-store=cookie, 기본값)
+ */
 @Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.oauth2", name = "authorization-request-store", havingValue = "cookie", matchIfMissing = true)
 public class HttpCookieOAuth2AuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
 
     public static final String OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME = "oauth2_auth_request";
     public static final String REDIRECT_URI_PARAM_COOKIE_NAME = "redirect_uri";
     private static final int COOKIE_EXPIRE_SECONDS = 180;
 
-    @Value("${spring.profiles.active}")
-    private String activeProfile;
+    private final OAuth2Cookies oAuth2Cookies;
 
     @Override
     public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
-        return getCookie(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME)
+        return oAuth2Cookies.get(request, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME)
                 .map(this::deserialize)
                 .orElse(null);
     }
@@ -37,12 +42,12 @@ public class HttpCookieOAuth2AuthorizationRequestRepository implements Authoriza
             return;
         }
 
-        addCookie(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME,
+        oAuth2Cookies.add(response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME,
                 serialize(authorizationRequest), COOKIE_EXPIRE_SECONDS);
         
         String redirectUriAfterLogin = request.getParameter(REDIRECT_URI_PARAM_COOKIE_NAME);
         if (StringUtils.isNotBlank(redirectUriAfterLogin)) {
-            addCookie(response, REDIRECT_URI_PARAM_COOKIE_NAME,
+            oAuth2Cookies.add(response, REDIRECT_URI_PARAM_COOKIE_NAME,
                     redirectUriAfterLogin, COOKIE_EXPIRE_SECONDS);
         }
     }
@@ -57,63 +62,19 @@ public class HttpCookieOAuth2AuthorizationRequestRepository implements Authoriza
 
     public void removeAuthorizationRequestCookies(HttpServletRequest request,
                                                    HttpServletResponse response) {
-        deleteCookie(request, response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
-        deleteCookie(request, response, REDIRECT_URI_PARAM_COOKIE_NAME);
+        oAuth2Cookies.delete(request, response, OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
+        oAuth2Cookies.delete(request, response, REDIRECT_URI_PARAM_COOKIE_NAME);
     }
 
-    private java.util.Optional<Cookie> getCookie(HttpServletRequest request, String name) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null && cookies.length > 0) {
-            for (Cookie cookie : cookies) {
-                if (cookie.getName().equals(name)) {
-                    return java.util.Optional.of(cookie);
-                }
-            }
-        }
-        return java.util.Optional.empty();
-    }
-
-    private void addCookie(HttpServletResponse response, String name, String value, int maxAge) {
-        Cookie cookie = new Cookie(name, value);
-        cookie.setPath("/");
-        cookie.setHttpOnly(true);
-        cookie.setMaxAge(maxAge);
-
-        boolean isProduction = "prod".equals(activeProfile);
-        cookie.setSecure(isProduction);
-
-        if (isProduction) {
-            cookie.setAttribute("SameSite", "None");
-        } else {
-            cookie.setAttribute("SameSite", "Lax");
-        }
-
-        response.addCookie(cookie);
-    }
-
-    private void deleteCookie(HttpServletRequest request, HttpServletResponse response, String name) {
-        Cookie[] cookies = request.getCookies();
-        if (cookies != null && cookies.length > 0) {
-            for (Cookie cookie : cookies) {
-                if (cookie.getName().equals(name)) {
-                    cookie.setValue("");
-                    cookie.setPath("/");
-                    cookie.setMaxAge(0);
-                    response.addCookie(cookie);
-                }
-            }
-        }
-    }
-
-    private String serialize(OAuth2AuthorizationRequest authorizationRequest) {
+    static String serialize(OAuth2AuthorizationRequest authorizationRequest) {
         return Base64.getUrlEncoder().encodeToString(
                 org.springframework.util.SerializationUtils.serialize(authorizationRequest)
         );
     }
 
-    private OAuth2AuthorizationRequest deserialize(Cookie cookie) {
+    static OAuth2AuthorizationRequest deserialize(String value) {
         Object deserialized = org.springframework.util.SerializationUtils.deserialize(
-                Base64.getUrlDecoder().decode(cookie.getValue())
+                Base64.getUrlDecoder().decode(value)
         );
 
         if (deserialized instanceof OAuth2AuthorizationRequest) {
@@ -122,4 +83,8 @@ public class HttpCookieOAuth2AuthorizationRequestRepository implements Authoriza
 
         throw new IllegalArgumentException("Invalid OAuth2AuthorizationRequest cookie");
     }
+
+    private OAuth2AuthorizationRequest deserialize(Cookie cookie) {
+        return deserialize(cookie.getValue());
+    }
 }
@@ -1,5 +1,7 @@
 package org.pagebyfeel.security.oauth;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -9,6 +11,7 @@ import org.pagebyfeel.security.JwtTokenProvider;
 import org.pagebyfeel.service.AuthService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 
@@ -21,6 +24,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthService authService;
+    private final MeterRegistry meterRegistry;
 
     @Value("${app.oauth2.authorized-redirect-uri}")
     private String redirectUri;
@@ -38,7 +42,18 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
     public void onAuthenticationSuccess(HttpServletRequest request,
                                         HttpServletResponse response,
                                         Authentication authentication) throws IOException {
+        // 토큰 발급, Refresh Token 저장, 리다이렉트까지의 시간 (Provider 호출은 포함하지 않음)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            handleSuccess(request, response, authentication);
+        } finally {
+            sample.stop(meterRegistry.timer("oauth2.login.success", "provider", providerOf(authentication)));
+        }
+    }
 
+    private void handleSuccess(HttpServletRequest request,
+                               HttpServletResponse response,
+                               Authentication authentication) throws IOException {
         if (response.isCommitted()) {
             log.debug("Response has already been committed. Unable to redirect");
             return;
@@ -52,9 +67,8 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
                 oAuth2User.getAuthorities().iterator().next()
                         .getAuthority().replace("ROLE_", "")
         );
-        String refreshToken = jwtTokenProvider.generateRefreshToken(oAuth2User.getUserId());
-
-        authService.saveRefreshToken(oAuth2User.getUserId(), refreshToken);
+        // Refresh Token은 서명 없는 opaque 토큰으로 발급하고 Redis에는 해시만 저장
+        String refreshToken = authService.issueRefreshToken(oAuth2User.getUserId());
 
         // 쿠키 만료 시간을 설정값에서 가져와서 사용
         int accessTokenMaxAge = (int) (accessTokenExpirationMinutes * 60);  // 분 → 초
@@ -70,6 +84,13 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         getRedirectStrategy().sendRedirect(request, response, redirectUri);
     }
 
+    private static String providerOf(Authentication authentication) {
+        if (authentication instanceof OAuth2AuthenticationToken token) {
+            return token.getAuthorizedClientRegistrationId();
+        }
+        return "unknown";
+    }
+
     private void addTokenCookie(HttpServletResponse response, String name, String value, int maxAge) {
         Cookie cookie = new Cookie(name, value);
         cookie.setHttpOnly(true);
@@ -0,0 +1,44 @@
+package org.pagebyfeel.security.oauth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.common.ErrorCode;
+import org.pagebyfeel.exception.common.ErrorResponseBodies;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * OAuth2 로그인 시작(/oauth2/authorization/{provider}) 단계의 실패 응답을 ErrorResponse 형식으로 작성
+ * OAuth2AuthorizationRequestRedirectFilter는 인가 요청 저장 중 발생한 예외를 감싸 이 핸들러로 넘긴다.
+ * 원인이 BusinessException이면 그 코드(예: Redis 저장 실패 시 SERVICE_UNAVAILABLE → 503)를, 아니면 500을 사용한다
+ */
+@Slf4j
+@Component
+public class OAuth2AuthorizationRequestFailureHandler implements AuthenticationFailureHandler {
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException {
+        ErrorCode errorCode = GlobalErrorCode.INTERNAL_SERVER_ERROR;
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BusinessException businessException) {
+                errorCode = businessException.getErrorCode();
+                break;
+            }
+        }
+
+        if (errorCode == GlobalErrorCode.INTERNAL_SERVER_ERROR) {
+            log.error("OAuth2 authorization request failed", exception);
+        } else {
+            log.warn("OAuth2 authorization request rejected: {}", errorCode);
+        }
+        ErrorResponseBodies.write(response, errorCode);
+    }
+}
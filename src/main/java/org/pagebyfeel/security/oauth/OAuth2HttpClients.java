@@ -0,0 +1,55 @@
+package org.pagebyfeel.security.oauth;
+
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.converter.FormHttpMessageConverter;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.RestClientAuthorizationCodeTokenResponseClient;
+import org.springframework.security.oauth2.client.http.OAuth2ErrorResponseErrorHandler;
+import org.springframework.security.oauth2.core.http.converter.OAuth2AccessTokenResponseHttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * OAuth2 토큰 교환과 사용자 정보 조회 클라이언트 생성
+ * 연결 풀은 PooledHttpClients로 만든 공유 요청 팩토리를 받아 사용한다
+ */
+public final class OAuth2HttpClients {
+
+    private OAuth2HttpClients() {
+    }
+
+    /**
+     * DefaultOAuth2UserService용 RestTemplate. 기본 구현과 같은 OAuth2 에러 핸들러를 사용한다
+     */
+    public static RestTemplate userInfoRestTemplate(ClientHttpRequestFactory requestFactory,
+                                                    OAuth2ProviderLatencyRecorder latencyRecorder) {
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setErrorHandler(new OAuth2ErrorResponseErrorHandler());
+        restTemplate.getInterceptors().add(latencyRecorder);
+        return restTemplate;
+    }
+
+    /**
+     * Authorization Code 교환 클라이언트. 기본 구현과 같은 메시지 컨버터와 에러 핸들러를 사용한다
+     */
+    public static OAuth2AccessTokenResponseClient<OAuth2AuthorizationCodeGrantRequest> authorizationCodeTokenResponseClient(
+            ClientHttpRequestFactory requestFactory, OAuth2ProviderLatencyRecorder latencyRecorder
+    ) {
+        RestClient restClient = RestClient.builder()
+                .requestFactory(requestFactory)
+                .requestInterceptor(latencyRecorder)
+                .messageConverters(converters -> {
+                    converters.clear();
+                    converters.add(new FormHttpMessageConverter());
+                    converters.add(new OAuth2AccessTokenResponseHttpMessageConverter());
+                })
+                .defaultStatusHandler(new OAuth2ErrorResponseErrorHandler())
+                .build();
+
+        RestClientAuthorizationCodeTokenResponseClient tokenResponseClient =
+                new RestClientAuthorizationCodeTokenResponseClient();
+        tokenResponseClient.setRestClient(restClient);
+        return tokenResponseClient;
+    }
+}
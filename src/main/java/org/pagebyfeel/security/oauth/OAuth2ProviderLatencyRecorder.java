@@ -0,0 +1,67 @@
+package org.pagebyfeel.security.oauth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OAuth2 Provider 호출(토큰 교환, 사용자 정보 조회) 지연 시간을 Provider별 Micrometer Timer(oauth2.provider.requests)로 기록하는 인터셉터
+ * 요청 호스트로 Provider를 구분하며, 등록되지 않은 호스트는 호스트 이름 그대로 기록한다.
+ * outcome 태그: success, client_error(4xx), server_error(5xx), io_error(연결 실패, 타임아웃)
+ */
+public class OAuth2ProviderLatencyRecorder implements ClientHttpRequestInterceptor {
+
+    public static final String METRIC_NAME = "oauth2.provider.requests";
+
+    private final Map<String, String> providersByHost;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public OAuth2ProviderLatencyRecorder(Map<String, String> providersByHost, MeterRegistry meterRegistry) {
+        this.providersByHost = Map.copyOf(providersByHost);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String host = request.getURI().getHost();
+        String provider = providersByHost.getOrDefault(host, host);
+
+        long start = System.nanoTime();
+        String outcome = "io_error";
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            outcome = outcome(response.getStatusCode());
+            return response;
+        } finally {
+            timer(provider, outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String provider, String outcome) {
+        return timers.computeIfAbsent(provider + '|' + outcome, ignored -> Timer.builder(METRIC_NAME)
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private static String outcome(HttpStatusCode status) {
+        if (status.is4xxClientError()) {
+            return "client_error";
+        }
+        if (status.is5xxServerError()) {
+            return "server_error";
+        }
+        return "success";
+    }
+}
@@ -0,0 +1,104 @@
+package org.pagebyfeel.security.oauth;
+
+import com.nimbusds.oauth2.sdk.util.StringUtils;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * OAuth2AuthorizationRequest를 state 값을 키로 Redis에 저장 (app.oauth2.authorization-request-store=redis)
+ * 쿠키에는 state만 담고, 콜백의 state 파라미터가 쿠키 값과 일치할 때만 요청을 꺼내
+ * 다른 브라우저에서 시작된 로그인 흐름이 주입되지 않도록 한다. 꺼낸 요청은 즉시 삭제되어 재사용할 수 없다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.oauth2", name = "authorization-request-store", havingValue = "redis")
+public class RedisOAuth2AuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    private static final Duration AUTHORIZATION_REQUEST_TTL = Duration.ofSeconds(180);
+
+    private final RedisService redisService;
+    private final OAuth2Cookies oAuth2Cookies;
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        String state = resolveState(request);
+        if (state == null) {
+            return null;
+        }
+
+        StoredAuthorizationRequest stored = redisService.getOAuth2AuthorizationRequest(state);
+        return stored == null ? null : stored.toAuthorizationRequest();
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            removeAuthorizationRequestCookies(request, response);
+            return;
+        }
+
+        String state = authorizationRequest.getState();
+        redisService.saveOAuth2AuthorizationRequest(
+                state, StoredAuthorizationRequest.from(authorizationRequest), AUTHORIZATION_REQUEST_TTL
+        );
+
+        int maxAge = (int) AUTHORIZATION_REQUEST_TTL.toSeconds();
+        oAuth2Cookies.add(response, HttpCookieOAuth2AuthorizationRequestRepository.OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME,
+                state, maxAge);
+
+        String redirectUriAfterLogin = request.getParameter(HttpCookieOAuth2AuthorizationRequestRepository.REDIRECT_URI_PARAM_COOKIE_NAME);
+        if (StringUtils.isNotBlank(redirectUriAfterLogin)) {
+            oAuth2Cookies.add(response, HttpCookieOAuth2AuthorizationRequestRepository.REDIRECT_URI_PARAM_COOKIE_NAME,
+                    redirectUriAfterLogin, maxAge);
+        }
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request,
+                                                                  HttpServletResponse response) {
+        String state = resolveState(request);
+        removeAuthorizationRequestCookies(request, response);
+        if (state == null) {
+            return null;
+        }
+
+        StoredAuthorizationRequest stored = redisService.takeOAuth2AuthorizationRequest(state);
+        return stored == null ? null : stored.toAuthorizationRequest();
+    }
+
+    public void removeAuthorizationRequestCookies(HttpServletRequest request, HttpServletResponse response) {
+        oAuth2Cookies.delete(request, response, HttpCookieOAuth2AuthorizationRequestRepository.OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME);
+        oAuth2Cookies.delete(request, response, HttpCookieOAuth2AuthorizationRequestRepository.REDIRECT_URI_PARAM_COOKIE_NAME);
+    }
+
+    /**
+     * 쿠키의 state. 요청에 state 파라미터가 있으면 쿠키 값과 같을 때만 유효
+     */
+    private String resolveState(HttpServletRequest request) {
+        String cookieState = oAuth2Cookies.get(request, HttpCookieOAuth2AuthorizationRequestRepository.OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME)
+                .map(Cookie::getValue)
+                .filter(StringUtils::isNotBlank)
+                .orElse(null);
+        if (cookieState == null) {
+            return null;
+        }
+
+        String parameterState = request.getParameter(OAuth2ParameterNames.STATE);
+        if (parameterState != null && !parameterState.equals(cookieState)) {
+            return null;
+        }
+        return cookieState;
+    }
+}
@@ -0,0 +1,48 @@
+package org.pagebyfeel.security.oauth;
+
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis에 저장하는 OAuth2AuthorizationRequest 표현
+ * authorization_code 흐름만 사용하므로 grant/response type은 저장하지 않는다
+ */
+public record StoredAuthorizationRequest(
+        String authorizationUri,
+        String clientId,
+        String redirectUri,
+        Set<String> scopes,
+        String state,
+        Map<String, Object> additionalParameters,
+        Map<String, Object> attributes,
+        String authorizationRequestUri
+) {
+
+    public static StoredAuthorizationRequest from(OAuth2AuthorizationRequest request) {
+        return new StoredAuthorizationRequest(
+                request.getAuthorizationUri(),
+                request.getClientId(),
+                request.getRedirectUri(),
+                request.getScopes(),
+                request.getState(),
+                request.getAdditionalParameters(),
+                request.getAttributes(),
+                request.getAuthorizationRequestUri()
+        );
+    }
+
+    public OAuth2AuthorizationRequest toAuthorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(authorizationUri)
+                .clientId(clientId)
+                .redirectUri(redirectUri)
+                .scopes(scopes)
+                .state(state)
+                .additionalParameters(additionalParameters)
+                .attributes(attributes)
+                .authorizationRequestUri(authorizationRequestUri)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package org.pagebyfeel.security.ratelimit;
+
+/**
+ * 노드 로컬 토큰 버킷. 한 노드의 요청만으로 비었다면 전체 버킷도 비어 있으므로 Redis 조회 없이 거부할 수 있다
+ */
+class LocalTokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    LocalTokenBucket(RateLimitPolicy policy, long nowNanos) {
+        this.capacity = policy.capacity();
+        this.refillPerNano = policy.refillPerSecond() / 1_000_000_000.0;
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * 토큰을 하나 사용. 허용되면 0, 아니면 다음 토큰까지 남은 시간(ms)
+     */
+    synchronized long tryConsume(long nowNanos) {
+        refill(nowNanos);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerNano / 1_000_000);
+    }
+
+    /**
+     * Redis에서 거부되면 다른 노드의 사용량까지 반영된 것이므로 로컬 버킷도 비운다
+     */
+    synchronized void drain(long nowNanos) {
+        refill(nowNanos);
+        tokens = 0;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - lastRefillNanos);
+        tokens = Math.min(capacity, tokens + elapsed * refillPerNano);
+        lastRefillNanos = nowNanos;
+    }
+}
@@ -0,0 +1,21 @@
+package org.pagebyfeel.security.ratelimit;
+
+public record RateLimitDecision(boolean allowed, long retryAfterMillis) {
+
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision reject(long retryAfterMillis) {
+        return new RateLimitDecision(false, retryAfterMillis);
+    }
+
+    /**
+     * Retry-After 헤더 값 (초 단위 올림, 최소 1초)
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
@@ -0,0 +1,97 @@
+package org.pagebyfeel.security.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.exception.common.ErrorResponseBodies;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.pagebyfeel.security.JwtTokenProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 토큰 갱신, OAuth2 로그인, 외부 도서 가져오기 경로에 IP별, 사용자별 토큰 버킷을 적용하는 필터
+ * OAuth2 필터보다 앞에서 실행되어야 하므로 인증 정보는 Access Token에서 직접 읽는다.
+ * 제한을 넘으면 429와 Retry-After 헤더를 ErrorResponse 형식으로 응답
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled() || resolveRoute(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRoute route = resolveRoute(request);
+
+        RateLimitDecision decision = rateLimiter.tryAcquire(route, "ip:" + request.getRemoteAddr());
+        if (decision.allowed()) {
+            String userId = resolveUserId(request);
+            if (userId != null) {
+                decision = rateLimiter.tryAcquire(route, "user:" + userId);
+            }
+        }
+
+        if (!decision.allowed()) {
+            log.warn("Rate limit exceeded. route: {}, ip: {}", route, request.getRemoteAddr());
+            writeTooManyRequests(response, decision);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitRoute resolveRoute(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return RateLimitRoute.match(path);
+    }
+
+    /**
+     * 갱신 요청은 대부분 만료된 Access Token을 들고 오므로 만료 여부와 관계없이 서명이 검증된 subject를 사용
+     * 서명이 맞지 않는 토큰은 무시하고 IP 기준으로만 제한
+     */
+    private String resolveUserId(HttpServletRequest request) {
+        String token = parseJwt(request);
+        if (token == null) {
+            return null;
+        }
+        return jwtTokenProvider.getVerifiedSubjectIgnoringExpiry(token);
+    }
+
+    private String parseJwt(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if ("accessToken".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private void writeTooManyRequests(HttpServletResponse response, RateLimitDecision decision) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        ErrorResponseBodies.write(response, GlobalErrorCode.TOO_MANY_REQUESTS);
+    }
+}
@@ -0,0 +1,17 @@
+package org.pagebyfeel.security.ratelimit;
+
+/**
+ * 버킷 용량(순간 허용량)과 분당 충전 토큰 수(지속 허용량)
+ */
+public record RateLimitPolicy(long capacity, long refillPerMinute) {
+
+    public RateLimitPolicy {
+        if (capacity <= 0 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("capacity and refillPerMinute must be positive");
+        }
+    }
+
+    public double refillPerSecond() {
+        return refillPerMinute / 60.0;
+    }
+}
@@ -0,0 +1,31 @@
+package org.pagebyfeel.security.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * rate limit 대상 경로. 경로는 context-path를 제외한 값
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RateLimitRoute {
+
+    REFRESH("refresh", "/auth/refresh", false),
+    OAUTH2_AUTHORIZATION("oauth2_authorization", "/oauth2/", true),
+    OAUTH2_CALLBACK("oauth2_callback", "/login/oauth2/", true),
+    // 요청 하나가 ISBN 수만큼 외부 도서 API 호출로 이어지므로 사용자별 할당량을 보호한다
+    BOOK_IMPORT("book_import", "/books/import", false);
+
+    private final String key;
+    private final String path;
+    private final boolean prefix;
+
+    public static RateLimitRoute match(String path) {
+        for (RateLimitRoute route : values()) {
+            if (route.prefix ? path.startsWith(route.path) : path.equals(route.path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,7 @@
+package org.pagebyfeel.security.ratelimit;
+
+/**
+ * 경로별 허용 수와 거부 수. 로컬 사전 검사에서 거부된 요청은 Redis를 호출하지 않는다
+ */
+public record RateLimitStats(long allowedCount, long localRejectedCount, long redisRejectedCount) {
+}
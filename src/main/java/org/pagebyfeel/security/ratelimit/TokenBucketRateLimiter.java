@@ -0,0 +1,108 @@
+package org.pagebyfeel.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.pagebyfeel.service.RedisService;
+import org.pagebyfeel.service.TokenBucketResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로컬 사전 검사와 Redis Lua 토큰 버킷을 결합한 rate limiter
+ * 로컬 버킷이 비어 있으면 Redis를 호출하지 않고 거부하고, 그 외에는 Redis 버킷으로 클러스터 전체 사용량을 확인한다.
+ * Redis 장애 시에는 로컬 버킷만으로 제한한다 (Fail-Open)
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final String KEY_PREFIX = "rate_limit:";
+
+    private final RedisService redisService;
+    private final boolean enabled;
+    private final Map<RateLimitRoute, RateLimitPolicy> policies = new EnumMap<>(RateLimitRoute.class);
+    private final Cache<String, LocalTokenBucket> localBuckets;
+
+    private final Map<RateLimitRoute, LongAdder> allowedCounts = new EnumMap<>(RateLimitRoute.class);
+    private final Map<RateLimitRoute, LongAdder> localRejectedCounts = new EnumMap<>(RateLimitRoute.class);
+    private final Map<RateLimitRoute, LongAdder> redisRejectedCounts = new EnumMap<>(RateLimitRoute.class);
+
+    public TokenBucketRateLimiter(
+            RedisService redisService,
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.refresh.capacity:10}") long refreshCapacity,
+            @Value("${app.rate-limit.refresh.refill-per-minute:10}") long refreshRefillPerMinute,
+            @Value("${app.rate-limit.oauth2.capacity:20}") long oauth2Capacity,
+            @Value("${app.rate-limit.oauth2.refill-per-minute:20}") long oauth2RefillPerMinute,
+            @Value("${app.rate-limit.book-import.capacity:5}") long bookImportCapacity,
+            @Value("${app.rate-limit.book-import.refill-per-minute:5}") long bookImportRefillPerMinute,
+            @Value("${app.rate-limit.local-maximum-keys:100000}") long localMaximumKeys
+    ) {
+        this.redisService = redisService;
+        this.enabled = enabled;
+
+        RateLimitPolicy oauth2Policy = new RateLimitPolicy(oauth2Capacity, oauth2RefillPerMinute);
+        policies.put(RateLimitRoute.REFRESH, new RateLimitPolicy(refreshCapacity, refreshRefillPerMinute));
+        policies.put(RateLimitRoute.OAUTH2_AUTHORIZATION, oauth2Policy);
+        policies.put(RateLimitRoute.OAUTH2_CALLBACK, oauth2Policy);
+        policies.put(RateLimitRoute.BOOK_IMPORT, new RateLimitPolicy(bookImportCapacity, bookImportRefillPerMinute));
+
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            allowedCounts.put(route, new LongAdder());
+            localRejectedCounts.put(route, new LongAdder());
+            redisRejectedCounts.put(route, new LongAdder());
+        }
+
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(localMaximumKeys)
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * subject는 "ip:..." 또는 "user:..." 형태의 식별자
+     */
+    public RateLimitDecision tryAcquire(RateLimitRoute route, String subject) {
+        RateLimitPolicy policy = policies.get(route);
+        String key = KEY_PREFIX + route.getKey() + ":" + subject;
+        long now = System.nanoTime();
+
+        LocalTokenBucket localBucket = localBuckets.get(key, ignored -> new LocalTokenBucket(policy, now));
+        long localWaitMillis = localBucket.tryConsume(now);
+        if (localWaitMillis > 0) {
+            localRejectedCounts.get(route).increment();
+            return RateLimitDecision.reject(localWaitMillis);
+        }
+
+        TokenBucketResult result = redisService.tryConsumeRateLimitToken(key, policy.capacity(), policy.refillPerSecond());
+        if (!result.allowed()) {
+            localBucket.drain(System.nanoTime());
+            redisRejectedCounts.get(route).increment();
+            return RateLimitDecision.reject(result.retryAfterMillis());
+        }
+
+        allowedCounts.get(route).increment();
+        return RateLimitDecision.allow();
+    }
+
+    public Map<RateLimitRoute, RateLimitStats> getStats() {
+        Map<RateLimitRoute, RateLimitStats> stats = new LinkedHashMap<>();
+        for (RateLimitRoute route : RateLimitRoute.values()) {
+            stats.put(route, new RateLimitStats(
+                    allowedCounts.get(route).sum(),
+                    localRejectedCounts.get(route).sum(),
+                    redisRejectedCounts.get(route).sum()
+            ));
+        }
+        return stats;
+    }
+}
@@ -10,10 +10,15 @@ import org.pagebyfeel.exception.common.BusinessException;
 import org.pagebyfeel.exception.user.UserErrorCode;
 import org.pagebyfeel.repository.UserRepository;
 import org.pagebyfeel.security.JwtTokenProvider;
+import org.pagebyfeel.security.TokenEpochService;
+import org.pagebyfeel.util.HashUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.UUID;
 
 @Service
@@ -21,38 +26,75 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final int OPAQUE_TOKEN_BYTES = 32;
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
     private final RedisService redisService;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final TokenEpochService tokenEpochService;
 
     @Value("${jwt.refresh-token-expiration-days}")
     private long refreshTokenExpirationDays;
 
-    @Value("${jwt.access-token-expiration-minutes}")
-    private long accessTokenExpirationMinutes;
+    @Value("${jwt.refresh-token-reuse-grace-seconds:10}")
+    private long refreshTokenReuseGraceSeconds;
+
+    // 교체 시 새 토큰을 제시된 토큰의 HMAC으로 만들기 위한 키 (Base64). 비어 있으면 재시도 유예를 쓰지 않는다
+    @Value("${jwt.refresh-token-derivation-key:}")
+    private String refreshTokenDerivationKey;
+
+    @Value("${jwt.legacy-refresh-token.enabled:true}")
+    private boolean legacyRefreshTokenEnabled;
 
-    public void saveRefreshToken(UUID userId, String refreshToken) {
-        redisService.saveRefreshToken(userId, refreshToken, refreshTokenExpirationDays);
-        log.info("Refresh token saved for user: {}", userId);
+    /**
+     * 새 opaque Refresh Token 발급. Redis에는 SHA-256 해시만 저장한다
+     */
+    public String issueRefreshToken(UUID userId) {
+        String refreshToken = generateOpaqueToken();
+        redisService.saveRefreshToken(userId, HashUtils.sha256Base64Url(refreshToken), refreshTokenExpirationDays);
+        log.info("Refresh token issued for user: {}", userId);
+        return refreshToken;
     }
 
+    /**
+     * 확인과 교체를 Redis에서 원자적으로 처리해 동시 요청 중 하나만 성공하도록 함
+     * 파생 키가 설정되어 있으면 새 토큰을 HMAC(키, 제시된 토큰)으로 만든다. 응답을 받지 못한 클라이언트가 유예 시간 안에
+     * 같은 토큰으로 재시도하면 같은 새 토큰을 다시 계산해 돌려주므로, Redis에는 토큰 원문을 두지 않아도 된다.
+     * 유예 시간 안에 탈취된 이전 토큰이 제시되어도 새 토큰은 정상 클라이언트와 공유될 뿐이며, 둘 중 나중에 쓰는 쪽이 재사용으로 감지된다
+     */
     @Transactional(readOnly = true)
     public AuthResponse refreshAccessToken(String refreshToken) {
-        // 변경: CustomException → BusinessException, UserErrorCode → AuthErrorCode
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new BusinessException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        RefreshTokenRotation rotation;
+        String newRefreshToken;
+        if (isLegacyJwtRefreshToken(refreshToken)) {
+            newRefreshToken = generateOpaqueToken();
+            rotation = migrateLegacyRefreshToken(refreshToken, HashUtils.sha256Base64Url(newRefreshToken));
+        } else {
+            boolean derived = !refreshTokenDerivationKey.isBlank();
+            newRefreshToken = derived
+                    ? HashUtils.hmacSha256Base64Url(Base64.getDecoder().decode(refreshTokenDerivationKey), refreshToken)
+                    : generateOpaqueToken();
+            rotation = redisService.rotateRefreshToken(
+                    HashUtils.sha256Base64Url(refreshToken), HashUtils.sha256Base64Url(newRefreshToken),
+                    refreshTokenExpirationDays,
+                    derived ? Duration.ofSeconds(refreshTokenReuseGraceSeconds) : Duration.ZERO
+            );
         }
 
-        Claims claims = jwtTokenProvider.getClaimsFromToken(refreshToken);
-        UUID userId = UUID.fromString(claims.getSubject());
-
-        String storedRefreshToken = redisService.getRefreshToken(userId);
-        if (storedRefreshToken == null) {
+        if (rotation.result() == RefreshTokenRotationResult.NOT_FOUND) {
             throw new BusinessException(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
-        if (!storedRefreshToken.equals(refreshToken)) {
+        UUID userId = rotation.userId();
+        if (rotation.result() == RefreshTokenRotationResult.REUSE_DETECTED) {
+            log.warn("Refresh token reuse detected. Revoking all sessions for user: {}", userId);
+            revokeAllSessions(userId);
             throw new BusinessException(AuthErrorCode.INVALID_REFRESH_TOKEN);
         }
+        if (rotation.result() == RefreshTokenRotationResult.REPLAYED) {
+            // 직전 응답을 받지 못한 재시도. 다시 계산한 새 토큰은 직전 교체에서 저장한 것과 같다
+            log.info("Refresh token retried within grace window for user: {}", userId);
+        }
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
@@ -62,10 +104,6 @@ public class AuthService {
                 user.getRole().name()
         );
 
-        redisService.deleteRefreshToken(userId);
-        String newRefreshToken = jwtTokenProvider.generateRefreshToken(user.getUserId());
-        redisService.saveRefreshToken(userId, newRefreshToken, refreshTokenExpirationDays);
-
         log.info("Access token refreshed for user: {}", userId);
         return new AuthResponse(newAccessToken, newRefreshToken);
     }
@@ -73,14 +111,51 @@ public class AuthService {
     public void logout(UUID userId, String accessToken) {
         redisService.deleteRefreshToken(userId);
 
-        if (accessToken != null && jwtTokenProvider.validateToken(accessToken)) {
-            redisService.addToBlacklist(accessToken, accessTokenExpirationMinutes);
+        if (accessToken != null) {
+            Claims claims = jwtTokenProvider.parseVerifiedClaims(accessToken);
+            redisService.addToBlacklist(
+                    jwtTokenProvider.getTokenId(accessToken, claims),
+                    jwtTokenProvider.getRemainingValidity(claims)
+            );
         }
 
         log.info("User logged out: {}", userId);
     }
 
+    /**
+     * 모든 기기에서 로그아웃. 토큰 epoch를 올려 기존 Access Token을 한 번의 쓰기로 무효화하고 Refresh Token도 삭제
+     */
+    public void revokeAllSessions(UUID userId) {
+        long epoch = tokenEpochService.revokeAll(userId);
+        redisService.deleteRefreshToken(userId);
+
+        log.info("All sessions revoked for user: {}, epoch: {}", userId, epoch);
+    }
+
     public boolean hasValidRefreshToken(UUID userId) {
         return redisService.hasRefreshToken(userId);
     }
+
+    /**
+     * 마이그레이션 기간에만 허용되는 이전 JWT Refresh Token 처리. 서명 검증 후 opaque 토큰으로 교체
+     */
+    private RefreshTokenRotation migrateLegacyRefreshToken(String refreshToken, String newTokenHash) {
+        if (!legacyRefreshTokenEnabled) {
+            throw new BusinessException(AuthErrorCode.INVALID_REFRESH_TOKEN);
+        }
+
+        Claims claims = jwtTokenProvider.parseVerifiedClaims(refreshToken);
+        UUID userId = UUID.fromString(claims.getSubject());
+        return redisService.migrateLegacyRefreshToken(userId, refreshToken, newTokenHash, refreshTokenExpirationDays);
+    }
+
+    private boolean isLegacyJwtRefreshToken(String refreshToken) {
+        return refreshToken.indexOf('.') >= 0;
+    }
+
+    private static String generateOpaqueToken() {
+        byte[] bytes = new byte[OPAQUE_TOKEN_BYTES];
+        SECURE_RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
 }
@@ -0,0 +1,7 @@
+package org.pagebyfeel.service;
+
+/**
+ * 도서 등록 트랜잭션 안에서 발행. 커밋 후 자동완성 색인 등 읽기 전용 사본이 반영한다
+ */
+public record BookCreatedEvent(Long bookId, String title, String author) {
+}
@@ -0,0 +1,19 @@
+package org.pagebyfeel.service;
+
+import org.pagebyfeel.dto.request.CreateBookRequest;
+import org.pagebyfeel.dto.request.ImportBooksRequest;
+import org.pagebyfeel.dto.response.BookResponse;
+import org.pagebyfeel.dto.response.BookSearchResponse;
+import org.pagebyfeel.dto.response.BookSuggestionResponse;
+import org.pagebyfeel.dto.response.ImportBooksResponse;
+
+import java.util.List;
+
+public interface BookService {
+    BookResponse getBook(Long bookId);
+    BookResponse getBookByIsbn(String isbn);
+    BookSearchResponse searchBooks(String query, Long cursor, int size);
+    List<BookSuggestionResponse> suggestBooks(String query, int size);
+    BookResponse createBook(CreateBookRequest request);
+    ImportBooksResponse importBooks(ImportBooksRequest request);
+}
@@ -0,0 +1,210 @@
+package org.pagebyfeel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.autocomplete.AutocompleteEntry;
+import org.pagebyfeel.autocomplete.BookAutocompleteIndex;
+import org.pagebyfeel.dto.request.CreateBookRequest;
+import org.pagebyfeel.dto.request.ImportBooksRequest;
+import org.pagebyfeel.dto.response.BookResponse;
+import org.pagebyfeel.dto.response.BookSearchResponse;
+import org.pagebyfeel.dto.response.BookSuggestionResponse;
+import org.pagebyfeel.dto.response.ImportBooksResponse;
+import org.pagebyfeel.entity.Book;
+import org.pagebyfeel.exception.book.BookErrorCode;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.pagebyfeel.metadata.BookMetadata;
+import org.pagebyfeel.metadata.BookMetadataLoader;
+import org.pagebyfeel.metadata.BookMetadataLookup;
+import org.pagebyfeel.repository.BookRepository;
+import org.pagebyfeel.util.IsbnUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BookServiceImpl implements BookService {
+
+    static final int MAX_PAGE_SIZE = 50;
+    static final int MAX_SUGGESTIONS = 20;
+    private static final int MIN_SUBSTRING_QUERY_LENGTH = 3;
+    // 한 글자 접두어는 카탈로그 대부분과 일치해 페이지 하나를 위해 일치 행 전체를 모아 정렬하게 되므로 검색어에서 뺀다
+    private static final int MIN_PREFIX_TERM_LENGTH = 2;
+
+    private final BookRepository bookRepository;
+    private final BookAutocompleteIndex autocompleteIndex;
+    private final BookMetadataLoader metadataLoader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookResponse getBook(Long bookId) {
+        return bookRepository.findById(bookId)
+                .map(BookResponse::from)
+                .orElseThrow(() -> new BusinessException(BookErrorCode.BOOK_NOT_FOUND));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookResponse getBookByIsbn(String isbn) {
+        return bookRepository.findByIsbn(IsbnUtils.normalize(isbn))
+                .map(BookResponse::from)
+                .orElseThrow(() -> new BusinessException(BookErrorCode.BOOK_NOT_FOUND));
+    }
+
+    /**
+     * 단어 접두어(전문 검색)와 3글자 이상이면 부분 일치(trigram)로 검색. OFFSET 대신 book_id 커서를 사용해
+     * 앞 페이지 행을 건너뛰며 읽지 않는다. 두 글자 이상인 단어가 하나도 없으면 일치 범위가 너무 넓으므로 거부
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public BookSearchResponse searchBooks(String query, Long cursor, int size) {
+        String tsQuery = toPrefixTsQuery(query);
+        if (tsQuery.isEmpty()) {
+            throw new BusinessException(GlobalErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long afterId = cursor == null ? 0L : cursor;
+        String trimmed = query.strip();
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+        List<Book> books = trimmed.length() >= MIN_SUBSTRING_QUERY_LENGTH
+                ? bookRepository.searchByPrefixOrSubstring(tsQuery, toContainsPattern(trimmed), afterId, pageSize + 1)
+                : bookRepository.searchByPrefix(tsQuery, afterId, pageSize + 1);
+
+        Long nextCursor = null;
+        if (books.size() > pageSize) {
+            books = books.subList(0, pageSize);
+            nextCursor = books.get(pageSize - 1).getBookId();
+        }
+
+        List<BookResponse> responses = new ArrayList<>(books.size());
+        for (Book book : books) {
+            responses.add(BookResponse.from(book));
+        }
+        return new BookSearchResponse(responses, nextCursor);
+    }
+
+    /**
+     * 입력 중 검색어 자동완성. DB를 거치지 않고 인메모리 색인만 조회한다
+     */
+    @Override
+    public List<BookSuggestionResponse> suggestBooks(String query, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SUGGESTIONS);
+        List<BookSuggestionResponse> responses = new ArrayList<>(limit);
+        for (AutocompleteEntry entry : autocompleteIndex.suggest(query, limit)) {
+            responses.add(BookSuggestionResponse.from(entry));
+        }
+        return responses;
+    }
+
+    @Override
+    @Transactional
+    public BookResponse createBook(CreateBookRequest request) {
+        String isbn = IsbnUtils.normalize(request.getIsbn());
+        if (bookRepository.existsByIsbn(isbn)) {
+            throw new BusinessException(BookErrorCode.BOOK_ALREADY_EXISTS);
+        }
+
+        Book book = Book.builder()
+                .isbn(isbn)
+                .title(request.getTitle().strip())
+                .author(request.getAuthor().strip())
+                .publisher(request.getPublisher())
+                .publishedDate(request.getPublishedDate())
+                .coverImageUrl(request.getCoverImageUrl())
+                .build();
+
+        try {
+            Book saved = bookRepository.saveAndFlush(book);
+            eventPublisher.publishEvent(new BookCreatedEvent(saved.getBookId(), saved.getTitle(), saved.getAuthor()));
+            return BookResponse.from(saved);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 ISBN이 등록된 경우
+            throw new BusinessException(BookErrorCode.BOOK_ALREADY_EXISTS);
+        }
+    }
+
+    /**
+     * 카탈로그에 없는 ISBN은 외부 도서 API에서 가져와 한 번의 배치로 저장. 어디에도 없는 ISBN은 결과에서 빠지고,
+     * 외부 API 장애로 확인하지 못한 ISBN은 나머지를 저장한 뒤 failedIsbns로 알려 준다
+     * 외부 호출 동안 DB 연결을 잡고 있지 않도록 트랜잭션은 저장 단계에만 둔다
+     */
+    @Override
+    public ImportBooksResponse importBooks(ImportBooksRequest request) {
+        Set<String> isbns = new LinkedHashSet<>();
+        for (String isbn : request.getIsbns()) {
+            isbns.add(IsbnUtils.normalize(isbn));
+        }
+
+        Map<String, Book> books = new HashMap<>();
+        for (Book book : bookRepository.findAllByIsbnIn(isbns)) {
+            books.put(book.getIsbn(), book);
+        }
+        Set<String> missing = new LinkedHashSet<>(isbns);
+        missing.removeAll(books.keySet());
+
+        List<String> failedIsbns = List.of();
+        if (!missing.isEmpty()) {
+            BookMetadataLookup lookup = metadataLoader.loadAll(missing);
+            failedIsbns = lookup.failed();
+            List<BookMetadata> fetched = new ArrayList<>(lookup.found().values());
+            Set<String> inserted = new HashSet<>(bookRepository.insertIgnoringDuplicates(fetched));
+            for (Book book : bookRepository.findAllByIsbnIn(missing)) {
+                books.put(book.getIsbn(), book);
+                if (inserted.contains(book.getIsbn())) {
+                    eventPublisher.publishEvent(new BookCreatedEvent(book.getBookId(), book.getTitle(), book.getAuthor()));
+                }
+            }
+        }
+
+        List<BookResponse> responses = new ArrayList<>(isbns.size());
+        for (String isbn : isbns) {
+            Book book = books.get(isbn);
+            if (book != null) {
+                responses.add(BookResponse.from(book));
+            }
+        }
+        return new ImportBooksResponse(responses, failedIsbns);
+    }
+
+    /**
+     * 공백으로 나눈 각 단어를 접두어 검색어로 바꿔 AND로 연결. tsquery 연산자 문자는 제거한다
+     * MIN_PREFIX_TERM_LENGTH보다 짧은 단어는 제외하며, 남는 단어가 없으면 빈 문자열
+     */
+    static String toPrefixTsQuery(String query) {
+        if (query == null) {
+            return "";
+        }
+        StringBuilder tsQuery = new StringBuilder();
+        for (String word : query.strip().split("\\s+")) {
+            String term = word.replaceAll("[&|!():*<>'\"\\\\]", "").toLowerCase();
+            if (term.codePointCount(0, term.length()) < MIN_PREFIX_TERM_LENGTH) {
+                continue;
+            }
+            if (!tsQuery.isEmpty()) {
+                tsQuery.append(" & ");
+            }
+            tsQuery.append(term).append(":*");
+        }
+        return tsQuery.toString();
+    }
+
+    static String toContainsPattern(String query) {
+        String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
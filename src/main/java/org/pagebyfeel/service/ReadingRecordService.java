@@ -0,0 +1,11 @@
+package org.pagebyfeel.service;
+
+import org.pagebyfeel.dto.request.UpdateReadingProgressRequest;
+import org.pagebyfeel.dto.response.ReadingRecordResponse;
+
+import java.util.UUID;
+
+public interface ReadingRecordService {
+    void updateProgress(UUID userId, Long bookId, UpdateReadingProgressRequest request);
+    ReadingRecordResponse getReadingRecord(UUID userId, Long bookId);
+}
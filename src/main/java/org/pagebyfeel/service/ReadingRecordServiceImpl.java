@@ -0,0 +1,57 @@
+package org.pagebyfeel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.dto.request.UpdateReadingProgressRequest;
+import org.pagebyfeel.dto.response.ReadingRecordResponse;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.reading.ReadingErrorCode;
+import org.pagebyfeel.reading.ReadingProgress;
+import org.pagebyfeel.reading.ReadingProgressBuffer;
+import org.pagebyfeel.repository.ReadingRecordRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReadingRecordServiceImpl implements ReadingRecordService {
+
+    private final ReadingRecordRepository readingRecordRepository;
+    private final ReadingProgressBuffer progressBuffer;
+    private final Clock readingClock;
+
+    /**
+     * 진행률은 쓰기 버퍼에만 기록하고 바로 반환한다. DB에는 다음 flush에서 반영된다
+     * 카탈로그에 없는 책의 진행률은 flush 시 버려진다
+     * 읽은 시각은 app.reading-stats.zone 기준 현지 시각으로, 통계의 날짜 구분에 그대로 쓰인다
+     */
+    @Override
+    public void updateProgress(UUID userId, Long bookId, UpdateReadingProgressRequest request) {
+        if (request.getTotalPages() != null && request.getPage() > request.getTotalPages()) {
+            throw new BusinessException(ReadingErrorCode.INVALID_READING_PROGRESS);
+        }
+        progressBuffer.submit(new ReadingProgress(
+                userId, bookId, request.getPage(), request.getTotalPages(), LocalDateTime.now(readingClock)
+        ));
+    }
+
+    /**
+     * DB 기록에 아직 flush되지 않은 진행률을 합쳐 반환 (방금 넘긴 페이지가 바로 보이도록)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ReadingRecordResponse getReadingRecord(UUID userId, Long bookId) {
+        Optional<ReadingProgress> buffered = progressBuffer.getBuffered(userId, bookId);
+        return readingRecordRepository.findByUserIdAndBookId(userId, bookId)
+                .map(ReadingRecordResponse::from)
+                .map(response -> buffered.map(response::withProgress).orElse(response))
+                .or(() -> buffered.map(ReadingRecordResponse::from))
+                .orElseThrow(() -> new BusinessException(ReadingErrorCode.READING_RECORD_NOT_FOUND));
+    }
+}
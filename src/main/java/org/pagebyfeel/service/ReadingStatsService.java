@@ -0,0 +1,10 @@
+package org.pagebyfeel.service;
+
+import org.pagebyfeel.dto.response.ReadingStatsResponse;
+
+import java.util.UUID;
+
+public interface ReadingStatsService {
+    ReadingStatsResponse getReadingStats(UUID userId, int days, int months);
+    void startBackfill();
+}
@@ -0,0 +1,68 @@
+package org.pagebyfeel.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.dto.response.ReadingStatsResponse;
+import org.pagebyfeel.dto.response.ReadingStatsResponse.PeriodStats;
+import org.pagebyfeel.entity.ReadingStats;
+import org.pagebyfeel.entity.ReadingStatsPeriod;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.reading.ReadingErrorCode;
+import org.pagebyfeel.reading.ReadingStatsBackfill;
+import org.pagebyfeel.repository.ReadingStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReadingStatsServiceImpl implements ReadingStatsService {
+
+    static final int MAX_DAYS = 92;
+    static final int MAX_MONTHS = 36;
+
+    private final ReadingStatsRepository readingStatsRepository;
+    private final ReadingStatsBackfill backfill;
+    private final Clock readingClock;
+
+    /**
+     * 대시보드용 통계. 미리 집계된 최근 days일, months개월 행만 읽으므로 독서 기록이 아무리 많아도 비용이 같다
+     * 기록이 없는 날/달은 결과에서 빠진다
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ReadingStatsResponse getReadingStats(UUID userId, int days, int months) {
+        int dayCount = Math.min(Math.max(days, 1), MAX_DAYS);
+        int monthCount = Math.min(Math.max(months, 1), MAX_MONTHS);
+        LocalDate today = LocalDate.now(readingClock);
+
+        return new ReadingStatsResponse(
+                toPeriodStats(readingStatsRepository.findAllByUserIdAndPeriodAndPeriodStartGreaterThanEqualOrderByPeriodStart(
+                        userId, ReadingStatsPeriod.DAY, today.minusDays(dayCount - 1L))),
+                toPeriodStats(readingStatsRepository.findAllByUserIdAndPeriodAndPeriodStartGreaterThanEqualOrderByPeriodStart(
+                        userId, ReadingStatsPeriod.MONTH, today.withDayOfMonth(1).minusMonths(monthCount - 1L)))
+        );
+    }
+
+    @Override
+    public void startBackfill() {
+        if (!backfill.start()) {
+            throw new BusinessException(ReadingErrorCode.READING_STATS_BACKFILL_IN_PROGRESS);
+        }
+        log.info("Reading stats backfill started");
+    }
+
+    private static List<PeriodStats> toPeriodStats(List<ReadingStats> rows) {
+        List<PeriodStats> stats = new ArrayList<>(rows.size());
+        for (ReadingStats row : rows) {
+            stats.add(PeriodStats.from(row));
+        }
+        return stats;
+    }
+}
@@ -1,174 +1,559 @@
 package org.pagebyfeel.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.RedisConnectionFailureException;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.pagebyfeel.redis.BlacklistNearCache;
+import org.pagebyfeel.redis.RedisCircuitBreaker;
+import org.pagebyfeel.redis.RedisCommandBatcher;
+import org.pagebyfeel.redis.RedisOperation;
+import org.pagebyfeel.security.oauth.StoredAuthorizationRequest;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Redis 접근 계층
+ * 모든 호출은 RedisCircuitBreaker를 거치며, 작업별 지연 예산과 장애 시 동작(Fail-Open/Fail-Closed)은 RedisOperation에 정의한다
+ * RedisCommandBatcher가 활성화되어 있으면 단건 쓰기(set, delete, 블랙리스트 등록)는 다른 요청의 쓰기와 함께 파이프라인으로 전송된다
+ */
 @Service
 @Slf4j
 public class RedisService {
 
     private final RedisTemplate<String, String> stringRedisTemplate;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final BlacklistNearCache blacklistNearCache;
+    private final RedisCircuitBreaker circuitBreaker;
+    private final RedisCommandBatcher commandBatcher;
 
     public RedisService(
             RedisTemplate<String, String> stringRedisTemplate,
-            RedisTemplate<String, Object> redisTemplate
+            RedisTemplate<String, Object> redisTemplate,
+            BlacklistNearCache blacklistNearCache,
+            RedisCircuitBreaker circuitBreaker,
+            ObjectProvider<RedisCommandBatcher> commandBatcherProvider
     ) {
         this.stringRedisTemplate = stringRedisTemplate;
         this.redisTemplate = redisTemplate;
+        this.blacklistNearCache = blacklistNearCache;
+        this.circuitBreaker = circuitBreaker;
+        this.commandBatcher = commandBatcherProvider.getIfAvailable();
     }
 
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
     private static final String BLACKLIST_PREFIX = "blacklist:";
+    private static final String TOKEN_EPOCH_PREFIX = "token_epoch:";
+    private static final String OAUTH2_AUTH_REQUEST_PREFIX = "oauth2_auth_request:";
+    private static final String READING_PROGRESS_PENDING_KEY = "reading_progress:pending";
+    private static final String READING_PROGRESS_FLUSHING_KEY = "reading_progress:flushing";
+    private static final String READING_PROGRESS_LEASE_KEY = "reading_progress:flush_lease";
 
-    public void saveRefreshToken(UUID userId, String refreshToken, long expirationDays) {
-        try {
-            String key = REFRESH_TOKEN_PREFIX + userId.toString();
-            stringRedisTemplate.opsForValue().set(
-                    key,
-                    refreshToken,
-                    Duration.ofDays(expirationDays)
-            );
-            log.info("Refresh token saved for user: {}", userId);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while saving refresh token for user: {}. Token will not be cached.", userId, e);
-        } catch (Exception e) {
-            log.error("Unexpected error while saving refresh token for user: {}", userId, e);
+    private static final String REFRESH_TOKEN_USER_PREFIX = "refresh_token:user:";
+    private static final int REFRESH_TOKEN_CAS_ATTEMPTS = 3;
+    private static final int SCAN_DELETE_BATCH_SIZE = 500;
+
+    private static final RedisScript<Long> SAVE_REFRESH_TOKEN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/save-refresh-token.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_REFRESH_TOKEN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rotate-refresh-token.lua"), List.class);
+    private static final RedisScript<Long> MIGRATE_LEGACY_REFRESH_TOKEN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/migrate-legacy-refresh-token.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/token-bucket.lua"), List.class);
+    private static final RedisScript<Long> BUFFER_READING_PROGRESS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/buffer-reading-progress.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_READING_PROGRESS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/claim-reading-progress.lua"), List.class);
+    private static final RedisScript<Long> ACK_READING_PROGRESS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ack-reading-progress.lua"), Long.class);
+
+    /**
+     * opaque Refresh Token의 해시를 키로 저장. 토큰 원문은 Redis에 저장하지 않는다.
+     * refresh_token:{hash} 해시에 userId와 메타데이터를, refresh_token:user:{userId}에 현재 토큰 해시를 둔다.
+     * 스크립트가 건드리는 키를 모두 KEYS로 넘기기 위해 이전 토큰 해시를 먼저 읽고, 그 사이 바뀌었으면 다시 시도한다.
+     * 재시도가 모두 실패하면 SERVICE_UNAVAILABLE
+     */
+    public void saveRefreshToken(UUID userId, String tokenHash, long expirationDays) {
+        Boolean saved = circuitBreaker.execute(RedisOperation.SAVE_REFRESH_TOKEN, () -> {
+            String userKey = REFRESH_TOKEN_USER_PREFIX + userId;
+            for (int attempt = 1; attempt <= REFRESH_TOKEN_CAS_ATTEMPTS; attempt++) {
+                String previousHash = stringRedisTemplate.opsForValue().get(userKey);
+                List<String> keys = new ArrayList<>(3);
+                keys.add(REFRESH_TOKEN_PREFIX + tokenHash);
+                keys.add(userKey);
+                if (previousHash != null) {
+                    keys.add(REFRESH_TOKEN_PREFIX + previousHash);
+                }
+
+                Long result = stringRedisTemplate.execute(
+                        SAVE_REFRESH_TOKEN_SCRIPT,
+                        keys,
+                        userId.toString(),
+                        tokenHash,
+                        String.valueOf(System.currentTimeMillis()),
+                        String.valueOf(Duration.ofDays(expirationDays).toSeconds()),
+                        previousHash == null ? "" : previousHash
+                );
+                if (result != null && result == 1L) {
+                    log.info("Refresh token saved for user: {}", userId);
+                    return true;
+                }
+            }
+            return false;
+        }, () -> null);
+
+        // 저장되지 않은 토큰을 내주면 첫 갱신에서야 REFRESH_TOKEN_NOT_FOUND로 실패하므로 로그인 자체를 실패시킨다.
+        // Redis 장애가 아니라 경합이므로 서킷 브레이커의 실패로 세지 않도록 실행 밖에서 던진다
+        if (Boolean.FALSE.equals(saved)) {
+            log.warn("Refresh token not saved for user: {}. Current token kept changing concurrently.", userId);
+            throw new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE);
         }
     }
 
-    public String getRefreshToken(UUID userId) {
-        try {
-            String key = REFRESH_TOKEN_PREFIX + userId.toString();
-            String token = stringRedisTemplate.opsForValue().get(key);
-            log.debug("Retrieved refresh token for user: {}", userId);
-            return token;
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while retrieving refresh token for user: {}. Returning null.", userId, e);
-            return null;
-        } catch (Exception e) {
-            log.error("Unexpected error while retrieving refresh token for user: {}", userId, e);
-            return null;
-        }
+    /**
+     * 저장된 토큰 확인과 새 토큰으로의 교체를 Lua 스크립트로 원자적으로 수행.
+     * 스크립트가 건드리는 키를 모두 KEYS로 넘기기 위해 제시된 토큰의 userId를 먼저 읽는다.
+     * 이미 교체된 토큰이 다시 제시되면 재사용으로 보지만, 유예 시간 안이고 같은 새 토큰이 아직 현재 토큰이면
+     * 응답을 받지 못한 클라이언트의 재시도(REPLAYED)로 본다. 새 토큰 원문은 호출자가 다시 만들어 돌려준다
+     */
+    public RefreshTokenRotation rotateRefreshToken(String presentedTokenHash, String newTokenHash,
+                                                   long expirationDays, Duration reuseGrace) {
+        return circuitBreaker.execute(RedisOperation.ROTATE_REFRESH_TOKEN, () -> {
+            String presentedKey = REFRESH_TOKEN_PREFIX + presentedTokenHash;
+            Object userId = stringRedisTemplate.opsForHash().get(presentedKey, "userId");
+            if (userId == null) {
+                return RefreshTokenRotation.notFound();
+            }
+
+            List<?> result = stringRedisTemplate.execute(
+                    ROTATE_REFRESH_TOKEN_SCRIPT,
+                    List.of(
+                            presentedKey,
+                            REFRESH_TOKEN_PREFIX + newTokenHash,
+                            REFRESH_TOKEN_USER_PREFIX + userId
+                    ),
+                    userId.toString(),
+                    newTokenHash,
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(Duration.ofDays(expirationDays).toSeconds()),
+                    String.valueOf(reuseGrace.toMillis())
+            );
+            return RefreshTokenRotation.fromScriptResult(result);
+        }, RefreshTokenRotation::notFound);
+    }
+
+    /**
+     * 마이그레이션 기간 동안 이전 JWT Refresh Token(refresh_token:{userId}에 원문 저장)을 opaque 토큰으로 교체
+     */
+    public RefreshTokenRotation migrateLegacyRefreshToken(UUID userId, String presentedToken,
+                                                          String newTokenHash, long expirationDays) {
+        return circuitBreaker.execute(RedisOperation.MIGRATE_LEGACY_REFRESH_TOKEN, () -> {
+            Long result = stringRedisTemplate.execute(
+                    MIGRATE_LEGACY_REFRESH_TOKEN_SCRIPT,
+                    List.of(
+                            REFRESH_TOKEN_PREFIX + userId,
+                            REFRESH_TOKEN_PREFIX + newTokenHash,
+                            REFRESH_TOKEN_USER_PREFIX + userId
+                    ),
+                    presentedToken,
+                    userId.toString(),
+                    newTokenHash,
+                    String.valueOf(System.currentTimeMillis()),
+                    String.valueOf(Duration.ofDays(expirationDays).toSeconds())
+            );
+            return RefreshTokenRotation.of(RefreshTokenRotationResult.fromScriptResult(result), userId);
+        }, RefreshTokenRotation::notFound);
     }
 
     public void deleteRefreshToken(UUID userId) {
-        try {
-            String key = REFRESH_TOKEN_PREFIX + userId.toString();
-            Boolean deleted = stringRedisTemplate.delete(key);
-            log.info("Refresh token deleted for user: {}, success: {}", userId, deleted);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while deleting refresh token for user: {}. Token may remain in cache.", userId, e);
-        } catch (Exception e) {
-            log.error("Unexpected error while deleting refresh token for user: {}", userId, e);
-        }
+        circuitBreaker.execute(RedisOperation.DELETE_REFRESH_TOKEN, () -> {
+            String userKey = REFRESH_TOKEN_USER_PREFIX + userId;
+            String currentTokenHash = stringRedisTemplate.opsForValue().get(userKey);
+
+            List<String> keys = new ArrayList<>(3);
+            keys.add(userKey);
+            keys.add(REFRESH_TOKEN_PREFIX + userId);
+            if (currentTokenHash != null) {
+                keys.add(REFRESH_TOKEN_PREFIX + currentTokenHash);
+            }
+
+            Long deleted = stringRedisTemplate.delete(keys);
+            log.info("Refresh token deleted for user: {}, deleted keys: {}", userId, deleted);
+        });
     }
 
     public boolean hasRefreshToken(UUID userId) {
-        try {
-            String key = REFRESH_TOKEN_PREFIX + userId.toString();
-            Boolean exists = stringRedisTemplate.hasKey(key);
-            return Boolean.TRUE.equals(exists);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while checking refresh token existence for user: {}. Returning false.", userId, e);
-            return false;
-        } catch (Exception e) {
-            log.error("Unexpected error while checking refresh token existence for user: {}", userId, e);
-            return false;
-        }
+        return circuitBreaker.execute(RedisOperation.HAS_REFRESH_TOKEN, () -> {
+            Long exists = stringRedisTemplate.countExistingKeys(
+                    List.of(REFRESH_TOKEN_USER_PREFIX + userId, REFRESH_TOKEN_PREFIX + userId)
+            );
+            return exists != null && exists > 0;
+        }, () -> false);
     }
 
-    public void addToBlacklist(String accessToken, long expirationMinutes) {
-        try {
-            String key = BLACKLIST_PREFIX + accessToken;
-            stringRedisTemplate.opsForValue().set(
-                    key,
-                    "blacklisted",
-                    expirationMinutes,
-                    TimeUnit.MINUTES
-            );
-            log.info("Access token added to blacklist");
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while adding token to blacklist. Token will not be blacklisted!", e);
-        } catch (Exception e) {
-            log.error("Unexpected error while adding token to blacklist", e);
+    /**
+     * 토큰 식별자(jti 또는 해시)를 남은 유효 시간만큼만 블랙리스트에 등록
+     */
+    public void addToBlacklist(String tokenId, Duration remainingValidity) {
+        if (remainingValidity.isZero() || remainingValidity.isNegative()) {
+            log.debug("Access token already expired. Skipping blacklist");
+            return;
         }
+
+        circuitBreaker.execute(RedisOperation.ADD_TO_BLACKLIST, () -> {
+            if (commandBatcher != null) {
+                byte[] rawKey = rawKey(BLACKLIST_PREFIX + tokenId);
+                byte[] rawValue = rawKey("1");
+                commandBatcher.execute(connection -> connection.stringCommands()
+                        .set(rawKey, rawValue, Expiration.from(remainingValidity), SetOption.upsert())
+                );
+            } else {
+                stringRedisTemplate.opsForValue().set(BLACKLIST_PREFIX + tokenId, "1", remainingValidity);
+            }
+            // 로컬 필터에 먼저 반영하고 다른 노드에도 전파
+            blacklistNearCache.add(tokenId);
+            blacklistNearCache.publish(tokenId);
+            log.info("Access token added to blacklist");
+        });
     }
 
-    public boolean isBlacklisted(String accessToken) {
-        try {
-            String key = BLACKLIST_PREFIX + accessToken;
-            Boolean blacklisted = stringRedisTemplate.hasKey(key);
-            return Boolean.TRUE.equals(blacklisted);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while checking blacklist. Allowing request for availability (Fail-Open).", e);
-            return false;
-        } catch (Exception e) {
-            log.error("Unexpected error while checking blacklist. Allowing request for availability.", e);
+    public boolean isBlacklisted(String tokenId) {
+        if (!blacklistNearCache.mightContain(tokenId)) {
             return false;
         }
+
+        // Redis 장애 시 가용성을 위해 요청 허용 (Fail-Open)
+        return circuitBreaker.execute(
+                RedisOperation.IS_BLACKLISTED,
+                () -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(BLACKLIST_PREFIX + tokenId)),
+                () -> false
+        );
+    }
+
+    /**
+     * 사용자의 현재 토큰 epoch 조회. 값이 없으면 0, Redis 장애 시 null 반환
+     */
+    public Long getTokenEpoch(UUID userId) {
+        return circuitBreaker.execute(RedisOperation.GET_TOKEN_EPOCH, () -> {
+            String value = stringRedisTemplate.opsForValue().get(TOKEN_EPOCH_PREFIX + userId.toString());
+            return value == null ? 0L : Long.parseLong(value);
+        }, () -> null);
+    }
+
+    /**
+     * 토큰 epoch를 1 증가시켜 이전에 발급된 모든 Access Token을 무효화
+     */
+    public Long incrementTokenEpoch(UUID userId) {
+        return circuitBreaker.execute(RedisOperation.INCREMENT_TOKEN_EPOCH, () -> {
+            Long epoch = stringRedisTemplate.opsForValue().increment(TOKEN_EPOCH_PREFIX + userId.toString());
+            log.info("Token epoch incremented for user: {}, epoch: {}", userId, epoch);
+            return epoch;
+        }, () -> null);
+    }
+
+    /**
+     * Lua 스크립트로 토큰 버킷을 원자적으로 충전하고 토큰 하나를 사용
+     */
+    public TokenBucketResult tryConsumeRateLimitToken(String bucketKey, long capacity, double refillPerSecond) {
+        return circuitBreaker.execute(RedisOperation.RATE_LIMIT, () -> {
+            List<?> result = stringRedisTemplate.execute(
+                    TOKEN_BUCKET_SCRIPT,
+                    List.of(bucketKey),
+                    String.valueOf(capacity),
+                    String.valueOf(refillPerSecond)
+            );
+            return TokenBucketResult.fromScriptResult(result);
+        }, TokenBucketResult::allow);
+    }
+
+    /**
+     * 독서 진행률을 쓰기 버퍼(reading_progress:pending 해시)에 기록. 버퍼에 더 큰 페이지가 있으면 무시한다
+     * 반환값: true = 기록, false = 무시, null = Redis를 쓸 수 없음 (호출자가 DB에 직접 기록)
+     */
+    public Boolean bufferReadingProgress(String field, int page, String value) {
+        return circuitBreaker.execute(RedisOperation.BUFFER_READING_PROGRESS, () -> {
+            Long result = stringRedisTemplate.execute(
+                    BUFFER_READING_PROGRESS_SCRIPT,
+                    List.of(READING_PROGRESS_PENDING_KEY),
+                    field,
+                    String.valueOf(page),
+                    value
+            );
+            return Long.valueOf(1L).equals(result);
+        }, () -> null);
+    }
+
+    /**
+     * 아직 DB에 기록되지 않은 진행률. 쓰기 버퍼와 flush 중인 해시를 파이프라인으로 함께 조회한다
+     */
+    public List<String> getBufferedReadingProgress(String field) {
+        return circuitBreaker.execute(RedisOperation.GET_BUFFERED_READING_PROGRESS, () -> {
+            byte[] rawField = rawKey(field);
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hGet(rawKey(READING_PROGRESS_PENDING_KEY), rawField);
+                connection.hashCommands().hGet(rawKey(READING_PROGRESS_FLUSHING_KEY), rawField);
+                return null;
+            });
+            List<String> values = new ArrayList<>(2);
+            for (Object result : results) {
+                if (result != null) {
+                    values.add((String) result);
+                }
+            }
+            return values;
+        }, List::of);
+    }
+
+    /**
+     * 쓰기 버퍼를 flush용 해시로 옮기고 내용을 반환 (필드 -> 값)
+     * 다른 노드가 lease를 잡고 있거나 Redis를 쓸 수 없으면 null. 이전 flush가 ack 없이 끝났다면 그 내용을 다시 반환한다
+     */
+    public Map<String, String> claimReadingProgress(String leaseToken, Duration lease) {
+        return circuitBreaker.execute(RedisOperation.CLAIM_READING_PROGRESS, () -> {
+            List<?> result = stringRedisTemplate.execute(
+                    CLAIM_READING_PROGRESS_SCRIPT,
+                    List.of(READING_PROGRESS_PENDING_KEY, READING_PROGRESS_FLUSHING_KEY, READING_PROGRESS_LEASE_KEY),
+                    leaseToken,
+                    String.valueOf(lease.toMillis())
+            );
+            if (result == null) {
+                return null;
+            }
+            Map<String, String> entries = new LinkedHashMap<>();
+            for (int i = 0; i + 1 < result.size(); i += 2) {
+                entries.put((String) result.get(i), (String) result.get(i + 1));
+            }
+            return entries;
+        }, () -> null);
+    }
+
+    /**
+     * DB 기록이 끝난 flush 해시를 지우고 lease를 반납. lease가 이미 다른 노드로 넘어갔으면 false
+     */
+    public boolean ackReadingProgress(String leaseToken) {
+        return circuitBreaker.execute(RedisOperation.ACK_READING_PROGRESS, () -> {
+            Long result = stringRedisTemplate.execute(
+                    ACK_READING_PROGRESS_SCRIPT,
+                    List.of(READING_PROGRESS_FLUSHING_KEY, READING_PROGRESS_LEASE_KEY),
+                    leaseToken
+            );
+            return Long.valueOf(1L).equals(result);
+        }, () -> false);
+    }
+
+    public void saveOAuth2AuthorizationRequest(String state, StoredAuthorizationRequest authorizationRequest,
+                                               Duration ttl) {
+        circuitBreaker.execute(RedisOperation.SAVE_OAUTH2_AUTHORIZATION_REQUEST, () -> {
+            redisTemplate.opsForValue().set(OAUTH2_AUTH_REQUEST_PREFIX + state, authorizationRequest, ttl);
+        });
+    }
+
+    public StoredAuthorizationRequest getOAuth2AuthorizationRequest(String state) {
+        return circuitBreaker.execute(
+                RedisOperation.GET_OAUTH2_AUTHORIZATION_REQUEST,
+                () -> (StoredAuthorizationRequest) redisTemplate.opsForValue().get(OAUTH2_AUTH_REQUEST_PREFIX + state),
+                () -> null
+        );
+    }
+
+    /**
+     * GETDEL로 조회와 삭제를 한 번에 처리해 같은 state로 콜백을 두 번 처리하지 못하게 한다 (Redis 6.2 이상)
+     */
+    public StoredAuthorizationRequest takeOAuth2AuthorizationRequest(String state) {
+        return circuitBreaker.execute(
+                RedisOperation.GET_OAUTH2_AUTHORIZATION_REQUEST,
+                () -> (StoredAuthorizationRequest) redisTemplate.opsForValue().getAndDelete(OAUTH2_AUTH_REQUEST_PREFIX + state),
+                () -> null
+        );
+    }
+
+    public void publish(String channel, String message) {
+        circuitBreaker.execute(RedisOperation.PUBLISH, () -> {
+            stringRedisTemplate.convertAndSend(channel, message);
+        });
     }
 
     public void set(String key, Object value, long timeout, TimeUnit unit) {
-        try {
+        circuitBreaker.execute(RedisOperation.SET, () -> {
+            if (commandBatcher != null) {
+                byte[] rawKey = rawKey(key);
+                byte[] rawValue = rawValue(value);
+                commandBatcher.execute(connection -> connection.stringCommands()
+                        .set(rawKey, rawValue, Expiration.from(timeout, unit), SetOption.upsert())
+                );
+                return;
+            }
             redisTemplate.opsForValue().set(key, value, timeout, unit);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while setting key: {}", key, e);
-        } catch (Exception e) {
-            log.error("Unexpected error while setting key: {}", key, e);
-        }
+        });
+    }
+
+    /**
+     * 키가 없을 때만 저장 (SET NX). 저장했으면 true, 이미 값이 있으면 false, Redis를 쓸 수 없으면 null
+     */
+    public Boolean setIfAbsent(String key, Object value, long timeout, TimeUnit unit) {
+        return circuitBreaker.execute(RedisOperation.SET_IF_ABSENT,
+                () -> redisTemplate.opsForValue().setIfAbsent(key, value, timeout, unit), () -> null);
     }
 
     public Object get(String key) {
-        try {
-            return redisTemplate.opsForValue().get(key);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while getting key: {}", key, e);
-            return null;
-        } catch (Exception e) {
-            log.error("Unexpected error while getting key: {}", key, e);
-            return null;
-        }
+        return circuitBreaker.execute(RedisOperation.GET, () -> redisTemplate.opsForValue().get(key), () -> null);
     }
 
     public void delete(String key) {
-        try {
+        circuitBreaker.execute(RedisOperation.DELETE, () -> {
+            if (commandBatcher != null) {
+                byte[] rawKey = rawKey(key);
+                commandBatcher.execute(connection -> connection.keyCommands().del(rawKey));
+                return;
+            }
             redisTemplate.delete(key);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while deleting key: {}", key, e);
-        } catch (Exception e) {
-            log.error("Unexpected error while deleting key: {}", key, e);
-        }
+        });
     }
 
     public boolean hasKey(String key) {
-        try {
-            Boolean exists = redisTemplate.hasKey(key);
-            return Boolean.TRUE.equals(exists);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while checking key existence: {}", key, e);
-            return false;
-        } catch (Exception e) {
-            log.error("Unexpected error while checking key existence: {}", key, e);
-            return false;
-        }
+        return circuitBreaker.execute(
+                RedisOperation.HAS_KEY,
+                () -> Boolean.TRUE.equals(redisTemplate.hasKey(key)),
+                () -> false
+        );
     }
 
     public Long getExpire(String key) {
-        try {
-            return redisTemplate.getExpire(key, TimeUnit.SECONDS);
-        } catch (RedisConnectionFailureException e) {
-            log.error("Redis connection failed while getting expiration for key: {}", key, e);
-            return null;
-        } catch (Exception e) {
-            log.error("Unexpected error while getting expiration for key: {}", key, e);
-            return null;
+        return circuitBreaker.execute(
+                RedisOperation.GET_EXPIRE,
+                () -> redisTemplate.getExpire(key, TimeUnit.SECONDS),
+                () -> null
+        );
+    }
+
+    /**
+     * SCAN으로 패턴에 맞는 키를 찾아 배치 단위로 삭제. KEYS 명령으로 Redis를 막지 않도록 한다
+     */
+    public long deleteByPattern(String pattern) {
+        return circuitBreaker.execute(RedisOperation.DELETE_BY_PATTERN, () -> {
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(1000).build();
+            List<String> batch = new ArrayList<>(SCAN_DELETE_BATCH_SIZE);
+            long deleted = 0;
+            try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == SCAN_DELETE_BATCH_SIZE) {
+                        deleted += deleteKeys(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            return deleted + deleteKeys(batch);
+        }, () -> 0L);
+    }
+
+    /**
+     * MGET 한 번으로 여러 키 조회. 결과는 keys와 같은 순서이며 없는 키는 null
+     */
+    public List<Object> multiGet(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        return circuitBreaker.execute(
+                RedisOperation.MULTI_GET,
+                () -> redisTemplate.opsForValue().multiGet(keys),
+                () -> Collections.nCopies(keys.size(), null)
+        );
+    }
+
+    /**
+     * 모든 키에 같은 TTL로 SET. MSET은 TTL을 지정할 수 없으므로 SET EX를 파이프라인으로 전송
+     */
+    public void multiSet(Map<String, ?> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        circuitBreaker.execute(RedisOperation.MULTI_SET, () -> {
+            Expiration expiration = Expiration.from(ttl);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                values.forEach((key, value) -> connection.stringCommands()
+                        .set(rawKey(key), rawValue(value), expiration, SetOption.upsert()));
+                return null;
+            });
+        });
+    }
+
+    /**
+     * 여러 키를 DEL 한 번으로 삭제하고 삭제된 키 개수를 반환
+     */
+    public long multiDelete(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        return circuitBreaker.execute(RedisOperation.MULTI_DELETE, () -> {
+            Long deleted = redisTemplate.delete(keys);
+            return deleted == null ? 0L : deleted;
+        }, () -> 0L);
+    }
+
+    /**
+     * 키별 존재 여부를 파이프라인으로 조회. 결과는 keys 순서를 유지한다
+     */
+    public Map<String, Boolean> multiExists(List<String> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        return circuitBreaker.execute(RedisOperation.MULTI_EXISTS, () -> {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (String key : keys) {
+                    connection.keyCommands().exists(rawKey(key));
+                }
+                return null;
+            });
+
+            Map<String, Boolean> exists = new LinkedHashMap<>();
+            for (int i = 0; i < keys.size(); i++) {
+                exists.put(keys.get(i), Boolean.TRUE.equals(results.get(i)));
+            }
+            return exists;
+        }, () -> {
+            Map<String, Boolean> exists = new LinkedHashMap<>();
+            keys.forEach(key -> exists.put(key, false));
+            return exists;
+        });
+    }
+
+    private long deleteKeys(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
         }
+        Long deleted = stringRedisTemplate.delete(keys);
+        return deleted == null ? 0 : deleted;
+    }
+
+    private static byte[] rawKey(String key) {
+        return RedisSerializer.string().serialize(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawValue(Object value) {
+        return ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(value);
     }
 }
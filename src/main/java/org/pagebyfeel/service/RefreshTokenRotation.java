@@ -0,0 +1,31 @@
+package org.pagebyfeel.service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Refresh Token 교체 결과와 토큰 소유자
+ * opaque 토큰은 토큰 자체에 사용자 정보가 없으므로 Redis에 저장된 userId를 함께 반환한다
+ */
+public record RefreshTokenRotation(RefreshTokenRotationResult result, UUID userId) {
+
+    static RefreshTokenRotation of(RefreshTokenRotationResult result, UUID userId) {
+        return new RefreshTokenRotation(result, result == RefreshTokenRotationResult.NOT_FOUND ? null : userId);
+    }
+
+    static RefreshTokenRotation notFound() {
+        return new RefreshTokenRotation(RefreshTokenRotationResult.NOT_FOUND, null);
+    }
+
+    static RefreshTokenRotation fromScriptResult(List<?> result) {
+        if (result == null || result.isEmpty()) {
+            return notFound();
+        }
+
+        RefreshTokenRotationResult status = RefreshTokenRotationResult.fromScriptResult((Long) result.get(0));
+        if (status == RefreshTokenRotationResult.NOT_FOUND || result.size() < 2) {
+            return notFound();
+        }
+        return new RefreshTokenRotation(status, UUID.fromString(String.valueOf(result.get(1))));
+    }
+}
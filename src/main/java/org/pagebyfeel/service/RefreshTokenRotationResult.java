@@ -0,0 +1,22 @@
+package org.pagebyfeel.service;
+
+/**
+ * Refresh Token 교체 스크립트 실행 결과
+ */
+public enum RefreshTokenRotationResult {
+    ROTATED,
+    NOT_FOUND,
+    REUSE_DETECTED,
+    // 교체 직후 같은 토큰으로 다시 요청 (응답을 받지 못한 클라이언트의 재시도). 같은 새 토큰을 다시 만들어 돌려준다
+    REPLAYED;
+
+    static RefreshTokenRotationResult fromScriptResult(Long result) {
+        if (result == null || result == 0L) {
+            return NOT_FOUND;
+        }
+        if (result == 2L) {
+            return REPLAYED;
+        }
+        return result > 0 ? ROTATED : REUSE_DETECTED;
+    }
+}
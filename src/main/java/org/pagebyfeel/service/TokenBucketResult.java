@@ -0,0 +1,24 @@
+package org.pagebyfeel.service;
+
+import java.util.List;
+
+/**
+ * 토큰 버킷 스크립트 결과. 허용되지 않은 경우 retryAfterMillis 이후에 토큰이 생긴다
+ */
+public record TokenBucketResult(boolean allowed, long remainingTokens, long retryAfterMillis) {
+
+    public static TokenBucketResult allow() {
+        return new TokenBucketResult(true, 0, 0);
+    }
+
+    static TokenBucketResult fromScriptResult(List<?> result) {
+        if (result == null || result.size() < 3) {
+            return allow();
+        }
+        return new TokenBucketResult(
+                ((Number) result.get(0)).longValue() == 1,
+                ((Number) result.get(1)).longValue(),
+                ((Number) result.get(2)).longValue()
+        );
+    }
+}
@@ -2,12 +2,16 @@ package org.pagebyfeel.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.pagebyfeel.cache.CacheNames;
 import org.pagebyfeel.dto.request.UpdateUserRequest;
 import org.pagebyfeel.dto.response.UserResponse;
 import org.pagebyfeel.entity.user.User;
 import org.pagebyfeel.exception.common.BusinessException;
 import org.pagebyfeel.exception.user.UserErrorCode;
 import org.pagebyfeel.repository.UserRepository;
+import org.pagebyfeel.security.UserPrincipalCache;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,9 +23,11 @@ import java.util.UUID;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheNames.USER_INFO, key = "#userId", sync = true)
     public UserResponse getUserInfo(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
@@ -35,11 +41,13 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
+    @CachePut(cacheNames = CacheNames.USER_INFO, key = "#userId")
     public UserResponse updateUser(UUID userId, UpdateUserRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(UserErrorCode.USER_NOT_FOUND));
 
         user.updateNickname(request.getNickname());
+        userPrincipalCache.invalidate(userId);
 
         return UserResponse.builder()
                 .email(user.getEmail())
@@ -0,0 +1,27 @@
+package org.pagebyfeel.timing;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 Spring Data 리포지토리 호출 시간을 Server-Timing의 db 구간에 더한다
+ * Spring Boot의 리포지토리 지표와 같은 invocation listener 확장점을 사용한다
+ */
+public class RepositoryTimingBeanPostProcessor implements BeanPostProcessor {
+
+    private static final RepositoryMethodInvocationListener LISTENER = invocation ->
+            RequestTimings.recordDuration(RequestTiming.Stage.DB, invocation.getDuration(TimeUnit.NANOSECONDS));
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(
+                    repositoryFactory -> repositoryFactory.addInvocationListener(LISTENER)
+            );
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,85 @@
+package org.pagebyfeel.timing;
+
+/**
+ * 요청 하나의 단계별 소요 시간 누적값
+ * 요청 스레드에서만 기록하므로 동기화하지 않는다
+ */
+public final class RequestTiming {
+
+    public enum Stage {
+        JWT("jwt"),
+        BLACKLIST("blacklist"),
+        PRINCIPAL("principal"),
+        REDIS("redis"),
+        DB("db");
+
+        private final String metricName;
+
+        Stage(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private static final Stage[] STAGES = Stage.values();
+
+    private final long startNanos;
+    private final long[] durations = new long[STAGES.length];
+    private final int[] counts = new int[STAGES.length];
+    private long handlerStartNanos = -1;
+
+    RequestTiming(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    void record(Stage stage, long nanos) {
+        durations[stage.ordinal()] += nanos;
+        counts[stage.ordinal()]++;
+    }
+
+    void markHandlerStart(long nanos) {
+        if (handlerStartNanos < 0) {
+            handlerStartNanos = nanos;
+        }
+    }
+
+    long elapsedNanos(long nowNanos) {
+        return nowNanos - startNanos;
+    }
+
+    /**
+     * Server-Timing 헤더 값. 단계끼리 겹칠 수 있다 (예: blacklist는 redis에도 포함)
+     * app은 컨트롤러 진입부터 응답 커밋(직렬화 포함)까지, total은 필터 진입부터 같은 시점까지
+     */
+    String toHeaderValue(long nowNanos) {
+        StringBuilder value = new StringBuilder(128);
+        for (Stage stage : STAGES) {
+            int count = counts[stage.ordinal()];
+            if (count > 0) {
+                append(value, stage.metricName, durations[stage.ordinal()]);
+                value.append(";desc=\"").append(count).append("x\"");
+            }
+        }
+        if (handlerStartNanos >= 0) {
+            append(value, "app", nowNanos - handlerStartNanos);
+        }
+        append(value, "total", nowNanos - startNanos);
+        return value.toString();
+    }
+
+    private static void append(StringBuilder value, String name, long nanos) {
+        if (!value.isEmpty()) {
+            value.append(", ");
+        }
+        // 밀리초, 소수점 셋째 자리까지
+        long micros = nanos / 1_000;
+        value.append(name).append(";dur=").append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            value.append('0');
+        }
+        if (fraction < 10) {
+            value.append('0');
+        }
+        value.append(fraction);
+    }
+}
@@ -0,0 +1,51 @@
+package org.pagebyfeel.timing;
+
+/**
+ * 현재 요청의 RequestTiming에 접근하는 정적 진입점
+ * ServerTimingFilter가 측정 대상으로 고른 요청에서만 기록되고, 그 외에는 ThreadLocal 조회 한 번으로 끝난다
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private RequestTimings() {
+    }
+
+    /**
+     * 측정 중인 요청이면 현재 시각을, 아니면 0을 반환. record와 짝으로 사용
+     */
+    public static long start() {
+        return CURRENT.get() != null ? System.nanoTime() : 0L;
+    }
+
+    public static void record(RequestTiming.Stage stage, long startNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null && startNanos != 0L) {
+            timing.record(stage, System.nanoTime() - startNanos);
+        }
+    }
+
+    public static void recordDuration(RequestTiming.Stage stage, long nanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.record(stage, nanos);
+        }
+    }
+
+    static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming(System.nanoTime());
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void markHandlerStart() {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.markHandlerStart(System.nanoTime());
+        }
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+}
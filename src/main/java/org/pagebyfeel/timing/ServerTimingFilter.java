@@ -0,0 +1,110 @@
+package org.pagebyfeel.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청별 단계 시간을 측정해 Server-Timing 헤더로 내보내고, 임계치를 넘은 요청은 같은 내역을 로그로 남긴다
+ * 헤더는 샘플링된 요청이나, 요청 헤더 값이 설정된 공유 비밀과 일치하는 요청에만 붙는다. 비밀이 비어 있으면 요청 헤더는 무시한다
+ * 느린 요청 로그가 켜져 있으면 모든 요청을 측정한다
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final String requestHeader;
+    private final byte[] headerSecret;
+    private final double sampleRate;
+    private final long slowRequestThresholdNanos;
+
+    public ServerTimingFilter(String requestHeader, String headerSecret, double sampleRate, long slowRequestThresholdMillis) {
+        this.requestHeader = requestHeader;
+        this.headerSecret = StringUtils.hasText(headerSecret) ? headerSecret.getBytes(StandardCharsets.UTF_8) : null;
+        this.sampleRate = sampleRate;
+        this.slowRequestThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowRequestThresholdMillis);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean exposeHeader = isRequestedWithSecret(request)
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        boolean logSlowRequest = slowRequestThresholdNanos > 0;
+
+        if (!exposeHeader && !logSlowRequest) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RequestTiming timing = RequestTimings.begin();
+        ServerTimingResponseWrapper wrapper = exposeHeader ? new ServerTimingResponseWrapper(response, timing) : null;
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            long now = System.nanoTime();
+            if (wrapper != null) {
+                wrapper.writeServerTiming();
+            }
+            if (logSlowRequest && timing.elapsedNanos(now) > slowRequestThresholdNanos) {
+                log.warn("Slow request {} {} -> {} ({}ms): {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        TimeUnit.NANOSECONDS.toMillis(timing.elapsedNanos(now)), timing.toHeaderValue(now));
+            }
+            RequestTimings.end();
+        }
+    }
+
+    /**
+     * 단계별 내역은 내부 구조를 드러내므로 아무 클라이언트나 헤더만으로 켤 수 없게 비밀 값을 상수 시간으로 비교한다
+     */
+    private boolean isRequestedWithSecret(HttpServletRequest request) {
+        if (headerSecret == null) {
+            return false;
+        }
+        String value = request.getHeader(requestHeader);
+        return value != null && MessageDigest.isEqual(headerSecret, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 응답이 커밋되기 직전(본문 flush, sendError, sendRedirect)에 헤더를 붙인다
+     */
+    private static class ServerTimingResponseWrapper extends OnCommittedResponseWrapper {
+
+        private final HttpServletResponse delegate;
+        private final RequestTiming timing;
+        private boolean written;
+
+        private ServerTimingResponseWrapper(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.delegate = response;
+            this.timing = timing;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeServerTiming();
+        }
+
+        private void writeServerTiming() {
+            if (written || delegate.isCommitted()) {
+                return;
+            }
+            written = true;
+            delegate.setHeader(SERVER_TIMING_HEADER, timing.toHeaderValue(System.nanoTime()));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.pagebyfeel.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 컨트롤러 진입 시각을 기록해 Server-Timing의 app 구간(컨트롤러 + 응답 직렬화)을 구한다
+ */
+public class ServerTimingHandlerInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings.markHandlerStart();
+        return true;
+    }
+}
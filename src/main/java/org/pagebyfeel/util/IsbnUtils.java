@@ -0,0 +1,75 @@
+package org.pagebyfeel.util;
+
+import org.pagebyfeel.exception.book.BookErrorCode;
+import org.pagebyfeel.exception.common.BusinessException;
+
+/**
+ * ISBN-10/13 입력을 하이픈과 공백을 제거한 ISBN-13으로 정규화
+ * 같은 책이 ISBN-10과 ISBN-13으로 따로 저장되지 않도록 unique 키로 ISBN-13만 사용한다
+ */
+public final class IsbnUtils {
+
+    private IsbnUtils() {
+    }
+
+    public static String normalize(String raw) {
+        if (raw == null) {
+            throw new BusinessException(BookErrorCode.INVALID_ISBN);
+        }
+
+        StringBuilder digits = new StringBuilder(13);
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '-' || c == ' ') {
+                continue;
+            }
+            digits.append(c == 'x' ? 'X' : c);
+        }
+
+        if (digits.length() == 10 && isValidIsbn10(digits)) {
+            return toIsbn13(digits);
+        }
+        if (digits.length() == 13 && isValidIsbn13(digits)) {
+            return digits.toString();
+        }
+        throw new BusinessException(BookErrorCode.INVALID_ISBN);
+    }
+
+    private static boolean isValidIsbn10(CharSequence isbn) {
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            char c = isbn.charAt(i);
+            int value;
+            if (c >= '0' && c <= '9') {
+                value = c - '0';
+            } else if (c == 'X' && i == 9) {
+                value = 10;
+            } else {
+                return false;
+            }
+            sum += value * (10 - i);
+        }
+        return sum % 11 == 0;
+    }
+
+    private static boolean isValidIsbn13(CharSequence isbn) {
+        int sum = 0;
+        for (int i = 0; i < 13; i++) {
+            char c = isbn.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            sum += (c - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return sum % 10 == 0;
+    }
+
+    private static String toIsbn13(CharSequence isbn10) {
+        StringBuilder isbn13 = new StringBuilder(13).append("978").append(isbn10, 0, 9);
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (isbn13.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return isbn13.append((10 - sum % 10) % 10).toString();
+    }
+}
@@ -0,0 +1,10 @@
+-- DB 기록이 끝난 flush 해시를 지우고 lease를 반납
+-- KEYS[1]: reading_progress:flushing
+-- KEYS[2]: reading_progress:flush_lease
+-- ARGV[1]: lease 토큰
+-- 반환값: 1 = 삭제, 0 = lease가 만료되어 다른 노드가 가져감 (그 노드가 같은 내용을 다시 기록한다)
+if redis.call('GET', KEYS[2]) ~= ARGV[1] then
+    return 0
+end
+redis.call('DEL', KEYS[1], KEYS[2])
+return 1
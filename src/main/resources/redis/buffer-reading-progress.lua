@@ -0,0 +1,15 @@
+-- 독서 진행률을 쓰기 버퍼 해시에 기록. (사용자, 책)마다 가장 큰 페이지의 갱신만 남긴다
+-- KEYS[1]: reading_progress:pending
+-- ARGV[1]: 해시 필드 (<userId>:<bookId>)
+-- ARGV[2]: 페이지
+-- ARGV[3]: 저장할 값 (<page>|<totalPages>|<readAt>)
+-- 반환값: 1 = 기록, 0 = 버퍼에 같거나 큰 페이지가 이미 있어 무시
+local current = redis.call('HGET', KEYS[1], ARGV[1])
+if current then
+    local page = tonumber(string.match(current, '^(%d+)'))
+    if page and page >= tonumber(ARGV[2]) then
+        return 0
+    end
+end
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+return 1
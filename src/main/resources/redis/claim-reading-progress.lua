@@ -0,0 +1,23 @@
+-- 쓰기 버퍼를 flush용 해시로 옮기고 내용을 반환. lease를 잡은 노드 하나만 flush한다
+-- KEYS[1]: reading_progress:pending
+-- KEYS[2]: reading_progress:flushing
+-- KEYS[3]: reading_progress:flush_lease
+-- ARGV[1]: lease 토큰 (노드별)
+-- ARGV[2]: lease 시간 (ms)
+-- 반환값: nil = 다른 노드가 flush 중, 그 외 = HGETALL 결과 (필드, 값 교대)
+-- 이전 flush가 ack 전에 중단되어 flushing 해시가 남아 있으면 새 버퍼를 옮기지 않고 그것부터 다시 반환한다
+local owner = redis.call('GET', KEYS[3])
+if owner and owner ~= ARGV[1] then
+    return false
+end
+
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    if redis.call('EXISTS', KEYS[1]) == 0 then
+        redis.call('DEL', KEYS[3])
+        return {}
+    end
+    redis.call('RENAME', KEYS[1], KEYS[2])
+end
+
+redis.call('SET', KEYS[3], ARGV[1], 'PX', ARGV[2])
+return redis.call('HGETALL', KEYS[2])
@@ -0,0 +1,24 @@
+-- 이전 JWT Refresh Token을 opaque 토큰으로 교체 (마이그레이션 기간 전용, compare-and-swap)
+-- KEYS[1]: refresh_token:<userId> (이전 형식 키)
+-- KEYS[2]: refresh_token:<새 토큰 해시>
+-- KEYS[3]: refresh_token:user:<userId>
+-- ARGV[1]: 클라이언트가 제시한 JWT refresh token
+-- ARGV[2]: userId
+-- ARGV[3]: 새 토큰 해시
+-- ARGV[4]: 생성 시각 (epoch millis)
+-- ARGV[5]: 새 토큰 TTL (초)
+-- 반환값: 1 = 교체 성공, 0 = 저장된 토큰 없음, -1 = 재사용 감지 (저장된 토큰 폐기)
+local stored = redis.call('GET', KEYS[1])
+if not stored then
+    return 0
+end
+
+redis.call('DEL', KEYS[1])
+if stored ~= ARGV[1] then
+    return -1
+end
+
+redis.call('HSET', KEYS[2], 'userId', ARGV[2], 'createdAt', ARGV[4], 'status', 'active')
+redis.call('EXPIRE', KEYS[2], ARGV[5])
+redis.call('SET', KEYS[3], ARGV[3], 'EX', ARGV[5])
+return 1
@@ -0,0 +1,35 @@
+-- opaque Refresh Token 교체 (compare-and-swap)
+-- KEYS[1]: refresh_token:<제시된 토큰 해시>
+-- KEYS[2]: refresh_token:<새 토큰 해시>
+-- KEYS[3]: refresh_token:user:<userId> (호출자가 KEYS[1]에서 미리 읽은 userId)
+-- ARGV[1]: userId
+-- ARGV[2]: 새 토큰 해시 (새 토큰은 제시된 토큰에서 결정적으로 만들어지므로 재시도해도 같은 값)
+-- ARGV[3]: 생성 시각 (epoch millis)
+-- ARGV[4]: 새 토큰 TTL (초)
+-- ARGV[5]: 재시도 유예 시간 (ms, 0이면 사용 안 함)
+-- 반환값: {1, userId} = 교체 성공, {0} = 저장된 토큰 없음, {-1, userId} = 재사용 감지,
+--         {2, userId} = 유예 시간 안의 재시도 (직전 교체로 만든 새 토큰이 아직 현재 토큰)
+-- 교체된 토큰은 'rotated' 상태로 원래 TTL까지 남겨 재사용을 감지한다. 토큰 패밀리 폐기는 호출자가 한다
+-- 토큰 원문은 저장하지 않는다
+local fields = redis.call('HMGET', KEYS[1], 'userId', 'status', 'rotatedAt')
+local userId = fields[1]
+if not userId or userId ~= ARGV[1] then
+    return {0}
+end
+
+if fields[2] ~= 'active' then
+    -- 응답을 받지 못한 클라이언트의 재시도: 같은 새 토큰이 아직 현재 토큰이고 유예 시간 안이면 재사용으로 보지 않는다
+    local rotatedAt = tonumber(fields[3])
+    if rotatedAt and tonumber(ARGV[3]) - rotatedAt <= tonumber(ARGV[5])
+            and redis.call('GET', KEYS[3]) == ARGV[2] then
+        return {2, userId}
+    end
+    return {-1, userId}
+end
+
+redis.call('HSET', KEYS[1], 'status', 'rotated', 'rotatedAt', ARGV[3])
+
+redis.call('HSET', KEYS[2], 'userId', userId, 'createdAt', ARGV[3], 'status', 'active')
+redis.call('EXPIRE', KEYS[2], ARGV[4])
+redis.call('SET', KEYS[3], ARGV[2], 'EX', ARGV[4])
+return {1, userId}
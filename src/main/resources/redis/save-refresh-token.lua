@@ -0,0 +1,22 @@
+-- opaque Refresh Token 저장. 사용자당 하나의 활성 토큰만 유지하므로 이전 토큰은 삭제
+-- KEYS[1]: refresh_token:<토큰 해시>
+-- KEYS[2]: refresh_token:user:<userId>
+-- KEYS[3]: refresh_token:<호출자가 KEYS[2]에서 미리 읽은 이전 토큰 해시> (이전 토큰이 없으면 생략)
+-- ARGV[1]: userId
+-- ARGV[2]: 토큰 해시
+-- ARGV[3]: 생성 시각 (epoch millis)
+-- ARGV[4]: TTL (초)
+-- ARGV[5]: 미리 읽은 이전 토큰 해시 (없으면 빈 문자열)
+-- 반환값: 1 = 저장, 0 = 그 사이 현재 토큰이 바뀜 (호출자가 다시 읽고 재시도)
+local previous = redis.call('GET', KEYS[2])
+if (previous or '') ~= ARGV[5] then
+    return 0
+end
+if KEYS[3] then
+    redis.call('DEL', KEYS[3])
+end
+
+redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'createdAt', ARGV[3], 'status', 'active')
+redis.call('EXPIRE', KEYS[1], ARGV[4])
+redis.call('SET', KEYS[2], ARGV[2], 'EX', ARGV[4])
+return 1
@@ -0,0 +1,35 @@
+-- 토큰 버킷 rate limit. 노드 간 시계 차이를 피하기 위해 Redis 서버 시간을 사용
+-- KEYS[1]: rate_limit:<route>:<ip 또는 user>
+-- ARGV[1]: 버킷 용량
+-- ARGV[2]: 초당 충전 토큰 수
+-- 반환: {허용 여부(1/0), 남은 토큰 수, 다음 토큰까지 대기 시간(ms)}
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2]) / 1000
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+local allowed = 0
+local wait = 0
+if tokens >= 1 then
+    tokens = tokens - 1
+    allowed = 1
+else
+    wait = math.ceil((1 - tokens) / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+-- 가득 찰 때까지 걸리는 시간이 지나면 키가 없어도 같은 상태이므로 만료
+redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / rate) + 1000)
+
+return {allowed, math.floor(tokens), wait}
@@ -0,0 +1,112 @@
+package org.pagebyfeel.autocomplete;
+
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.repository.BookRepository;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookAutocompleteIndexTest {
+
+    @Test
+    void partialSyllablesMatchThroughJamoDecomposition() {
+        assertThat(AutocompleteTokenizer.tokenize("닭")).containsExactly("ㄷㅏㄹㄱ");
+        assertThat(AutocompleteTokenizer.tokenize("Harry-Potter 외")).containsExactly("harry", "potter", "ㅇㅗㅣ");
+
+        BookAutocompleteIndex index = indexOf(
+                new AutocompleteEntry(1L, "채식주의자", "한강"),
+                new AutocompleteEntry(2L, "채널 운영", "김작가"),
+                new AutocompleteEntry(3L, "소년이 온다", "한강")
+        );
+
+        assertThat(bookIds(index.suggest("채시", 10))).containsExactly(1L);
+        assertThat(bookIds(index.suggest("채ㅅ", 10))).containsExactly(1L);
+        assertThat(bookIds(index.suggest("채", 10))).containsExactly(1L, 2L);
+        assertThat(bookIds(index.suggest("소년 한가", 10))).containsExactly(3L);
+        assertThat(index.suggest("없는책", 10)).isEmpty();
+    }
+
+    @Test
+    void titleStartMatchesRankAboveShorterAuthorMatches() {
+        BookAutocompleteIndex index = indexOf(
+                new AutocompleteEntry(1L, "별", "바다"),
+                new AutocompleteEntry(2L, "바다의 노래와 긴 제목", "별"),
+                new AutocompleteEntry(3L, "바다", "별")
+        );
+
+        assertThat(bookIds(index.suggest("바다", 10))).containsExactly(3L, 2L, 1L);
+        assertThat(bookIds(index.suggest("바다", 2))).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void addedBooksAreSearchableBeforeNextRebuild() {
+        BookAutocompleteIndex index = indexOf(new AutocompleteEntry(1L, "채식주의자", "한강"));
+
+        index.add(new AutocompleteEntry(2L, "채식 요리", "박요리"));
+        index.add(new AutocompleteEntry(2L, "채식 요리", "박요리"));
+
+        assertThat(bookIds(index.suggest("채식", 10))).containsExactly(1L, 2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void refreshPicksUpRowsCommittedBehindTheWatermark() {
+        BookRepository bookRepository = mock(BookRepository.class);
+        when(bookRepository.findAutocompleteEntriesAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        // 3번은 4번보다 늦게 커밋되어 첫 적재에는 보이지 않는다
+        when(bookRepository.findAutocompleteEntriesAfter(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(new AutocompleteEntry(1L, "채식주의자", "한강"),
+                        new AutocompleteEntry(2L, "소년이 온다", "한강"),
+                        new AutocompleteEntry(4L, "채식 요리", "박요리")))
+                .thenReturn(List.of(new AutocompleteEntry(1L, "채식주의자", "한강"),
+                        new AutocompleteEntry(2L, "소년이 온다", "한강"),
+                        new AutocompleteEntry(3L, "채식 식단", "이영양"),
+                        new AutocompleteEntry(4L, "채식 요리", "박요리")));
+        BookAutocompleteIndex index = new BookAutocompleteIndex(bookRepository, 10_000, 5000, 1000);
+        index.rebuild();
+
+        index.refresh();
+
+        assertThat(bookIds(index.suggest("채식", 10))).containsExactlyInAnyOrder(1L, 3L, 4L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void rareCombinationOfCommonTermsIsFoundBeyondRankScanBudget() {
+        List<AutocompleteEntry> entries = new ArrayList<>();
+        long bookId = 1;
+        for (int i = 0; i < 40_000; i++) {
+            entries.add(new AutocompleteEntry(bookId++, "alpha " + i, "writer"));
+            entries.add(new AutocompleteEntry(bookId++, "beta " + i, "writer"));
+        }
+        entries.add(new AutocompleteEntry(bookId, "the longest title with alpha and beta", "writer"));
+        AutocompleteSegment segment = AutocompleteSegment.build(entries);
+
+        long[] hits = segment.search(AutocompleteTokenizer.tokenize("alph bet"), 10);
+
+        assertThat(hits).hasSize(1);
+        assertThat(segment.bookId((int) hits[0])).isEqualTo(bookId);
+    }
+
+    private static BookAutocompleteIndex indexOf(AutocompleteEntry... entries) {
+        BookRepository bookRepository = mock(BookRepository.class);
+        when(bookRepository.findAutocompleteEntriesAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+        when(bookRepository.findAutocompleteEntriesAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(entries));
+
+        BookAutocompleteIndex index = new BookAutocompleteIndex(bookRepository, 10_000, 5000, 1000);
+        index.rebuild();
+        return index;
+    }
+
+    private static List<Long> bookIds(List<AutocompleteEntry> entries) {
+        return entries.stream().map(AutocompleteEntry::bookId).toList();
+    }
+}
@@ -0,0 +1,112 @@
+package org.pagebyfeel.cache;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoLevelCacheTest {
+
+    private static final TwoLevelCacheSpec SPEC =
+            new TwoLevelCacheSpec(100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+
+    private final RedisService redisService = mock(RedisService.class);
+    private final TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+            redisService, mock(RedisMessageListenerContainer.class), Map.of(), SPEC
+    );
+
+    @Test
+    void concurrentMissesLoadOnlyOnce() throws Exception {
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("test");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get("key", () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(50);
+                        return "value";
+                    });
+                }));
+            }
+            start.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        verify(redisService).setIfAbsent(eq("cache:test:key"), eq("value"), anyLong(), eq(TimeUnit.SECONDS));
+        assertThat(cache.getStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loaderResultDoesNotOverwriteValuePutWhileLoading() {
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("test");
+        // 로더가 DB를 읽는 사이 다른 요청의 put()이 L2에 새 값을 기록한 상황
+        when(redisService.get("cache:test:key")).thenReturn(null, "fresh");
+        when(redisService.setIfAbsent(eq("cache:test:key"), eq("stale"), anyLong(), eq(TimeUnit.SECONDS)))
+                .thenReturn(false);
+
+        assertThat(cache.get("key", () -> "stale")).isEqualTo("fresh");
+        verify(redisService, never()).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void remoteInvalidationEvictsLocalEntryButOwnMessagesAreIgnored() {
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("test");
+        cache.get("key", () -> "value");
+
+        cacheManager.onMessage(message(ownNodeMessage()), null);
+        assertThat(cache.get("key", () -> "reloaded")).isEqualTo("value");
+
+        cacheManager.onMessage(message("other-node|E|test|key"), null);
+        assertThat(cache.get("key", () -> "reloaded")).isEqualTo("reloaded");
+        assertThat(cache.getStats().remoteInvalidationCount()).isEqualTo(1);
+    }
+
+    private String ownNodeMessage() {
+        cacheManager.publishEvict("test", "key");
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(redisService).publish(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                TwoLevelCacheManager.CACHE_INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
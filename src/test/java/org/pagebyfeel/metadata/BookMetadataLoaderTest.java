@@ -0,0 +1,222 @@
+package org.pagebyfeel.metadata;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.config.http.PooledHttpClients;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 스텁 HTTP 서버로 느리거나 실패하는 Provider 앞에서 합치기, negative cache, 동시 호출 제한을 검증
+ */
+class BookMetadataLoaderTest {
+
+    private static final String ISBN = "9788936433598";
+    private static final String KAKAO_PATH = "/v3/search/book";
+    private static final String NAVER_PATH = "/v1/search/book_adv.json";
+    private static final String EMPTY_KAKAO = "{\"documents\":[]}";
+    private static final String EMPTY_NAVER = "{\"items\":[]}";
+
+    private final Map<String, Object> redis = new ConcurrentHashMap<>();
+    private StubBookApiServer kakao;
+    private StubBookApiServer naver;
+    private BookMetadataLoader loader;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        kakao = new StubBookApiServer(KAKAO_PATH, kakaoDocument(ISBN, "채식주의자"));
+        naver = new StubBookApiServer(NAVER_PATH, naverItem(ISBN, "채식주의자"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (loader != null) {
+            loader.shutdown();
+        }
+        kakao.close();
+        naver.close();
+    }
+
+    @Test
+    void concurrentLookupsForSameIsbnShareOneOutboundCall() throws Exception {
+        kakao.delay(300);
+        loader = newLoader(8, 2000);
+
+        int callers = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<BookMetadata>>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return loader.load(ISBN);
+            }));
+        }
+        start.countDown();
+
+        for (Future<Optional<BookMetadata>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).map(BookMetadata::title).contains("채식주의자");
+        }
+        executor.shutdown();
+
+        assertThat(kakao.requestCount()).isEqualTo(1);
+        assertThat(loader.load(ISBN)).isPresent();
+        assertThat(kakao.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    void failingOrSlowProviderFallsBackToNextProvider() {
+        kakao.respond(500, "{\"errorType\":\"InternalServerError\"}");
+        loader = newLoader(8, 300);
+        assertThat(loader.load(ISBN)).map(BookMetadata::author).contains("한강");
+
+        redis.clear();
+        kakao.respond(200, kakaoDocument(ISBN, "채식주의자")).delay(1000);
+        assertThat(loader.load(ISBN)).map(BookMetadata::publisher).contains("창비");
+        assertThat(naver.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void missIsNegativelyCachedButProviderFailureIsNot() {
+        kakao.respond(503, "{}");
+        naver.respond(200, EMPTY_NAVER);
+        loader = newLoader(8, 2000);
+
+        assertThatThrownBy(() -> loader.load(ISBN))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.EXTERNAL_API_ERROR);
+        assertThat(redis).isEmpty();
+
+        kakao.respond(200, EMPTY_KAKAO);
+        assertThat(loader.load(ISBN)).isEmpty();
+        assertThat(loader.load(ISBN)).isEmpty();
+        assertThat(loader.loadAll(List.of(ISBN)).found()).isEmpty();
+
+        assertThat(kakao.requestCount()).isEqualTo(2);
+        assertThat(naver.requestCount()).isEqualTo(2);
+    }
+
+    @Test
+    void outboundConcurrencyIsBounded() {
+        List<String> isbns = List.of("9791100000014", "9791100000021", "9791100000038",
+                "9791100000045", "9791100000052", "9791100000069");
+        kakao.respond(200, kakaoDocument(String.join(" ", isbns), "합성 도서")).delay(150);
+        loader = newLoader(2, 2000);
+
+        BookMetadataLookup results = loader.loadAll(isbns);
+
+        assertThat(results.found()).containsOnlyKeys(isbns);
+        assertThat(results.failed()).isEmpty();
+        assertThat(kakao.requestCount()).isEqualTo(isbns.size());
+        assertThat(kakao.maxInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void failedIsbnIsReportedWithoutDroppingTheOthers() {
+        String unavailable = "9791100000014";
+        kakao.respond(200, kakaoDocument(ISBN, "채식주의자"));
+        naver.respond(503, "{}");
+        loader = newLoader(8, 2000);
+
+        BookMetadataLookup results = loader.loadAll(List.of(ISBN, unavailable));
+
+        assertThat(results.found()).containsOnlyKeys(ISBN);
+        assertThat(results.failed()).containsExactly(unavailable);
+    }
+
+    @Test
+    void batchSharesOneDeadlineAndCancelsQueuedLookups() throws Exception {
+        List<String> isbns = List.of("9791100000014", "9791100000021", "9791100000038");
+        kakao.respond(200, kakaoDocument(String.join(" ", isbns), "합성 도서")).delay(500);
+        loader = newLoader(1, 2000, 300);
+
+        long start = System.nanoTime();
+        BookMetadataLookup results = loader.loadAll(isbns);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // ISBN마다 기한을 따로 기다리면 900ms 이상 걸린다
+        assertThat(elapsed).isLessThan(Duration.ofMillis(600));
+        assertThat(results.found()).isEmpty();
+        assertThat(results.failed()).containsExactlyElementsOf(isbns);
+
+        // 동시 호출 1개라 나머지 두 건은 대기 중에 취소되어 호출되지 않는다
+        Thread.sleep(700);
+        assertThat(kakao.requestCount()).isEqualTo(1);
+    }
+
+    private BookMetadataLoader newLoader(int maxConcurrentRequests, long readTimeoutMs) {
+        return newLoader(maxConcurrentRequests, readTimeoutMs, 5000);
+    }
+
+    private BookMetadataLoader newLoader(int maxConcurrentRequests, long readTimeoutMs, long waitTimeoutMs) {
+        ClientHttpRequestFactory requestFactory = PooledHttpClients.pooledRequestFactory(
+                maxConcurrentRequests * 2, maxConcurrentRequests,
+                Duration.ofMillis(500), Duration.ofMillis(readTimeoutMs), Duration.ofMillis(500), false
+        );
+        List<BookMetadataProvider> providers = List.of(
+                new KakaoBookMetadataProvider(
+                        RestClient.builder().requestFactory(requestFactory).baseUrl(kakao.baseUrl()).build(), "test-key"),
+                new NaverBookMetadataProvider(
+                        RestClient.builder().requestFactory(requestFactory).baseUrl(naver.baseUrl()).build(), "id", "secret")
+        );
+        return new BookMetadataLoader(providers, inMemoryRedis(), new SimpleMeterRegistry(), maxConcurrentRequests,
+                Duration.ofSeconds(5), Duration.ofMillis(waitTimeoutMs), Duration.ofDays(7), Duration.ofHours(1));
+    }
+
+    private RedisService inMemoryRedis() {
+        RedisService redisService = mock(RedisService.class);
+        when(redisService.get(anyString())).thenAnswer(invocation -> redis.get(invocation.<String>getArgument(0)));
+        when(redisService.multiGet(anyList())).thenAnswer(invocation -> {
+            List<Object> values = new ArrayList<>();
+            for (Object key : invocation.<List<?>>getArgument(0)) {
+                values.add(redis.get((String) key));
+            }
+            return values;
+        });
+        doAnswer(invocation -> redis.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(redisService).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+        return redisService;
+    }
+
+    private static String kakaoDocument(String isbnField, String title) {
+        return """
+                {"documents":[{"title":"%s","authors":["한강"],"publisher":"창비",
+                "datetime":"2007-10-30T00:00:00.000+09:00","isbn":"8936433598 %s","thumbnail":""}]}
+                """.formatted(title, isbnField);
+    }
+
+    private static String naverItem(String isbn, String title) {
+        return """
+                {"items":[{"title":"%s","author":"한강","publisher":"창비","pubdate":"20071030",
+                "isbn":"8936433598 %s","image":"https://example.com/cover.jpg"}]}
+                """.formatted(title, isbn);
+    }
+}
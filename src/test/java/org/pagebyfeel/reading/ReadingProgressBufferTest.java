@@ -0,0 +1,105 @@
+package org.pagebyfeel.reading;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.service.RedisService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReadingProgressBufferTest {
+
+    private static final UUID USER_A = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID USER_B = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private static final LocalDateTime READ_AT = LocalDateTime.of(2026, 10, 17, 21, 30, 5);
+
+    private final RedisService redisService = mock(RedisService.class);
+    private final ReadingProgressWriter writer = mock(ReadingProgressWriter.class);
+    private final List<List<ReadingProgress>> batches = new ArrayList<>();
+    private final ReadingProgressBuffer buffer =
+            new ReadingProgressBuffer(redisService, writer, new SimpleMeterRegistry(), 2, 30_000);
+
+    @Test
+    void bufferEntryRoundTrips() {
+        ReadingProgress progress = new ReadingProgress(USER_A, 42L, 120, 300, READ_AT);
+        ReadingProgress unknownTotal = new ReadingProgress(USER_A, 42L, 7, null, READ_AT);
+
+        assertThat(ReadingProgress.fromBuffer(progress.bufferField(), progress.bufferValue())).isEqualTo(progress);
+        assertThat(ReadingProgress.fromBuffer(unknownTotal.bufferField(), unknownTotal.bufferValue())).isEqualTo(unknownTotal);
+    }
+
+    @Test
+    void writesDirectlyWhenRedisIsUnavailable() {
+        when(redisService.bufferReadingProgress(anyString(), anyInt(), anyString())).thenReturn(null);
+        ReadingProgress progress = new ReadingProgress(USER_A, 1L, 10, null, READ_AT);
+
+        buffer.submit(progress);
+
+        verify(writer).write(List.of(progress));
+    }
+
+    @Test
+    void flushWritesClaimedUpdatesInKeyOrderedChunksThenAcks() {
+        Map<String, String> claimed = new LinkedHashMap<>();
+        for (ReadingProgress progress : List.of(
+                new ReadingProgress(USER_B, 1L, 5, null, READ_AT),
+                new ReadingProgress(USER_A, 2L, 9, 10, READ_AT),
+                new ReadingProgress(USER_A, 1L, 3, null, READ_AT))) {
+            claimed.put(progress.bufferField(), progress.bufferValue());
+        }
+        claimed.put("broken", "entry");
+        when(redisService.claimReadingProgress(anyString(), any())).thenReturn(claimed);
+        when(writer.write(anyList())).thenAnswer(invocation -> {
+            List<ReadingProgress> batch = List.copyOf(invocation.getArgument(0));
+            batches.add(batch);
+            return batch.size();
+        });
+        when(redisService.ackReadingProgress(anyString())).thenReturn(true);
+
+        buffer.flush();
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).extracting(ReadingProgress::userId, ReadingProgress::bookId)
+                .containsExactly(tuple(USER_A, 1L), tuple(USER_A, 2L));
+        assertThat(batches.get(1)).extracting(ReadingProgress::userId).containsExactly(USER_B);
+        verify(redisService).ackReadingProgress(anyString());
+    }
+
+    @Test
+    void failedFlushIsNotAcknowledged() {
+        ReadingProgress progress = new ReadingProgress(USER_A, 1L, 3, null, READ_AT);
+        when(redisService.claimReadingProgress(anyString(), any()))
+                .thenReturn(Map.of(progress.bufferField(), progress.bufferValue()));
+        when(writer.write(anyList())).thenThrow(new IllegalStateException("database is down"));
+
+        buffer.flush();
+
+        verify(redisService, never()).ackReadingProgress(anyString());
+    }
+
+    @Test
+    void bufferedReadReturnsFurthestPendingPage() {
+        String field = ReadingProgress.bufferField(USER_A, 1L);
+        when(redisService.getBufferedReadingProgress(field)).thenReturn(List.of(
+                new ReadingProgress(USER_A, 1L, 40, null, READ_AT).bufferValue(),
+                new ReadingProgress(USER_A, 1L, 25, null, READ_AT.minusSeconds(3)).bufferValue()
+        ));
+
+        assertThat(buffer.getBuffered(USER_A, 1L)).map(ReadingProgress::page).contains(40);
+    }
+}
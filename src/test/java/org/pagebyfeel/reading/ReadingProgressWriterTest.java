@@ -0,0 +1,94 @@
+package org.pagebyfeel.reading;
+
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.entity.ReadingRecord;
+import org.pagebyfeel.repository.ReadingRecordRepository;
+import org.pagebyfeel.repository.ReadingStatsRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadingProgressWriterTest {
+
+    private static final UUID USER = UUID.fromString("3f000000-0000-0000-0000-000000000001");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 17, 22, 0);
+
+    private final ReadingRecordRepository recordRepository = mock(ReadingRecordRepository.class);
+    private final ReadingStatsRepository statsRepository = mock(ReadingStatsRepository.class);
+    private final ReadingProgressWriter writer = new ReadingProgressWriter(recordRepository, statsRepository, 10);
+
+    @Test
+    void firstProgressCountsAllPagesButNoReadingTime() {
+        ReadingLogEntry entry = writer.toLogEntry(new ReadingProgress(USER, 1L, 12, null, NOW), null);
+
+        assertThat(entry.pagesRead()).isEqualTo(12);
+        assertThat(entry.readingSeconds()).isZero();
+        assertThat(entry.finished()).isFalse();
+    }
+
+    @Test
+    void readingTimeIsGapSincePreviousUpdateWithinSession() {
+        ReadingRecord previous = record(40, 200, NOW.minusSeconds(95), null);
+
+        ReadingLogEntry entry = writer.toLogEntry(new ReadingProgress(USER, 1L, 43, null, NOW), previous);
+
+        assertThat(entry.fromPage()).isEqualTo(40);
+        assertThat(entry.pagesRead()).isEqualTo(3);
+        assertThat(entry.readingSeconds()).isEqualTo(95);
+    }
+
+    @Test
+    void gapLongerThanSessionGapStartsNewSession() {
+        ReadingRecord previous = record(40, 200, NOW.minusHours(3), null);
+
+        assertThat(writer.toLogEntry(new ReadingProgress(USER, 1L, 41, null, NOW), previous).readingSeconds()).isZero();
+    }
+
+    @Test
+    void bookIsFinishedOnlyWhenLastPageIsFirstReached() {
+        ReadingRecord reading = record(190, 200, NOW.minusMinutes(1), null);
+        ReadingRecord alreadyFinished = record(200, 200, NOW.minusMinutes(1), NOW.minusMinutes(1));
+
+        assertThat(writer.toLogEntry(new ReadingProgress(USER, 1L, 200, null, NOW), reading).finished()).isTrue();
+        assertThat(writer.toLogEntry(new ReadingProgress(USER, 1L, 210, 210, NOW), alreadyFinished).finished()).isFalse();
+    }
+
+    @Test
+    void onlyAppliedUpdatesReachTheLogAndOnlyNewLogEntriesReachRollups() {
+        ReadingProgress applied = new ReadingProgress(USER, 1L, 50, null, NOW);
+        ReadingProgress stale = new ReadingProgress(USER, 2L, 3, null, NOW);
+        List<ReadingProgress> updates = List.of(applied, stale);
+        when(recordRepository.lockRecords(updates)).thenReturn(List.of(record(45, null, NOW.minusSeconds(30), null)));
+        when(recordRepository.upsertProgress(updates)).thenReturn(List.of(applied));
+        List<ReadingLogEntry> expected = List.of(new ReadingLogEntry(USER, 1L, 45, 50, NOW, 30, false));
+        when(statsRepository.appendLog(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertThat(writer.write(updates)).isEqualTo(1);
+
+        var order = inOrder(statsRepository, recordRepository);
+        order.verify(statsRepository).lockBucketsShared(List.of(USER, USER));
+        order.verify(recordRepository).lockRecords(updates);
+        order.verify(recordRepository).upsertProgress(updates);
+        order.verify(statsRepository).appendLog(expected);
+        order.verify(statsRepository).addToRollups(expected);
+    }
+
+    private static ReadingRecord record(int page, Integer totalPages, LocalDateTime lastReadAt, LocalDateTime finishedAt) {
+        return ReadingRecord.builder()
+                .userId(USER)
+                .bookId(1L)
+                .currentPage(page)
+                .totalPages(totalPages)
+                .startedAt(lastReadAt)
+                .lastReadAt(lastReadAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
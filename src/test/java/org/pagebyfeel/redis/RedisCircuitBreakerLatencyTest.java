@@ -0,0 +1,135 @@
+package org.pagebyfeel.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 응답하지 않는 Redis 앞에서 서킷 브레이커가 요청 지연을 제한하는지 검증
+ */
+class RedisCircuitBreakerLatencyTest {
+
+    private static final Duration COMMAND_TIMEOUT = Duration.ofMillis(200);
+
+    private StalledRedisStandIn stalledRedis;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisCircuitBreaker circuitBreaker;
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stalledRedis = new StalledRedisStandIn();
+
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+                .commandTimeout(COMMAND_TIMEOUT)
+                .clientOptions(ClientOptions.builder()
+                        .socketOptions(SocketOptions.builder().connectTimeout(COMMAND_TIMEOUT).build())
+                        .build())
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("127.0.0.1", stalledRedis.getPort()),
+                clientConfiguration
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        BlacklistNearCache blacklistNearCache =
+                new BlacklistNearCache(stringRedisTemplate, mock(RedisMessageListenerContainer.class), 1000);
+
+        circuitBreaker = new RedisCircuitBreaker(5, 60_000, new SimpleMeterRegistry());
+        redisService = new RedisService(
+                stringRedisTemplate, new RedisTemplate<>(), blacklistNearCache, circuitBreaker, noBatcher()
+        );
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        stalledRedis.close();
+    }
+
+    @Test
+    void blacklistCheckFailsOpenAndKeepsP99BoundedWhileRedisStalls() {
+        int requests = 1000;
+        long[] latencies = new long[requests];
+
+        for (int i = 0; i < requests; i++) {
+            long start = System.nanoTime();
+            boolean blacklisted = redisService.isBlacklisted("token-" + i);
+            latencies[i] = System.nanoTime() - start;
+
+            assertThat(blacklisted).isFalse();
+        }
+
+        Arrays.sort(latencies);
+        long p99 = latencies[(int) Math.ceil(requests * 0.99) - 1];
+
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getFailureCount(RedisOperation.IS_BLACKLISTED)).isEqualTo(5);
+        assertThat(Duration.ofNanos(p99)).isLessThan(RedisOperation.IS_BLACKLISTED.getLatencyBudget());
+    }
+
+    @Test
+    void refreshRotationFailsClosedWhileRedisStalls() {
+        for (int i = 0; i < 5; i++) {
+            redisService.isBlacklisted("token-" + i);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> redisService.rotateRefreshToken("presented", "next", 7, Duration.ZERO))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(GlobalErrorCode.SERVICE_UNAVAILABLE);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start))
+                .isLessThan(RedisOperation.ROTATE_REFRESH_TOKEN.getLatencyBudget());
+    }
+
+    @Test
+    void halfOpenProbeReopensCircuitWhenRedisIsStillDown() throws InterruptedException {
+        circuitBreaker = new RedisCircuitBreaker(1, 100, new SimpleMeterRegistry());
+        RedisService service = new RedisService(
+                new StringRedisTemplate(connectionFactory),
+                new RedisTemplate<>(),
+                new BlacklistNearCache(new StringRedisTemplate(connectionFactory), mock(RedisMessageListenerContainer.class), 1000),
+                circuitBreaker,
+                noBatcher()
+        );
+
+        service.isBlacklisted("token");
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+
+        Thread.sleep(150);
+        service.isBlacklisted("token");
+
+        assertThat(circuitBreaker.getFailureCount(RedisOperation.IS_BLACKLISTED)).isEqualTo(2);
+        assertThat(circuitBreaker.getState()).isEqualTo(RedisCircuitBreaker.State.OPEN);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<RedisCommandBatcher> noBatcher() {
+        return mock(ObjectProvider.class);
+    }
+}
@@ -0,0 +1,72 @@
+package org.pagebyfeel.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 응답하지 않는 파이프라인 앞에서 호출자 대기 시간 제한과 종료 후 제출 처리를 검증
+ */
+class RedisCommandBatcherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private RedisCommandBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    void callerGivesUpAfterWaitTimeoutWhenFlushStalls() {
+        batcher = new RedisCommandBatcher(stallingTemplate(), 16, 100);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> batcher.execute(connection -> {
+        })).isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+    }
+
+    @Test
+    void commandsSubmittedAfterShutdownFailInsteadOfHanging() {
+        batcher = new RedisCommandBatcher(stallingTemplate(), 16, 100);
+        release.countDown();
+        batcher.shutdown();
+
+        CompletableFuture<Void> future = batcher.submit(connection -> {
+        });
+
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisTemplate<String, String> stallingTemplate() {
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.closePipeline()).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        RedisTemplate<String, String> template = mock(RedisTemplate.class);
+        when(template.getRequiredConnectionFactory()).thenReturn(connectionFactory);
+        return template;
+    }
+}
@@ -0,0 +1,48 @@
+package org.pagebyfeel.redis;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 장애 상황의 Redis를 흉내 내는 로컬 TCP 서버
+ * 연결은 받아들이지만 어떤 명령에도 응답하지 않아, 클라이언트 입장에서는 무한한 지연이 주입된 Redis처럼 보인다
+ */
+class StalledRedisStandIn implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final List<Socket> accepted = new CopyOnWriteArrayList<>();
+    private final Thread acceptThread;
+
+    StalledRedisStandIn() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        this.acceptThread = new Thread(this::acceptLoop, "stalled-redis-stand-in");
+        this.acceptThread.setDaemon(true);
+        this.acceptThread.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                accepted.add(serverSocket.accept());
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : accepted) {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.pagebyfeel.redis.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.entity.RefreshToken;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedSmileRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer legacySerializer =
+            new GenericJackson2JsonRedisSerializer(new ObjectMapper().registerModule(new JavaTimeModule()));
+    private final VersionedSmileRedisSerializer serializer = new VersionedSmileRedisSerializer(
+            new RedisTypeRegistry().register(1, RefreshToken.class),
+            legacySerializer
+    );
+
+    @Test
+    void registeredTypeRoundTripsAndIsSmallerThanJson() {
+        RefreshToken token = RefreshToken.builder()
+                .userId(UUID.randomUUID())
+                .token("token-value")
+                .createdAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusDays(14))
+                .build();
+
+        byte[] bytes = serializer.serialize(token);
+        RefreshToken decoded = (RefreshToken) serializer.deserialize(bytes);
+
+        assertThat(bytes[0]).isEqualTo(VersionedSmileRedisSerializer.FORMAT_VERSION_1);
+        assertThat(bytes.length).isLessThan(legacySerializer.serialize(token).length);
+        assertThat(decoded.getUserId()).isEqualTo(token.getUserId());
+        assertThat(decoded.getToken()).isEqualTo(token.getToken());
+        assertThat(decoded.getExpiresAt()).isEqualTo(token.getExpiresAt());
+    }
+
+    @Test
+    void readsValuesWrittenByLegacyJsonSerializer() {
+        byte[] legacyBytes = legacySerializer.serialize(Map.of("key", "value"));
+
+        assertThat(serializer.deserialize(legacyBytes)).isEqualTo(Map.of("key", "value"));
+    }
+}
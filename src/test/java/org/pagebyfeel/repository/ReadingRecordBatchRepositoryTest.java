@@ -0,0 +1,82 @@
+package org.pagebyfeel.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.pagebyfeel.entity.ReadingRecord;
+import org.pagebyfeel.reading.ReadingProgress;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL(books, reading_records 테이블 필요)에서 진행률 배치 upsert의 단조 증가를 검증. DB_URL이 설정된 경우에만 실행
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=${DB_URL}",
+        "spring.datasource.username=${DB_USERNAME:}",
+        "spring.datasource.password=${DB_PASSWORD:}"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+class ReadingRecordBatchRepositoryTest {
+
+    @Autowired
+    private ReadingRecordRepository readingRecordRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID userId = UUID.randomUUID();
+    private final String isbn = "979" + String.format("%010d", Math.abs(userId.getLeastSignificantBits() % 10_000_000_000L));
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        bookId = jdbcTemplate.queryForObject(
+                "INSERT INTO books (isbn, title, author) VALUES (?, '진행률 테스트', '테스트') RETURNING book_id",
+                Long.class, isbn);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM reading_records WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM books WHERE isbn = ?", isbn);
+    }
+
+    @Test
+    void staleOrReplayedUpdatesNeverMoveProgressBackwards() {
+        LocalDateTime start = LocalDateTime.of(2026, 10, 17, 21, 0);
+        ReadingProgress page30 = new ReadingProgress(userId, bookId, 30, null, start);
+        ReadingProgress page80 = new ReadingProgress(userId, bookId, 80, 100, start.plusMinutes(10));
+        ReadingProgress page50 = new ReadingProgress(userId, bookId, 50, 100, start.plusMinutes(20));
+        ReadingProgress unknownBook = new ReadingProgress(userId, Long.MAX_VALUE, 10, null, start);
+
+        assertThat(readingRecordRepository.upsertProgress(List.of(page30, unknownBook))).containsExactly(page30);
+        assertThat(readingRecordRepository.upsertProgress(List.of(page80))).containsExactly(page80);
+        assertThat(readingRecordRepository.upsertProgress(List.of(page50))).isEmpty();
+        assertThat(readingRecordRepository.upsertProgress(List.of(page80))).isEmpty();
+
+        ReadingRecord record = readingRecordRepository.findByUserIdAndBookId(userId, bookId).orElseThrow();
+        assertThat(record.getCurrentPage()).isEqualTo(80);
+        assertThat(record.getTotalPages()).isEqualTo(100);
+        assertThat(record.getStartedAt()).isEqualTo(start);
+        assertThat(record.getLastReadAt()).isEqualTo(start.plusMinutes(10));
+        assertThat(record.getFinishedAt()).isNull();
+
+        readingRecordRepository.upsertProgress(List.of(new ReadingProgress(userId, bookId, 100, null, start.plusMinutes(30))));
+        assertThat(readingRecordRepository.findByUserIdAndBookId(userId, bookId).orElseThrow().getFinishedAt())
+                .isEqualTo(start.plusMinutes(30));
+    }
+}
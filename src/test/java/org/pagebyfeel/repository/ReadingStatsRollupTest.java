@@ -0,0 +1,162 @@
+package org.pagebyfeel.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.pagebyfeel.entity.ReadingStats;
+import org.pagebyfeel.entity.ReadingStatsPeriod;
+import org.pagebyfeel.reading.ReadingProgress;
+import org.pagebyfeel.reading.ReadingProgressWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 실제 PostgreSQL(books, reading_records, reading_progress_log, reading_stats 테이블 필요)에서
+ * 증분 집계가 재전송에도 한 번만 반영되고, 로그로 다시 계산한 결과와 같은지 검증. DB_URL이 설정된 경우에만 실행
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=${DB_URL}",
+        "spring.datasource.username=${DB_USERNAME:}",
+        "spring.datasource.password=${DB_PASSWORD:}"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+class ReadingStatsRollupTest {
+
+    private static final LocalDateTime DAY_ONE = LocalDateTime.of(2026, 9, 30, 21, 0);
+    private static final LocalDateTime DAY_TWO = LocalDateTime.of(2026, 10, 1, 8, 0);
+
+    @Autowired
+    private ReadingRecordRepository readingRecordRepository;
+
+    @Autowired
+    private ReadingStatsRepository readingStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final UUID userId = UUID.randomUUID();
+    private final String isbn = "979" + String.format("%010d", Math.abs(userId.getLeastSignificantBits() % 10_000_000_000L));
+    private Long bookId;
+    private ReadingProgressWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        bookId = jdbcTemplate.queryForObject(
+                "INSERT INTO books (isbn, title, author) VALUES (?, '통계 테스트', '테스트') RETURNING book_id",
+                Long.class, isbn);
+        writer = new ReadingProgressWriter(readingRecordRepository, readingStatsRepository, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM reading_stats WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM reading_progress_log WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM reading_records WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM books WHERE isbn = ?", isbn);
+    }
+
+    @Test
+    void replayedUpdatesAreCountedOnceAndRebuildMatchesIncrementalRollups() {
+        List<ReadingProgress> dayOne = List.of(new ReadingProgress(userId, bookId, 20, 100, DAY_ONE));
+        List<ReadingProgress> dayOneLater = List.of(new ReadingProgress(userId, bookId, 30, 100, DAY_ONE.plusMinutes(5)));
+        List<ReadingProgress> dayTwo = List.of(new ReadingProgress(userId, bookId, 100, 100, DAY_TWO));
+
+        writer.write(dayOne);
+        writer.write(dayOneLater);
+        writer.write(dayOneLater);
+        writer.write(dayTwo);
+        writer.write(dayOne);
+
+        List<ReadingStats> incremental = stats();
+        assertThat(incremental)
+                .extracting(ReadingStats::getPeriod, ReadingStats::getPeriodStart, ReadingStats::getPagesRead,
+                        ReadingStats::getReadingSeconds, ReadingStats::getBooksFinished)
+                .containsExactlyInAnyOrder(
+                        tuple(ReadingStatsPeriod.DAY, LocalDate.of(2026, 9, 30), 30L, 300L, 0),
+                        tuple(ReadingStatsPeriod.DAY, LocalDate.of(2026, 10, 1), 70L, 0L, 1),
+                        tuple(ReadingStatsPeriod.MONTH, LocalDate.of(2026, 9, 1), 30L, 300L, 0),
+                        tuple(ReadingStatsPeriod.MONTH, LocalDate.of(2026, 10, 1), 70L, 0L, 1)
+                );
+
+        readingStatsRepository.rebuildBucket((int) (userId.getMostSignificantBits() >>> 56));
+
+        assertThat(stats())
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("statsId")
+                .containsExactlyInAnyOrderElementsOf(incremental);
+    }
+
+    @Test
+    void concurrentFirstWritesForSameBookAreNotCountedTwice() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> transaction.executeWithoutResult(status -> {
+                writer.write(List.of(new ReadingProgress(userId, bookId, 20, 100, DAY_ONE)));
+                firstWritten.countDown();
+                await(commitFirst);
+            }));
+            await(firstWritten);
+            // 첫 트랜잭션이 커밋되기 전에 같은 (사용자, 책)의 첫 기록을 시작한다
+            Future<?> second = executor.submit(() -> transaction.executeWithoutResult(status ->
+                    writer.write(List.of(new ReadingProgress(userId, bookId, 25, 100, DAY_ONE.plusMinutes(1))))));
+            Thread.sleep(200);
+            commitFirst.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(stats())
+                .filteredOn(row -> row.getPeriod() == ReadingStatsPeriod.DAY)
+                .extracting(ReadingStats::getPagesRead)
+                .containsExactly(25L);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<ReadingStats> stats() {
+        return jdbcTemplate.query("SELECT * FROM reading_stats WHERE user_id = ?", (rs, rowNum) -> ReadingStats.builder()
+                .statsId(rs.getLong("stats_id"))
+                .userId(rs.getObject("user_id", UUID.class))
+                .period(ReadingStatsPeriod.valueOf(rs.getString("period")))
+                .periodStart(rs.getObject("period_start", LocalDate.class))
+                .pagesRead(rs.getLong("pages_read"))
+                .readingSeconds(rs.getLong("reading_seconds"))
+                .booksFinished(rs.getInt("books_finished"))
+                .build(), userId);
+    }
+}
@@ -0,0 +1,92 @@
+package org.pagebyfeel.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.pagebyfeel.entity.user.Provider;
+import org.pagebyfeel.entity.user.Role;
+import org.pagebyfeel.entity.user.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL(users 테이블 필요)에서 동시 첫 로그인 upsert를 검증. DB_URL이 설정된 경우에만 실행
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=${DB_URL}",
+        "spring.datasource.username=${DB_USERNAME:}",
+        "spring.datasource.password=${DB_PASSWORD:}"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+class UserRepositoryUpsertTest {
+
+    private static final int CONCURRENT_LOGINS = 32;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String email = "upsert-" + UUID.randomUUID() + "@example.com";
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", email);
+    }
+
+    @Test
+    void parallelFirstLoginsCreateExactlyOneRow() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOGINS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<User>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return userRepository.upsertByEmail(
+                            UUID.randomUUID(), email, "reader", Role.USER.name(), Provider.GOOGLE.name()
+                    );
+                }));
+            }
+            start.countDown();
+
+            Set<UUID> userIds = results.stream()
+                    .map(result -> {
+                        try {
+                            return result.get(10, TimeUnit.SECONDS).getUserId();
+                        } catch (Exception e) {
+                            throw new AssertionError("upsert failed", e);
+                        }
+                    })
+                    .collect(Collectors.toSet());
+
+            assertThat(userIds).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email);
+        assertThat(rows).isEqualTo(1);
+    }
+}
@@ -0,0 +1,129 @@
+package org.pagebyfeel.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.exception.auth.AuthErrorCode;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "cGFnZWJ5ZmVlbC1maWx0ZXItdGVzdC1zZWNyZXQta2V5LTMyLWJ5dGVzLWxvbmc=";
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(100, 100);
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+            JwtKeyRing.hmac("k1", SECRET), 30, null, verifiedTokenCache, null, new SimpleMeterRegistry()
+    );
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtTokenProvider, mock(RedisService.class));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void expiredTokenIsRecordedOnRequestInsteadOfThrown() throws Exception {
+        MockHttpServletRequest request = bearer(expiredToken());
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(request.getAttribute(JwtAuthenticationFilter.AUTH_ERROR_ATTRIBUTE))
+                .isEqualTo(AuthErrorCode.TOKEN_EXPIRED);
+    }
+
+    @Test
+    void repeatedInvalidTokenIsAnsweredFromRejectionCache() {
+        String token = "not-a-jwt";
+
+        assertThat(jwtTokenProvider.validate(token).errorCode()).isEqualTo(AuthErrorCode.INVALID_TOKEN);
+        assertThat(jwtTokenProvider.validate(token).errorCode()).isEqualTo(AuthErrorCode.INVALID_TOKEN);
+
+        assertThat(verifiedTokenCache.getRejectedHitCount()).isEqualTo(1);
+        assertThatThrownBy(() -> jwtTokenProvider.parseVerifiedClaims(token))
+                .isInstanceOf(BusinessException.class)
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    void entryPointWritesRecordedErrorCodeAsErrorResponse() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(JwtAuthenticationFilter.AUTH_ERROR_ATTRIBUTE, AuthErrorCode.TOKEN_EXPIRED);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new JsonAuthenticationEntryPoint().commence(request, response, null);
+
+        JsonNode body = new ObjectMapper().readTree(response.getContentAsByteArray());
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(body.get("success").asBoolean()).isFalse();
+        assertThat(body.get("errorCode").asText()).isEqualTo("TOKEN_EXPIRED");
+        assertThat(body.get("message").asText()).isEqualTo(AuthErrorCode.TOKEN_EXPIRED.getMessage());
+        assertThat(body.get("status").asInt()).isEqualTo(401);
+        assertThat(body.get("timestamp").asText()).isNotBlank();
+    }
+
+    @Test
+    void legacyTokenBlacklistedUnderRawKeyIsStillRejected() throws Exception {
+        String token = legacyToken();
+        RedisService redisService = mock(RedisService.class);
+        when(redisService.isBlacklisted(token)).thenReturn(true);
+        JwtAuthenticationFilter legacyFilter = new JwtAuthenticationFilter(jwtTokenProvider, redisService);
+        MockHttpServletRequest request = bearer(token);
+
+        legacyFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(request.getAttribute(JwtAuthenticationFilter.AUTH_ERROR_ATTRIBUTE))
+                .isEqualTo(AuthErrorCode.INVALID_TOKEN);
+    }
+
+    private static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private static String expiredToken() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(UUID.randomUUID().toString())
+                .claim("role", "USER")
+                .setIssuedAt(new Date(now - 120_000))
+                .setExpiration(new Date(now - 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static String legacyToken() {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(UUID.randomUUID().toString())
+                .claim("role", "USER")
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,82 @@
+package org.pagebyfeel.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.exception.auth.AuthErrorCode;
+
+import java.security.KeyPair;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class JwtKeyRingTest {
+
+    private static final String OLD_SECRET = "cGFnZWJ5ZmVlbC1vbGQta2V5LXJpbmctc2VjcmV0LTMyLWJ5dGVzLWxvbmc=";
+    private static final String NEW_SECRET = "cGFnZWJ5ZmVlbC1uZXcta2V5LXJpbmctc2VjcmV0LTMyLWJ5dGVzLWxvbmc=";
+
+    @Test
+    void tokensSignedWithRotatedOutKeyStayValid() {
+        JwtTokenProvider before = provider(JwtKeyRing.hmac("k1", OLD_SECRET));
+        String issuedBeforeRotation = before.generateAccessToken(UUID.randomUUID(), "USER");
+
+        JwtTokenProvider after = provider(new JwtKeyRing(
+                JwtKey.hmac("k2", SignatureAlgorithm.HS256, NEW_SECRET),
+                List.of(JwtKey.verificationOnly("k1", SignatureAlgorithm.HS256, OLD_SECRET)),
+                "k1"
+        ));
+
+        assertThat(after.validate(issuedBeforeRotation).isValid()).isTrue();
+        assertThat(after.validate(after.generateAccessToken(UUID.randomUUID(), "USER")).isValid()).isTrue();
+    }
+
+    @Test
+    void tokenWithoutKidIsVerifiedWithLegacyKey() {
+        String legacyToken = Jwts.builder()
+                .setSubject(UUID.randomUUID().toString())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(OLD_SECRET)))
+                .compact();
+
+        assertThat(provider(JwtKeyRing.hmac("k1", OLD_SECRET)).validate(legacyToken).isValid()).isTrue();
+    }
+
+    @Test
+    void unknownKidAndAlgorithmMismatchAreRejected() {
+        JwtTokenProvider rotatedOut = provider(JwtKeyRing.hmac("k1", OLD_SECRET));
+        JwtTokenProvider current = provider(JwtKeyRing.hmac("k2", NEW_SECRET));
+
+        assertThat(current.validate(rotatedOut.generateAccessToken(UUID.randomUUID(), "USER")).errorCode())
+                .isEqualTo(AuthErrorCode.INVALID_TOKEN);
+
+        KeyPair keyPair = Keys.keyPairFor(SignatureAlgorithm.ES256);
+        JwtTokenProvider es256 = provider(new JwtKeyRing(
+                JwtKey.asymmetric("k3", SignatureAlgorithm.ES256,
+                        Encoders.BASE64.encode(keyPair.getPrivate().getEncoded()),
+                        Encoders.BASE64.encode(keyPair.getPublic().getEncoded())),
+                List.of(),
+                "k3"
+        ));
+        String forgedHs256 = Jwts.builder()
+                .setHeaderParam("kid", "k3")
+                .setSubject(UUID.randomUUID().toString())
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(NEW_SECRET)))
+                .compact();
+
+        assertThat(es256.validate(es256.generateAccessToken(UUID.randomUUID(), "USER")).isValid()).isTrue();
+        assertThat(es256.validate(forgedHs256).errorCode()).isEqualTo(AuthErrorCode.INVALID_TOKEN);
+    }
+
+    private static JwtTokenProvider provider(JwtKeyRing keyRing) {
+        return new JwtTokenProvider(
+                keyRing, 30, null, new VerifiedTokenCache(100, 100), mock(TokenEpochService.class), new SimpleMeterRegistry()
+        );
+    }
+}
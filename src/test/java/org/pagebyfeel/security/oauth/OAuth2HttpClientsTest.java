@@ -0,0 +1,177 @@
+package org.pagebyfeel.security.oauth;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.config.http.PooledHttpClients;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AuthorizationCodeGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
+import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationExchange;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationResponse;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 stub Provider로 연결 재사용, 타임아웃, Provider별 지연 집계를 검증
+ */
+class OAuth2HttpClientsTest {
+
+    private static final Duration READ_TIMEOUT = Duration.ofMillis(300);
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private HttpComponentsClientHttpRequestFactory requestFactory;
+    private OAuth2ProviderLatencyRecorder latencyRecorder;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/token", exchange -> respond(exchange,
+                "{\"access_token\":\"stub-access-token\",\"token_type\":\"Bearer\",\"expires_in\":3600}"));
+        server.createContext("/userinfo", exchange -> respond(exchange,
+                "{\"id\":12345,\"kakao_account\":{\"email\":\"reader@example.com\"}}"));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(READ_TIMEOUT.toMillis() * 5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, "{}");
+        });
+        server.start();
+
+        requestFactory = PooledHttpClients.pooledRequestFactory(
+                10, 2, Duration.ofMillis(500), READ_TIMEOUT, Duration.ofMillis(500)
+        );
+        meterRegistry = new SimpleMeterRegistry();
+        latencyRecorder = new OAuth2ProviderLatencyRecorder(Map.of(host(), "stub"), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        requestFactory.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void userInfoCallsReuseKeepAliveConnection() {
+        DefaultOAuth2UserService userService = new DefaultOAuth2UserService();
+        userService.setRestOperations(OAuth2HttpClients.userInfoRestTemplate(requestFactory, latencyRecorder));
+
+        for (int i = 0; i < 5; i++) {
+            OAuth2User user = userService.loadUser(userRequest("/userinfo"));
+            assertThat(user.getName()).isEqualTo("12345");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+        assertThat(requestCount("success")).isEqualTo(5);
+        assertThat(meterRegistry.find(OAuth2ProviderLatencyRecorder.METRIC_NAME).tag("outcome", "io_error").timer()).isNull();
+    }
+
+    @Test
+    void authorizationCodeIsExchangedThroughPooledClient() {
+        OAuth2AccessTokenResponse response = OAuth2HttpClients
+                .authorizationCodeTokenResponseClient(requestFactory, latencyRecorder)
+                .getTokenResponse(grantRequest());
+
+        assertThat(response.getAccessToken().getTokenValue()).isEqualTo("stub-access-token");
+        assertThat(requestCount("success")).isEqualTo(1);
+    }
+
+    @Test
+    void slowProviderFailsAtReadTimeout() {
+        DefaultOAuth2UserService userService = new DefaultOAuth2UserService();
+        userService.setRestOperations(OAuth2HttpClients.userInfoRestTemplate(requestFactory, latencyRecorder));
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> userService.loadUser(userRequest("/slow")));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(elapsed).isLessThan(READ_TIMEOUT.multipliedBy(3));
+        assertThat(requestCount("io_error")).isEqualTo(1);
+    }
+
+    private long requestCount(String outcome) {
+        return meterRegistry.get(OAuth2ProviderLatencyRecorder.METRIC_NAME)
+                .tag("provider", "stub")
+                .tag("outcome", outcome)
+                .timer()
+                .count();
+    }
+
+    private OAuth2UserRequest userRequest(String userInfoPath) {
+        OAuth2AccessToken accessToken = new OAuth2AccessToken(
+                OAuth2AccessToken.TokenType.BEARER, "stub-access-token", Instant.now(), Instant.now().plusSeconds(60)
+        );
+        return new OAuth2UserRequest(registration(userInfoPath), accessToken);
+    }
+
+    private OAuth2AuthorizationCodeGrantRequest grantRequest() {
+        ClientRegistration registration = registration("/userinfo");
+        OAuth2AuthorizationRequest authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri(registration.getProviderDetails().getAuthorizationUri())
+                .clientId(registration.getClientId())
+                .redirectUri(registration.getRedirectUri())
+                .state("state")
+                .build();
+        OAuth2AuthorizationResponse authorizationResponse = OAuth2AuthorizationResponse.success("code")
+                .redirectUri(registration.getRedirectUri())
+                .state("state")
+                .build();
+        return new OAuth2AuthorizationCodeGrantRequest(
+                registration, new OAuth2AuthorizationExchange(authorizationRequest, authorizationResponse)
+        );
+    }
+
+    private ClientRegistration registration(String userInfoPath) {
+        String baseUrl = "http://" + host() + ":" + server.getAddress().getPort();
+        return ClientRegistration.withRegistrationId("stub")
+                .clientId("client-id")
+                .clientSecret("client-secret")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("http://localhost/login/oauth2/code/stub")
+                .authorizationUri(baseUrl + "/authorize")
+                .tokenUri(baseUrl + "/token")
+                .userInfoUri(baseUrl + userInfoPath)
+                .userNameAttributeName("id")
+                .build();
+    }
+
+    private String host() {
+        return server.getAddress().getAddress().getHostAddress();
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getRequestBody().readAllBytes();
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        exchange.getResponseBody().write(bytes);
+        exchange.close();
+    }
+}
@@ -0,0 +1,134 @@
+package org.pagebyfeel.security.oauth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.pagebyfeel.exception.common.BusinessException;
+import org.pagebyfeel.exception.global.GlobalErrorCode;
+import org.pagebyfeel.redis.codec.RedisTypeRegistry;
+import org.pagebyfeel.redis.codec.VersionedSmileRedisSerializer;
+import org.pagebyfeel.service.RedisService;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.client.web.OAuth2AuthorizationRequestRedirectFilter;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisOAuth2AuthorizationRequestRepositoryTest {
+
+    private static final String STATE = "state-value";
+
+    private final RedisService redisService = mock(RedisService.class);
+    private final RedisOAuth2AuthorizationRequestRepository repository =
+            new RedisOAuth2AuthorizationRequestRepository(redisService, new OAuth2Cookies());
+    private final VersionedSmileRedisSerializer serializer = new VersionedSmileRedisSerializer(
+            new RedisTypeRegistry().register(3, StoredAuthorizationRequest.class),
+            new GenericJackson2JsonRedisSerializer(new ObjectMapper())
+    );
+
+    @Test
+    void savesRequestUnderStateAndKeepsOnlyStateInCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        repository.saveAuthorizationRequest(authorizationRequest(), new MockHttpServletRequest(), response);
+
+        ArgumentCaptor<StoredAuthorizationRequest> stored = ArgumentCaptor.forClass(StoredAuthorizationRequest.class);
+        verify(redisService).saveOAuth2AuthorizationRequest(eq(STATE), stored.capture(), eq(Duration.ofSeconds(180)));
+        assertThat(response.getCookie(HttpCookieOAuth2AuthorizationRequestRepository.OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME).getValue())
+                .isEqualTo(STATE);
+
+        // Redis 직렬화를 거쳐도 원래 요청과 같은 값으로 복원되어야 함
+        StoredAuthorizationRequest decoded =
+                (StoredAuthorizationRequest) serializer.deserialize(serializer.serialize(stored.getValue()));
+        OAuth2AuthorizationRequest restored = decoded.toAuthorizationRequest();
+        assertThat(restored.getState()).isEqualTo(STATE);
+        assertThat(restored.getScopes()).containsExactlyInAnyOrder("profile", "email");
+        assertThat(restored.getAttributes()).containsEntry("registration_id", "google");
+        assertThat(restored.getAuthorizationRequestUri()).isEqualTo(authorizationRequest().getAuthorizationRequestUri());
+    }
+
+    @Test
+    void removeTakesRequestWhenStateParameterMatchesCookie() {
+        when(redisService.takeOAuth2AuthorizationRequest(STATE))
+                .thenReturn(StoredAuthorizationRequest.from(authorizationRequest()));
+
+        OAuth2AuthorizationRequest removed = repository.removeAuthorizationRequest(
+                callback(STATE), new MockHttpServletResponse()
+        );
+
+        assertThat(removed.getState()).isEqualTo(STATE);
+    }
+
+    @Test
+    void removeIgnoresStateParameterThatDoesNotMatchCookie() {
+        OAuth2AuthorizationRequest removed = repository.removeAuthorizationRequest(
+                callback("other-state"), new MockHttpServletResponse()
+        );
+
+        assertThat(removed).isNull();
+        verify(redisService, never()).takeOAuth2AuthorizationRequest(any());
+    }
+
+    @Test
+    void loginStartRespondsWith503JsonWhenRequestCannotBeStored() throws Exception {
+        doThrow(new BusinessException(GlobalErrorCode.SERVICE_UNAVAILABLE))
+                .when(redisService).saveOAuth2AuthorizationRequest(any(), any(), any());
+        ClientRegistration google = ClientRegistration.withRegistrationId("google")
+                .clientId("client-id")
+                .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+                .redirectUri("{baseUrl}/login/oauth2/code/{registrationId}")
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .tokenUri("https://oauth2.googleapis.com/token")
+                .build();
+        OAuth2AuthorizationRequestRedirectFilter filter =
+                new OAuth2AuthorizationRequestRedirectFilter(new InMemoryClientRegistrationRepository(google));
+        filter.setAuthorizationRequestRepository(repository);
+        filter.setAuthenticationFailureHandler(new OAuth2AuthorizationRequestFailureHandler());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/oauth2/authorization/google");
+        request.setServletPath("/oauth2/authorization/google");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).contains("\"errorCode\":\"SERVICE_UNAVAILABLE\"");
+        assertThat(response.getRedirectedUrl()).isNull();
+    }
+
+    private static MockHttpServletRequest callback(String stateParameter) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(HttpCookieOAuth2AuthorizationRequestRepository.OAUTH2_AUTHORIZATION_REQUEST_COOKIE_NAME, STATE));
+        request.setParameter("state", stateParameter);
+        return request;
+    }
+
+    private static OAuth2AuthorizationRequest authorizationRequest() {
+        return OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("client-id")
+                .redirectUri("https://api.example.com/api/login/oauth2/code/google")
+                .scopes(Set.of("profile", "email"))
+                .state(STATE)
+                .attributes(Map.of("registration_id", "google"))
+                .authorizationRequestUri("https://accounts.google.com/o/oauth2/v2/auth?state=" + STATE)
+                .build();
+    }
+}
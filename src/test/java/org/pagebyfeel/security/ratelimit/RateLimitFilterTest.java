@@ -0,0 +1,161 @@
+package org.pagebyfeel.security.ratelimit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.security.JwtKeyRing;
+import org.pagebyfeel.security.JwtTokenProvider;
+import org.pagebyfeel.security.VerifiedTokenCache;
+import org.pagebyfeel.service.RedisService;
+import org.pagebyfeel.service.TokenBucketResult;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+
+    private static final int CAPACITY = 3;
+    private static final String SECRET = "cGFnZWJ5ZmVlbC1maWx0ZXItdGVzdC1zZWNyZXQta2V5LTMyLWJ5dGVzLWxvbmc=";
+
+    private final RedisService redisService = mock(RedisService.class);
+    private final TokenBucketRateLimiter rateLimiter =
+            new TokenBucketRateLimiter(redisService, true, CAPACITY, 1, CAPACITY, 1, CAPACITY, 1, 1000);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final RateLimitFilter filter =
+            new RateLimitFilter(rateLimiter, mock(JwtTokenProvider.class));
+
+    @Test
+    void localPreCheckRejectsWithoutCallingRedisOnceBucketIsEmpty() throws Exception {
+        when(redisService.tryConsumeRateLimitToken(anyString(), anyLong(), anyDouble()))
+                .thenReturn(TokenBucketResult.allow());
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(refresh().getStatus()).isEqualTo(200);
+        }
+        MockHttpServletResponse rejected = refresh();
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(Long.parseLong(rejected.getHeader("Retry-After"))).isPositive();
+        JsonNode body = objectMapper.readTree(rejected.getContentAsString());
+        assertThat(body.get("errorCode").asText()).isEqualTo("TOO_MANY_REQUESTS");
+        assertThat(body.get("status").asInt()).isEqualTo(429);
+
+        verify(redisService, times(CAPACITY)).tryConsumeRateLimitToken(anyString(), anyLong(), anyDouble());
+        RateLimitStats stats = rateLimiter.getStats().get(RateLimitRoute.REFRESH);
+        assertThat(stats.allowedCount()).isEqualTo(CAPACITY);
+        assertThat(stats.localRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void redisRejectionIsReturnedAndDrainsLocalBucket() throws Exception {
+        when(redisService.tryConsumeRateLimitToken(anyString(), anyLong(), anyDouble()))
+                .thenReturn(new TokenBucketResult(false, 0, 4500));
+
+        MockHttpServletResponse rejected = refresh();
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("5");
+
+        // 다른 노드에서 버킷을 다 쓴 상태이므로 다음 요청은 로컬에서 바로 거부
+        assertThat(refresh().getStatus()).isEqualTo(429);
+        verify(redisService, times(1)).tryConsumeRateLimitToken(anyString(), anyLong(), anyDouble());
+    }
+
+    @Test
+    void unrelatedPathsAreNotLimited() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auth/me");
+        request.setContextPath("/api");
+
+        for (int i = 0; i < CAPACITY * 2; i++) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            filter.doFilter(request, response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void expiredAccessTokenStillKeysRefreshBucketByUser() throws Exception {
+        when(redisService.tryConsumeRateLimitToken(anyString(), anyLong(), anyDouble()))
+                .thenReturn(TokenBucketResult.allow());
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                JwtKeyRing.hmac("k1", SECRET), 30, null, new VerifiedTokenCache(100, 100), null, new SimpleMeterRegistry()
+        );
+        RateLimitFilter userFilter = new RateLimitFilter(rateLimiter, jwtTokenProvider);
+        String userId = UUID.randomUUID().toString();
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/refresh");
+        request.setContextPath("/api");
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("Authorization", "Bearer " + expiredToken(userId));
+        userFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(redisService).tryConsumeRateLimitToken(endsWith("user:" + userId), anyLong(), anyDouble());
+    }
+
+    @Test
+    void bookImportIsLimitedPerUserAcrossAddresses() throws Exception {
+        when(redisService.tryConsumeRateLimitToken(anyString(), anyLong(), anyDouble()))
+                .thenReturn(TokenBucketResult.allow());
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(
+                JwtKeyRing.hmac("k1", SECRET), 30, null, new VerifiedTokenCache(100, 100), null, new SimpleMeterRegistry()
+        );
+        RateLimitFilter userFilter = new RateLimitFilter(rateLimiter, jwtTokenProvider);
+        String token = token(UUID.randomUUID().toString(), 60_000);
+
+        int lastStatus = 0;
+        for (int i = 0; i <= CAPACITY; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/books/import");
+            request.setContextPath("/api");
+            request.setRemoteAddr("203.0.113." + (10 + i));
+            request.addHeader("Authorization", "Bearer " + token);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            userFilter.doFilter(request, response, new MockFilterChain());
+            lastStatus = response.getStatus();
+        }
+
+        assertThat(lastStatus).isEqualTo(429);
+        assertThat(rateLimiter.getStats().get(RateLimitRoute.BOOK_IMPORT).localRejectedCount()).isEqualTo(1);
+    }
+
+    private MockHttpServletResponse refresh() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/refresh");
+        request.setContextPath("/api");
+        request.setRemoteAddr("203.0.113.7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static String expiredToken(String subject) {
+        return token(subject, -60_000);
+    }
+
+    private static String token(String subject, long expiresInMillis) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(subject)
+                .claim("role", "USER")
+                .setIssuedAt(new Date(now - 120_000))
+                .setExpiration(new Date(now + expiresInMillis))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,26 @@
+package org.pagebyfeel.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookServiceImplTest {
+
+    @Test
+    void userInputBecomesAndedPrefixTermsWithoutTsqueryOperators() {
+        assertThat(BookServiceImpl.toPrefixTsQuery("  채식 Vegetarian ")).isEqualTo("채식:* & vegetarian:*");
+        assertThat(BookServiceImpl.toPrefixTsQuery("a&b | !(cd):* '")).isEqualTo("ab:* & cd:*");
+        assertThat(BookServiceImpl.toPrefixTsQuery("&& !!")).isEmpty();
+    }
+
+    @Test
+    void singleCharacterTermsAreDroppedFromPrefixQuery() {
+        assertThat(BookServiceImpl.toPrefixTsQuery("별 헤는 밤")).isEqualTo("헤는:*");
+        assertThat(BookServiceImpl.toPrefixTsQuery("a 책")).isEmpty();
+    }
+
+    @Test
+    void likeWildcardsInQueryAreEscaped() {
+        assertThat(BookServiceImpl.toContainsPattern("100%_\\")).isEqualTo("%100\\%\\_\\\\%");
+    }
+}
@@ -0,0 +1,130 @@
+package org.pagebyfeel.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.pagebyfeel.redis.BlacklistNearCache;
+import org.pagebyfeel.redis.RedisCircuitBreaker;
+import org.pagebyfeel.redis.RedisCommandBatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실제 Redis에서 독서 진행률 버퍼/claim/ack 스크립트를 검증. REDIS_HOST가 설정된 경우에만 실행
+ * 버퍼 키가 고정되어 있으므로 운영 데이터가 없는 Redis에서 실행한다
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class ReadingProgressScriptTest {
+
+    private static final List<String> KEYS =
+            List.of("reading_progress:pending", "reading_progress:flushing", "reading_progress:flush_lease");
+    private static final Duration LEASE = Duration.ofSeconds(30);
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"), Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"))));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        stringRedisTemplate.delete(KEYS);
+        redisService = new RedisService(
+                stringRedisTemplate,
+                new RedisTemplate<>(),
+                new BlacklistNearCache(stringRedisTemplate, mock(RedisMessageListenerContainer.class), 1000),
+                new RedisCircuitBreaker(5, 60_000, new SimpleMeterRegistry()),
+                noBatcher()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(KEYS);
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void bufferKeepsOnlyTheHighestPagePerField() {
+        assertThat(redisService.bufferReadingProgress("u:1", 10, "10||t1")).isTrue();
+        assertThat(redisService.bufferReadingProgress("u:1", 7, "7||t2")).isFalse();
+        assertThat(redisService.bufferReadingProgress("u:1", 10, "10||t3")).isFalse();
+        assertThat(redisService.bufferReadingProgress("u:1", 12, "12||t4")).isTrue();
+
+        assertThat(redisService.getBufferedReadingProgress("u:1")).containsExactly("12||t4");
+    }
+
+    @Test
+    void claimMovesBufferAndAckClearsIt() {
+        redisService.bufferReadingProgress("u:1", 10, "10||t1");
+        redisService.bufferReadingProgress("u:2", 3, "3||t1");
+
+        Map<String, String> claimed = redisService.claimReadingProgress("node-a", LEASE);
+        redisService.bufferReadingProgress("u:1", 11, "11||t2");
+
+        assertThat(claimed).containsOnly(Map.entry("u:1", "10||t1"), Map.entry("u:2", "3||t1"));
+        assertThat(redisService.getBufferedReadingProgress("u:1")).containsExactlyInAnyOrder("11||t2", "10||t1");
+        assertThat(redisService.ackReadingProgress("node-a")).isTrue();
+        assertThat(stringRedisTemplate.hasKey("reading_progress:flushing")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("reading_progress:flush_lease")).isFalse();
+        assertThat(redisService.claimReadingProgress("node-a", LEASE)).containsOnly(Map.entry("u:1", "11||t2"));
+    }
+
+    @Test
+    void otherNodeCannotClaimOrAckWhileLeaseIsHeld() {
+        redisService.bufferReadingProgress("u:1", 10, "10||t1");
+        redisService.claimReadingProgress("node-a", LEASE);
+
+        assertThat(redisService.claimReadingProgress("node-b", LEASE)).isNull();
+        assertThat(redisService.ackReadingProgress("node-b")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("reading_progress:flushing")).isTrue();
+    }
+
+    @Test
+    void unackedClaimIsReturnedAgainBeforeNewUpdates() {
+        redisService.bufferReadingProgress("u:1", 10, "10||t1");
+        redisService.claimReadingProgress("node-a", LEASE);
+        redisService.bufferReadingProgress("u:2", 5, "5||t2");
+
+        assertThat(redisService.claimReadingProgress("node-a", LEASE)).containsOnly(Map.entry("u:1", "10||t1"));
+    }
+
+    @Test
+    void expiredLeaseCanBeTakenOverByAnotherNode() throws InterruptedException {
+        redisService.bufferReadingProgress("u:1", 10, "10||t1");
+        redisService.claimReadingProgress("node-a", Duration.ofMillis(50));
+        Thread.sleep(100);
+
+        assertThat(redisService.claimReadingProgress("node-b", LEASE)).containsOnly(Map.entry("u:1", "10||t1"));
+        assertThat(redisService.ackReadingProgress("node-a")).isFalse();
+        assertThat(redisService.ackReadingProgress("node-b")).isTrue();
+    }
+
+    @Test
+    void emptyClaimReleasesTheLease() {
+        assertThat(redisService.claimReadingProgress("node-a", LEASE)).isEmpty();
+        assertThat(stringRedisTemplate.hasKey("reading_progress:flush_lease")).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<RedisCommandBatcher> noBatcher() {
+        return mock(ObjectProvider.class);
+    }
+}
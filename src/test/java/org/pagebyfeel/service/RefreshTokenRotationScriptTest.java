@@ -0,0 +1,111 @@
+package org.pagebyfeel.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.pagebyfeel.redis.BlacklistNearCache;
+import org.pagebyfeel.redis.RedisCircuitBreaker;
+import org.pagebyfeel.redis.RedisCommandBatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 실제 Redis에서 Refresh Token 교체 스크립트의 재시도 유예와 재사용 감지를 검증 (토큰 원문은 저장하지 않음). REDIS_HOST가 설정된 경우에만 실행
+ */
+@EnabledIfEnvironmentVariable(named = "REDIS_HOST", matches = ".+")
+class RefreshTokenRotationScriptTest {
+
+    private final UUID userId = UUID.randomUUID();
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private RedisService redisService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(
+                System.getenv("REDIS_HOST"), Integer.parseInt(System.getenv().getOrDefault("REDIS_PORT", "6379"))));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        redisService = new RedisService(
+                stringRedisTemplate,
+                new RedisTemplate<>(),
+                new BlacklistNearCache(stringRedisTemplate, mock(RedisMessageListenerContainer.class), 1000),
+                new RedisCircuitBreaker(5, 60_000, new SimpleMeterRegistry()),
+                noBatcher()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisService.deleteRefreshToken(userId);
+        stringRedisTemplate.delete(List.of("refresh_token:h1", "refresh_token:h2", "refresh_token:h3", "refresh_token:h4"));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void retryWithinGraceWindowWithSameDerivedTokenIsReplay() {
+        redisService.saveRefreshToken(userId, "h1", 7);
+
+        RefreshTokenRotation first = redisService.rotateRefreshToken("h1", "h2", 7, Duration.ofSeconds(10));
+        RefreshTokenRotation retry = redisService.rotateRefreshToken("h1", "h2", 7, Duration.ofSeconds(10));
+
+        assertThat(first.result()).isEqualTo(RefreshTokenRotationResult.ROTATED);
+        assertThat(retry.result()).isEqualTo(RefreshTokenRotationResult.REPLAYED);
+        assertThat(stringRedisTemplate.opsForValue().get("refresh_token:user:" + userId)).isEqualTo("h2");
+        assertThat(stringRedisTemplate.opsForHash().keys("refresh_token:h1"))
+                .containsExactlyInAnyOrder("userId", "createdAt", "status", "rotatedAt");
+    }
+
+    @Test
+    void retryWithDifferentNewTokenIsReuse() {
+        redisService.saveRefreshToken(userId, "h1", 7);
+        redisService.rotateRefreshToken("h1", "h2", 7, Duration.ofSeconds(10));
+
+        RefreshTokenRotation replay = redisService.rotateRefreshToken("h1", "h3", 7, Duration.ofSeconds(10));
+
+        assertThat(replay.result()).isEqualTo(RefreshTokenRotationResult.REUSE_DETECTED);
+        assertThat(stringRedisTemplate.hasKey("refresh_token:h3")).isFalse();
+    }
+
+    @Test
+    void replayAfterTheNewTokenWasUsedIsReuse() {
+        redisService.saveRefreshToken(userId, "h1", 7);
+        redisService.rotateRefreshToken("h1", "h2", 7, Duration.ofSeconds(10));
+        redisService.rotateRefreshToken("h2", "h3", 7, Duration.ofSeconds(10));
+
+        RefreshTokenRotation replay = redisService.rotateRefreshToken("h1", "h2", 7, Duration.ofSeconds(10));
+
+        assertThat(replay.result()).isEqualTo(RefreshTokenRotationResult.REUSE_DETECTED);
+        assertThat(replay.userId()).isEqualTo(userId);
+    }
+
+    @Test
+    void replayWithoutGraceWindowIsReuse() {
+        redisService.saveRefreshToken(userId, "h1", 7);
+        redisService.rotateRefreshToken("h1", "h2", 7, Duration.ZERO);
+
+        RefreshTokenRotation replay = redisService.rotateRefreshToken("h1", "h2", 7, Duration.ZERO);
+
+        assertThat(replay.result()).isEqualTo(RefreshTokenRotationResult.REUSE_DETECTED);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<RedisCommandBatcher> noBatcher() {
+        return mock(ObjectProvider.class);
+    }
+}
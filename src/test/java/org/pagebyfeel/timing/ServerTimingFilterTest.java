@@ -0,0 +1,64 @@
+package org.pagebyfeel.timing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerTimingFilterTest {
+
+    private static final String SECRET = "timing-secret";
+
+    private final ServerTimingFilter filter = new ServerTimingFilter("X-Server-Timing", SECRET, 0.0, 0);
+
+    @Test
+    void requestedBreakdownIsAddedBeforeBodyCommits() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+        request.addHeader("X-Server-Timing", SECRET);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            RequestTimings.recordDuration(RequestTiming.Stage.REDIS, 1_500_000);
+            RequestTimings.recordDuration(RequestTiming.Stage.REDIS, 500_000);
+            RequestTimings.recordDuration(RequestTiming.Stage.DB, 3_250_000);
+            RequestTimings.markHandlerStart();
+            res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+        });
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER))
+                .startsWith("redis;dur=2.000;desc=\"2x\", db;dur=3.250;desc=\"1x\", app;dur=")
+                .contains(", total;dur=");
+    }
+
+    @Test
+    void headerIsOmittedAndNothingIsRecordedWhenNotRequested() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/users/me"), response, (req, res) ->
+                assertThat(RequestTimings.start()).isZero()
+        );
+
+        assertThat(response.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+    }
+
+    @Test
+    void requestHeaderWithoutMatchingSecretIsIgnored() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+        request.addHeader("X-Server-Timing", "1");
+        MockHttpServletResponse wrongSecret = new MockHttpServletResponse();
+        filter.doFilter(request, wrongSecret, (req, res) -> res.flushBuffer());
+
+        ServerTimingFilter noSecret = new ServerTimingFilter("X-Server-Timing", "", 0.0, 0);
+        MockHttpServletRequest emptyRequest = new MockHttpServletRequest("GET", "/users/me");
+        emptyRequest.addHeader("X-Server-Timing", "");
+        MockHttpServletResponse disabled = new MockHttpServletResponse();
+        noSecret.doFilter(emptyRequest, disabled, (req, res) -> res.flushBuffer());
+
+        assertThat(wrongSecret.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+        assertThat(disabled.getHeader(ServerTimingFilter.SERVER_TIMING_HEADER)).isNull();
+    }
+}
@@ -0,0 +1,28 @@
+package org.pagebyfeel.util;
+
+import org.junit.jupiter.api.Test;
+import org.pagebyfeel.exception.book.BookErrorCode;
+import org.pagebyfeel.exception.common.BusinessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IsbnUtilsTest {
+
+    @Test
+    void isbn10AndIsbn13OfSameBookNormalizeToSameKey() {
+        assertThat(IsbnUtils.normalize("0-306-40615-2")).isEqualTo("9780306406157");
+        assertThat(IsbnUtils.normalize("978 0 306 40615 7")).isEqualTo("9780306406157");
+        assertThat(IsbnUtils.normalize("080442957x")).isEqualTo("9780804429573");
+    }
+
+    @Test
+    void rejectsBadChecksumAndLength() {
+        assertThatThrownBy(() -> IsbnUtils.normalize("9780306406158"))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(BookErrorCode.INVALID_ISBN);
+        assertThatThrownBy(() -> IsbnUtils.normalize("12345"))
+                .isInstanceOf(BusinessException.class);
+    }
+}